@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.server.lock.LockManager;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.storage.file.lock.FileLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of parsing the lock key of a branch into row locks.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class CollectRowLocksBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int rows;
+
+    @Param({"1", "3"})
+    private int tables;
+
+    private LockManager lockManager;
+
+    private BranchSession branchSession;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        lockManager = new FileLockManager();
+        branchSession = FileLockerBenchmark.newBranchSession(1);
+        StringBuilder lockKey = new StringBuilder();
+        for (int t = 0; t < tables; t++) {
+            if (t > 0) {
+                lockKey.append(';');
+            }
+            lockKey.append("table_").append(t).append(':');
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    lockKey.append(',');
+                }
+                lockKey.append(1000000 + i);
+            }
+        }
+        branchSession.setLockKey(lockKey.toString());
+    }
+
+    @Benchmark
+    public List<RowLock> collectRowLocks() {
+        return lockManager.collectRowLocks(branchSession);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.seata.common.store.LockMode;
+import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.lock.LockerManagerFactory;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHelper;
+import org.apache.seata.server.storage.file.lock.FileLockManager;
+import org.apache.seata.server.storage.file.lock.FileLocker;
+import org.apache.seata.server.storage.file.lock.StripedFileLocker;
+import org.apache.seata.server.storage.file.lock.StripedLockTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of acquiring and releasing the row locks of a branch in the file lock store,
+ * each thread locks its own rows so there is no conflict.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class FileLockerBenchmark {
+
+    private static final AtomicLong PK_SEQUENCE = new AtomicLong();
+
+    private static final StripedLockTable STRIPED_LOCK_TABLE = new StripedLockTable(64);
+
+    @Param({"1", "10", "50"})
+    private int rows;
+
+    @Param({"default", "striped"})
+    private String lockTable;
+
+    private Locker locker;
+
+    private List<RowLock> rowLocks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BranchSession branchSession = newBranchSession(rows);
+        rowLocks = new FileLockManager().collectRowLocks(branchSession);
+        locker = "striped".equals(lockTable) ? new StripedFileLocker(branchSession, STRIPED_LOCK_TABLE)
+            : new FileLocker(branchSession);
+    }
+
+    @Benchmark
+    public boolean acquireAndReleaseLock() {
+        locker.acquireLock(rowLocks);
+        return locker.releaseLock(rowLocks);
+    }
+
+    /**
+     * New branch session with the given rows locked in one table.
+     *
+     * @param rows the rows
+     * @return the branch session
+     */
+    static BranchSession newBranchSession(int rows) {
+        LockerManagerFactory.init(LockMode.FILE);
+        GlobalSession globalSession = new GlobalSession("benchmark", "default_tx_group", "benchmark", 60000);
+        StringBuilder lockKey = new StringBuilder("order_tbl:");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                lockKey.append(',');
+            }
+            lockKey.append(PK_SEQUENCE.incrementAndGet());
+        }
+        return SessionHelper.newBranchByGlobal(globalSession, BranchType.AT, "jdbc:mysql://127.0.0.1:3306/seata",
+            lockKey.toString(), "benchmark:127.0.0.1:8091");
+    }
+}
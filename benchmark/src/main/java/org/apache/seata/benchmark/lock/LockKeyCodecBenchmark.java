@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.lock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.core.lock.LockKeyCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of the binary lock key against the text one it replaces on the wire: the RM encodes and the TC
+ * decodes it, the text is only turned into UTF-8 bytes and back. Weigh the extra CPU against the bytes saved,
+ * printed once per trial.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LockKeyCodecBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int rows;
+
+    private String lockKey;
+
+    private byte[] text;
+
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringBuilder sb = new StringBuilder("t_order_item:");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            // snowflake like ids
+            sb.append(1700000000000000000L + i * 7919L);
+        }
+        lockKey = sb.toString();
+        text = lockKey.getBytes(StandardCharsets.UTF_8);
+        binary = LockKeyCodec.encode(lockKey);
+        System.out.printf("%nrows: %d, text: %d bytes, binary: %d bytes%n", rows, text.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return lockKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String decodeText() {
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return LockKeyCodec.encode(lockKey);
+    }
+
+    @Benchmark
+    public String decodeBinary() {
+        return LockKeyCodec.decode(binary);
+    }
+}
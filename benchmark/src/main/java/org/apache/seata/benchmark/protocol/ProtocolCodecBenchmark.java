@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.seata.core.compressor.CompressorType;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.rpc.netty.v1.ProtocolDecoderV1;
+import org.apache.seata.core.rpc.netty.v1.ProtocolEncoderV1;
+import org.apache.seata.core.serializer.SerializerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of the v1 protocol codec, for each serializer and compressor.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ProtocolCodecBenchmark {
+
+    @Param({"SEATA", "PROTOBUF", "KRYO", "HESSIAN", "FASTJSON2", "FURY"})
+    private String serializer;
+
+    @Param({"NONE", "GZIP", "ZIP", "BZIP2", "LZ4", "DEFLATER", "ZSTD"})
+    private String compressor;
+
+    private ProtocolEncoderV1 encoder;
+
+    private ProtocolDecoderV1 decoder;
+
+    private RpcMessage rpcMessage;
+
+    private ByteBuf encodeBuffer;
+
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        encoder = new ProtocolEncoderV1();
+        decoder = new ProtocolDecoderV1();
+
+        BranchRegisterRequest request = new BranchRegisterRequest();
+        request.setXid("127.0.0.1:8091:2000042948");
+        request.setBranchType(BranchType.AT);
+        request.setResourceId("jdbc:mysql://127.0.0.1:3306/seata");
+        request.setLockKey("order_tbl:1,2,3,4,5;stock_tbl:10,11");
+        request.setApplicationData("{\"autoCommit\":false}");
+
+        rpcMessage = new RpcMessage();
+        rpcMessage.setId(1);
+        rpcMessage.setMessageType(ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        rpcMessage.setCodec(SerializerType.valueOf(serializer).getCode());
+        rpcMessage.setCompressor(CompressorType.valueOf(compressor).getCode());
+        rpcMessage.setBody(request);
+
+        encodeBuffer = Unpooled.buffer(1024);
+        encoded = Unpooled.buffer(1024);
+        encoder.encode(rpcMessage, encoded);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encodeBuffer.release();
+        encoded.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.encode(rpcMessage, encodeBuffer);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public RpcMessage decode() {
+        return decoder.decodeFrame(encoded.duplicate());
+    }
+
+    @Benchmark
+    public RpcMessage roundTrip() {
+        encodeBuffer.clear();
+        encoder.encode(rpcMessage, encodeBuffer);
+        return decoder.decodeFrame(encodeBuffer);
+    }
+}
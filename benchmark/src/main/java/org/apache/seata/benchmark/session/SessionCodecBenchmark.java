@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.session;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of the binary codec used by the file session store.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SessionCodecBenchmark {
+
+    private GlobalSession globalSession;
+
+    private BranchSession branchSession;
+
+    private byte[] globalSessionBytes;
+
+    private byte[] branchSessionBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        globalSession = new GlobalSession("benchmark", "default_tx_group", "benchmark", 60000);
+        branchSession = SessionHelper.newBranchByGlobal(globalSession, BranchType.AT,
+            "jdbc:mysql://127.0.0.1:3306/seata", "{\"actionContext\":{\"key\":\"value\"}}",
+            "order_tbl:1,2,3,4,5;stock_tbl:10,11", "benchmark:127.0.0.1:8091");
+        globalSessionBytes = globalSession.encode();
+        branchSessionBytes = branchSession.encode();
+    }
+
+    @Benchmark
+    public byte[] encodeGlobalSession() {
+        return globalSession.encode();
+    }
+
+    @Benchmark
+    public GlobalSession decodeGlobalSession() {
+        GlobalSession session = new GlobalSession();
+        session.decode(globalSessionBytes);
+        return session;
+    }
+
+    @Benchmark
+    public byte[] encodeBranchSession() {
+        return branchSession.encode();
+    }
+
+    @Benchmark
+    public BranchSession decodeBranchSession() {
+        BranchSession session = new BranchSession();
+        session.decode(branchSessionBytes);
+        return session;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.rm.datasource.sql.SQLVisitorFactory;
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.SQLRecognizerFactory;
+import org.apache.seata.sqlparser.util.JdbcConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of recognizing the sql of the AT mode, for each sql parser and for the cached
+ * {@link SQLVisitorFactory} which uses the parser configured in file.conf.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SQLParserBenchmark {
+
+    @Param({"druid", "antlr"})
+    private String parser;
+
+    @Param({"insert", "update", "delete", "selectForUpdate"})
+    private String sqlType;
+
+    private SQLRecognizerFactory recognizerFactory;
+
+    private String sql;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recognizerFactory = EnhancedServiceLoader.load(SQLRecognizerFactory.class, parser);
+        switch (sqlType) {
+            case "insert":
+                sql = "insert into order_tbl (id, user_id, commodity_code, count, money) values (?, ?, ?, ?, ?)";
+                break;
+            case "update":
+                sql = "update order_tbl set count = count - ?, money = ? where id = ? and user_id = ?";
+                break;
+            case "delete":
+                sql = "delete from order_tbl where id = ? and user_id = ?";
+                break;
+            default:
+                sql = "select id, count, money from order_tbl where id = ? and user_id = ? for update";
+                break;
+        }
+    }
+
+    @Benchmark
+    public List<SQLRecognizer> parse() {
+        return recognizerFactory.create(sql, JdbcConstants.MYSQL);
+    }
+
+    @Benchmark
+    public List<SQLRecognizer> cachedParse() {
+        return SQLVisitorFactory.get(sql, JdbcConstants.MYSQL);
+    }
+}
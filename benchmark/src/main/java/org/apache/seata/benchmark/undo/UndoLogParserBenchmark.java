@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.benchmark.undo;
+
+import java.sql.JDBCType;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.KeyType;
+import org.apache.seata.rm.datasource.sql.struct.Row;
+import org.apache.seata.rm.datasource.sql.struct.TableRecords;
+import org.apache.seata.rm.datasource.undo.BranchUndoLog;
+import org.apache.seata.rm.datasource.undo.SQLUndoLog;
+import org.apache.seata.rm.datasource.undo.UndoLogParser;
+import org.apache.seata.rm.datasource.undo.UndoLogParserFactory;
+import org.apache.seata.sqlparser.SQLType;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of encoding and decoding the branch undo log, for each undo log parser.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class UndoLogParserBenchmark {
+
+    @Param({"fastjson", "fastjson2", "jackson", "kryo", "protostuff", "fury"})
+    private String parser;
+
+    @Param({"1", "20"})
+    private int rows;
+
+    private UndoLogParser undoLogParser;
+
+    private BranchUndoLog branchUndoLog;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        undoLogParser = UndoLogParserFactory.getInstance(parser);
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("order_tbl");
+
+        SQLUndoLog sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setSqlType(SQLType.UPDATE);
+        sqlUndoLog.setTableMeta(tableMeta);
+        sqlUndoLog.setTableName("order_tbl");
+        sqlUndoLog.setBeforeImage(newRecords(tableMeta, "before"));
+        sqlUndoLog.setAfterImage(newRecords(tableMeta, "after"));
+
+        List<SQLUndoLog> sqlUndoLogs = new ArrayList<>();
+        sqlUndoLogs.add(sqlUndoLog);
+        branchUndoLog = new BranchUndoLog();
+        branchUndoLog.setXid("127.0.0.1:8091:2000042948");
+        branchUndoLog.setBranchId(2000042949L);
+        branchUndoLog.setSqlUndoLogs(sqlUndoLogs);
+        encoded = undoLogParser.encode(branchUndoLog);
+    }
+
+    private TableRecords newRecords(TableMeta tableMeta, String name) {
+        TableRecords records = new TableRecords(tableMeta);
+        List<Row> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Row row = new Row();
+            Field id = new Field("id", JDBCType.BIGINT.getVendorTypeNumber(), (long)i);
+            id.setKeyType(KeyType.PRIMARY_KEY);
+            row.add(id);
+            row.add(new Field("name", JDBCType.VARCHAR.getVendorTypeNumber(), name + i));
+            row.add(new Field("count", JDBCType.INTEGER.getVendorTypeNumber(), i));
+            row.add(new Field("gmt_modified", JDBCType.TIMESTAMP.getVendorTypeNumber(),
+                new Timestamp(1700000000000L + i)));
+            rowList.add(row);
+        }
+        records.setRows(rowList);
+        return records;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return undoLogParser.encode(branchUndoLog);
+    }
+
+    @Benchmark
+    public BranchUndoLog decode() {
+        return undoLogParser.decode(encoded);
+    }
+}
@@ -123,6 +123,21 @@ public interface ConfigurationKeys {
      */
     String SERVER_STORE_SESSION_MODE = SEATA_PREFIX + STORE_SESSION_PREFIX + MODE;
 
+    /**
+     * The constant STORE_SESSION_CACHE_MODE.
+     */
+    String STORE_SESSION_CACHE_MODE = STORE_SESSION_PREFIX + "cacheMode";
+
+    /**
+     * The constant STORE_SESSION_CACHE_SIZE.
+     */
+    String STORE_SESSION_CACHE_SIZE = STORE_SESSION_PREFIX + "cacheSize";
+
+    /**
+     * The constant STORE_SESSION_CACHE_EXPIRE_PERIOD.
+     */
+    String STORE_SESSION_CACHE_EXPIRE_PERIOD = STORE_SESSION_PREFIX + "cacheExpirePeriod";
+
     /**
      * The constant STORE_PUBLIC_KEY.
      */
@@ -138,6 +153,11 @@ public interface ConfigurationKeys {
      */
     String STORE_FILE_DIR = STORE_FILE_PREFIX + "dir";
 
+    /**
+     * The constant STORE_FILE_LOCK_TABLE_STRIPES
+     */
+    String STORE_FILE_LOCK_TABLE_STRIPES = STORE_FILE_PREFIX + "lockTableStripes";
+
     /**
      * The constant SERVICE_GROUP_MAPPING_PREFIX.
      */
@@ -223,6 +243,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_SAGA_COMPENSATE_PERSIST_MODE_UPDATE = CLIENT_RM_PREFIX + "sagaCompensatePersistModeUpdate";
 
+    /**
+     * The constant CLIENT_SAGA_STATE_LOG_WRITE_BEHIND.
+     */
+    String CLIENT_SAGA_STATE_LOG_WRITE_BEHIND = CLIENT_RM_PREFIX + "sagaStateLogWriteBehind";
+
     /**
      * The constant CLIENT_REPORT_RETRY_COUNT.
      */
@@ -238,6 +263,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_TABLE_META_CHECKER_INTERVAL = CLIENT_RM_PREFIX + "tableMetaCheckerInterval";
 
+    /**
+     * The constant CLIENT_TABLE_META_SNAPSHOT_DIR.
+     */
+    String CLIENT_TABLE_META_SNAPSHOT_DIR = CLIENT_RM_PREFIX + "tableMetaSnapshotDir";
+
     /**
      * The constant TCC_ACTION_INTERCEPTOR_ORDER.
      */
@@ -349,6 +379,11 @@ public interface ConfigurationKeys {
      */
     String STORE_DB_LOG_QUERY_LIMIT = STORE_DB_PREFIX + "queryLimit";
 
+    /**
+     * The constant STORE_DB_WRITE_BATCH_SIZE.
+     */
+    String STORE_DB_WRITE_BATCH_SIZE = STORE_DB_PREFIX + "writeBatchSize";
+
     /**
      * The constant LOCK_DB_TABLE.
      */
@@ -399,6 +434,21 @@ public interface ConfigurationKeys {
      */
     String TIMEOUT_RETRY_PERIOD = RECOVERY_PREFIX + "timeoutRetryPeriod";
 
+    /**
+     * The constant PHASE_TWO_LANES, 0 disables the phase two lanes.
+     */
+    String PHASE_TWO_LANES = RECOVERY_PREFIX + "phaseTwoLanes";
+
+    /**
+     * The constant PHASE_TWO_LANE_QUEUE_SIZE.
+     */
+    String PHASE_TWO_LANE_QUEUE_SIZE = RECOVERY_PREFIX + "phaseTwoLaneQueueSize";
+
+    /**
+     * The constant PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE.
+     */
+    String PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE = RECOVERY_PREFIX + "phaseTwoMaxInFlightPerResource";
+
     /**
      * The constant CLIENT_UNDO_PREFIX.
      */
@@ -419,6 +469,16 @@ public interface ConfigurationKeys {
      */
     String TRANSACTION_UNDO_ONLY_CARE_UPDATE_COLUMNS = CLIENT_UNDO_PREFIX + "onlyCareUpdateColumns";
 
+    /**
+     * The constant TRANSACTION_UNDO_DERIVE_AFTER_IMAGE.
+     */
+    String TRANSACTION_UNDO_DERIVE_AFTER_IMAGE = CLIENT_UNDO_PREFIX + "deriveAfterImage";
+
+    /**
+     * The constant TRANSACTION_UNDO_BATCH_SIZE.
+     */
+    String TRANSACTION_UNDO_BATCH_SIZE = CLIENT_UNDO_PREFIX + "batchSize";
+
     /**
      * the constant CLIENT_UNDO_COMPRESS_PREFIX
      */
@@ -661,6 +721,16 @@ public interface ConfigurationKeys {
      */
     String ENABLE_TC_SERVER_BATCH_SEND_RESPONSE = TRANSPORT_PREFIX + "enableTcServerBatchSendResponse";
 
+    /**
+     * The constant ENABLE_TC_SERVER_BATCH_SEND_REQUEST
+     */
+    String ENABLE_TC_SERVER_BATCH_SEND_REQUEST = TRANSPORT_PREFIX + "enableTcServerBatchSendRequest";
+
+    /**
+     * The constant CLIENT_CHANNELS_PER_SERVER
+     */
+    String CLIENT_CHANNELS_PER_SERVER = TRANSPORT_PREFIX + "clientChannelsPerServer";
+
     /**
      * The constant DISABLE_GLOBAL_TRANSACTION.
      */
@@ -671,6 +741,11 @@ public interface ConfigurationKeys {
      */
     String SQL_PARSER_TYPE = CLIENT_RM_PREFIX + "sqlParserType";
 
+    /**
+     * The constant SQL_PARSER_CACHE_SIZE.
+     */
+    String SQL_PARSER_CACHE_SIZE = CLIENT_RM_PREFIX + "sqlParserCacheSize";
+
     /**
      * The constant STORE_REDIS_MODE.
      */
@@ -1040,6 +1115,11 @@ public interface ConfigurationKeys {
      */
     String XAER_NOTA_RETRY_TIMEOUT = SERVER_PREFIX + "xaerNotaRetryTimeout";
 
+    /**
+     * The constant SERVER_LOCK_WAIT_TIMEOUT
+     */
+    String SERVER_LOCK_WAIT_TIMEOUT = SERVER_PREFIX + "lockWaitTimeout";
+
     /**
      * The constant XA_BRANCH_EXECUTION_TIMEOUT
      */
@@ -1061,6 +1141,11 @@ public interface ConfigurationKeys {
      */
     String ENABLE_PARALLEL_HANDLE_BRANCH_KEY = SERVER_PREFIX + "enableParallelHandleBranch";
 
+    /**
+     * The constant ENABLE_ASYNC_HANDLE_BRANCH_KEY
+     */
+    String ENABLE_ASYNC_HANDLE_BRANCH_KEY = SERVER_PREFIX + "enableAsyncHandleBranch";
+
     /**
      * The constant RM_APPLICATION_DATA_SIZE_ERROR
      */
@@ -1071,6 +1156,11 @@ public interface ConfigurationKeys {
      */
     String RM_APPLICATION_DATA_SIZE_CHECK = CLIENT_RM_PREFIX + "applicationDataLimitCheck";
 
+    /**
+     * The constant RM_LOCK_KEY_BINARY_ENABLE
+     */
+    String RM_LOCK_KEY_BINARY_ENABLE = CLIENT_RM_PREFIX + "lockKeyBinaryEnable";
+
     /**
      * The constant SERVER_APPLICATION_DATA_SIZE_ERROR
      */
@@ -66,6 +66,10 @@ public interface DefaultValues {
      * The constant DEFAULT_TABLE_META_CHECKER_INTERVAL.
      */
     long DEFAULT_TABLE_META_CHECKER_INTERVAL = 60000L;
+    /**
+     * The constant DEFAULT_SQL_PARSER_CACHE_SIZE, in KB of sql text, 0 disables the cache.
+     */
+    long DEFAULT_SQL_PARSER_CACHE_SIZE = 4096L;
     /**
      * The constant DEFAULT_TM_DEGRADE_CHECK.
      */
@@ -87,6 +91,10 @@ public interface DefaultValues {
      * The constant DEFAULT_CLIENT_SAGA_COMPENSATE_PERSIST_MODE_UPDATE.
      */
     boolean DEFAULT_CLIENT_SAGA_COMPENSATE_PERSIST_MODE_UPDATE = false;
+    /**
+     * The constant DEFAULT_CLIENT_SAGA_STATE_LOG_WRITE_BEHIND.
+     */
+    boolean DEFAULT_CLIENT_SAGA_STATE_LOG_WRITE_BEHIND = false;
     /**
      * The constant DEFAULT_RAFT_SERIALIZATION.
      */
@@ -134,6 +142,14 @@ public interface DefaultValues {
      * The constant DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE.
      */
     boolean DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE = false;
+    /**
+     * The constant DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_REQUEST.
+     */
+    boolean DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_REQUEST = false;
+    /**
+     * The constant DEFAULT_CLIENT_CHANNELS_PER_SERVER.
+     */
+    int DEFAULT_CLIENT_CHANNELS_PER_SERVER = 1;
 
     /**
      * The constant DEFAULT_CLIENT_CHANNEL_CHECK_FAIL_FAST.
@@ -173,6 +189,14 @@ public interface DefaultValues {
      * The constant DEFAULT_ONLY_CARE_UPDATE_COLUMNS.
      */
     boolean DEFAULT_ONLY_CARE_UPDATE_COLUMNS = true;
+    /**
+     * The constant DEFAULT_DERIVE_AFTER_IMAGE.
+     */
+    boolean DEFAULT_DERIVE_AFTER_IMAGE = false;
+    /**
+     * The constant DEFAULT_TRANSACTION_UNDO_BATCH_SIZE.
+     */
+    int DEFAULT_TRANSACTION_UNDO_BATCH_SIZE = 1000;
     /**
      * The constant  DEFAULT_TRANSACTION_UNDO_LOG_TABLE.
      */
@@ -363,11 +387,21 @@ public interface DefaultValues {
      */
     int DEFAULT_APPLICATION_DATA_SIZE_LIMIT = 64000;
 
+    /**
+     * the constant DEFAULT_RM_LOCK_KEY_BINARY_ENABLE
+     */
+    boolean DEFAULT_RM_LOCK_KEY_BINARY_ENABLE = false;
+
     /**
      * the constant DEFAULT_XAER_NOTA_RETRY_TIMEOUT
      */
     int DEFAULT_XAER_NOTA_RETRY_TIMEOUT = 60000;
 
+    /**
+     * the constant DEFAULT_ENABLE_ASYNC_HANDLE_BRANCH
+     */
+    boolean DEFAULT_ENABLE_ASYNC_HANDLE_BRANCH = false;
+
     /**
      * the constant DEFAULT_XA_BRANCH_EXECUTION_TIMEOUT
      */
@@ -402,6 +436,21 @@ public interface DefaultValues {
      */
     int DEFAULT_TIMEOUT_RETRY_PERIOD = 1000;
 
+    /**
+     * the constant DEFAULT_PHASE_TWO_LANES, the phase two lanes are disabled by default
+     */
+    int DEFAULT_PHASE_TWO_LANES = 0;
+
+    /**
+     * the constant DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE
+     */
+    int DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE = 10000;
+
+    /**
+     * the constant DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE
+     */
+    int DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE = 16;
+
     /**
      * the constant DEFAULT_UNDO_LOG_DELETE_PERIOD
      */
@@ -412,6 +461,11 @@ public interface DefaultValues {
      */
     int DEFAULT_SERVICE_SESSION_RELOAD_READ_SIZE = 100;
 
+    /**
+     * the constant DEFAULT_STORE_FILE_LOCK_TABLE_STRIPES, the striped lock table is disabled by default
+     */
+    int DEFAULT_STORE_FILE_LOCK_TABLE_STRIPES = 0;
+
     /**
      * the constant DEFAULT_PROMETHEUS_PORT
      */
@@ -442,6 +496,11 @@ public interface DefaultValues {
      */
     long DEFAULT_MAX_ROLLBACK_RETRY_TIMEOUT = -1L;
 
+    /**
+     * the const DEFAULT_SERVER_LOCK_WAIT_TIMEOUT, the server side lock waiting is disabled by default
+     */
+    long DEFAULT_SERVER_LOCK_WAIT_TIMEOUT = 0L;
+
     /**
      * The constant DEFAULT_ROLLBACK_FAILED_UNLOCK_ENABLE.
      */
@@ -487,6 +546,26 @@ public interface DefaultValues {
      */
     int DEFAULT_QUERY_LIMIT = 1000;
 
+    /**
+     * The constant DEFAULT_STORE_DB_WRITE_BATCH_SIZE.
+     */
+    int DEFAULT_STORE_DB_WRITE_BATCH_SIZE = 0;
+
+    /**
+     * The constant DEFAULT_STORE_SESSION_CACHE_MODE.
+     */
+    String DEFAULT_STORE_SESSION_CACHE_MODE = "none";
+
+    /**
+     * The constant DEFAULT_STORE_SESSION_CACHE_SIZE.
+     */
+    int DEFAULT_STORE_SESSION_CACHE_SIZE = 10000;
+
+    /**
+     * The constant DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD.
+     */
+    long DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD = 3000L;
+
     /**
      * Default druid location in classpath
      */
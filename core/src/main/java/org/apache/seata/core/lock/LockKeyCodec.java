@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.lock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary form of the lock key text "table1:pk1,pk2;table2:pk3".
+ * <p>
+ * Layout: magic byte, version byte, table dictionary (varint count, then varint-length UTF-8 names), then
+ * the table groups in their original order. A group is a varint dictionary index, a varint row count and a
+ * varint pk column count followed by one type byte per column, then the row values. A column whose values
+ * are all canonical decimal integers is typed long and written as zigzag varints, any other column is
+ * written as varint-length UTF-8 strings. A group whose rows disagree on the column count has column count 0
+ * and every row carries its own column count and type bytes.
+ * <p>
+ * Decoding restores the text byte for byte, so the TC stores and compares the same lock keys whichever form
+ * the RM sent.
+ * <p>
+ * This is a wire format only. The TC decodes it once when the branch registers, because branch sessions are
+ * persisted with the text lock key and the lockers of every store key their rows by the pk text, so the
+ * row locks are still built from the text.
+ * <p>
+ * It trades CPU for bytes: for snowflake ids it saves about 11 of 20 bytes a row, and encoding and decoding
+ * cost about 170ns a row more than the UTF-8 text (see LockKeyCodecBenchmark), so it only pays off where the
+ * bandwidth between RM and TC is scarce, such as across regions. That is why it is off by default.
+ */
+public final class LockKeyCodec {
+
+    /**
+     * The leading byte of a binary lock key, 0xFF never starts a UTF-8 encoded text lock key.
+     */
+    public static final byte MAGIC = (byte)0xFF;
+
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 0;
+
+    private static final byte TYPE_LONG = 1;
+
+    private static final char TABLE_SPLIT = ';';
+
+    private static final char TABLE_PK_SPLIT = ':';
+
+    private static final char PK_SPLIT = ',';
+
+    private static final char COLUMN_SPLIT = '_';
+
+    private LockKeyCodec() {
+    }
+
+    /**
+     * Whether the bytes are a binary lock key.
+     *
+     * @param bytes the bytes
+     * @return true if the bytes start with the magic byte
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 1 && bytes[0] == MAGIC;
+    }
+
+    /**
+     * Encode the lock key text.
+     *
+     * @param lockKey the lock key text
+     * @return the binary lock key, or null if the text is empty or can not be encoded losslessly
+     */
+    public static byte[] encode(String lockKey) {
+        if (lockKey == null || lockKey.isEmpty()) {
+            return null;
+        }
+        Map<String, Integer> tableIndex = new HashMap<>();
+        Output tables = new Output();
+        Output groups = new Output(lockKey.length() / 2);
+        int groupCount = 0;
+        int start = 0;
+        int length = lockKey.length();
+        while (start <= length) {
+            int end = indexOf(lockKey, TABLE_SPLIT, start, length);
+            int idx = indexOf(lockKey, TABLE_PK_SPLIT, start, end);
+            if (idx == end) {
+                // not a "table:pks" group, keep the text form
+                return null;
+            }
+            String tableName = lockKey.substring(start, idx);
+            Integer index = tableIndex.get(tableName);
+            if (index == null) {
+                index = tableIndex.size();
+                tableIndex.put(tableName, index);
+                writeString(tables, tableName);
+            }
+            writeVarint(groups, index);
+            writeVarint(groups, count(lockKey, PK_SPLIT, idx + 1, end) + 1);
+            writeGroup(groups, lockKey, idx + 1, end);
+            groupCount++;
+            start = end + 1;
+        }
+        Output out = new Output(tables.size() + groups.size() + 12);
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, tableIndex.size());
+        writeBytes(out, tables.toByteArray());
+        writeVarint(out, groupCount);
+        writeBytes(out, groups.toByteArray());
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode the binary lock key back to its text form.
+     *
+     * @param bytes the binary lock key
+     * @return the lock key text
+     */
+    public static String decode(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("not a binary lock key");
+        }
+        if (bytes[1] != VERSION) {
+            throw new IllegalArgumentException("unsupported binary lock key version: " + bytes[1]);
+        }
+        int[] pos = {2};
+        String[] tables = new String[readVarint(bytes, pos)];
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = readString(bytes, pos);
+        }
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        int groupCount = readVarint(bytes, pos);
+        for (int g = 0; g < groupCount; g++) {
+            if (g > 0) {
+                sb.append(TABLE_SPLIT);
+            }
+            sb.append(tables[readVarint(bytes, pos)]).append(TABLE_PK_SPLIT);
+            int rowCount = readVarint(bytes, pos);
+            byte[] types = readTypes(bytes, pos);
+            for (int r = 0; r < rowCount; r++) {
+                if (r > 0) {
+                    sb.append(PK_SPLIT);
+                }
+                byte[] rowTypes = types.length > 0 ? types : readTypes(bytes, pos);
+                for (int c = 0; c < rowTypes.length; c++) {
+                    if (c > 0) {
+                        sb.append(COLUMN_SPLIT);
+                    }
+                    if (rowTypes[c] == TYPE_LONG) {
+                        long zigzag = readVarlong(bytes, pos);
+                        sb.append((zigzag >>> 1) ^ -(zigzag & 1));
+                    } else {
+                        sb.append(readString(bytes, pos));
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void writeGroup(Output out, String lockKey, int from, int end) {
+        // first pass: a shared column count and the columns that only hold integers
+        byte[] types = null;
+        int rowStart = from;
+        while (rowStart <= end && (types == null || types.length > 0)) {
+            int rowEnd = indexOf(lockKey, PK_SPLIT, rowStart, end);
+            byte[] rowTypes = columnTypes(lockKey, rowStart, rowEnd);
+            if (types == null) {
+                types = rowTypes;
+            } else if (types.length != rowTypes.length) {
+                types = new byte[0];
+            } else {
+                for (int c = 0; c < types.length; c++) {
+                    types[c] = (byte)Math.min(types[c], rowTypes[c]);
+                }
+            }
+            rowStart = rowEnd + 1;
+        }
+        writeTypes(out, types);
+        rowStart = from;
+        while (rowStart <= end) {
+            int rowEnd = indexOf(lockKey, PK_SPLIT, rowStart, end);
+            byte[] rowTypes = types;
+            if (rowTypes.length == 0) {
+                rowTypes = columnTypes(lockKey, rowStart, rowEnd);
+                writeTypes(out, rowTypes);
+            }
+            int columnStart = rowStart;
+            for (byte type : rowTypes) {
+                int columnEnd = indexOf(lockKey, COLUMN_SPLIT, columnStart, rowEnd);
+                if (type == TYPE_LONG) {
+                    long v = parseLong(lockKey, columnStart, columnEnd);
+                    writeVarlong(out, (v << 1) ^ (v >> 63));
+                } else {
+                    writeString(out, lockKey.substring(columnStart, columnEnd));
+                }
+                columnStart = columnEnd + 1;
+            }
+            rowStart = rowEnd + 1;
+        }
+    }
+
+    private static byte[] columnTypes(String lockKey, int from, int end) {
+        byte[] types = new byte[count(lockKey, COLUMN_SPLIT, from, end) + 1];
+        int columnStart = from;
+        for (int c = 0; c < types.length; c++) {
+            int columnEnd = indexOf(lockKey, COLUMN_SPLIT, columnStart, end);
+            types[c] = isCanonicalLong(lockKey, columnStart, columnEnd) ? TYPE_LONG : TYPE_STRING;
+            columnStart = columnEnd + 1;
+        }
+        return types;
+    }
+
+    private static void writeTypes(Output out, byte[] types) {
+        writeVarint(out, types.length);
+        writeBytes(out, types);
+    }
+
+    private static byte[] readTypes(byte[] bytes, int[] pos) {
+        int count = readVarint(bytes, pos);
+        byte[] types = Arrays.copyOfRange(bytes, pos[0], pos[0] + count);
+        pos[0] += count;
+        return types;
+    }
+
+    /**
+     * Scan only up to end, String.indexOf would run to the end of the whole lock key for every column.
+     */
+    private static int indexOf(String text, char ch, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == ch) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int count(String text, char ch, int from, int end) {
+        int count = 0;
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == ch) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Only the integers that Long.toString prints the same way, so the text survives the round trip.
+     */
+    private static boolean isCanonicalLong(String text, int from, int end) {
+        int first = from < end && text.charAt(from) == '-' ? from + 1 : from;
+        int digits = end - first;
+        if (digits == 0 || digits > 19) {
+            return false;
+        }
+        if (text.charAt(first) == '0' && (digits > 1 || first > from)) {
+            return false;
+        }
+        for (int i = first; i < end; i++) {
+            char ch = text.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        if (digits < 19) {
+            return true;
+        }
+        String limit = first > from ? "9223372036854775808" : "9223372036854775807";
+        for (int i = 0; i < digits; i++) {
+            char ch = text.charAt(first + i);
+            if (ch != limit.charAt(i)) {
+                return ch < limit.charAt(i);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse a canonical long without a substring, accumulated negatively so that Long.MIN_VALUE fits.
+     */
+    private static long parseLong(String text, int from, int end) {
+        boolean negative = text.charAt(from) == '-';
+        long value = 0;
+        for (int i = negative ? from + 1 : from; i < end; i++) {
+            value = value * 10 - (text.charAt(i) - '0');
+        }
+        return negative ? value : -value;
+    }
+
+    private static void writeString(Output out, String value) {
+        byte[] bs = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bs.length);
+        writeBytes(out, bs);
+    }
+
+    private static String readString(byte[] bytes, int[] pos) {
+        int length = readVarint(bytes, pos);
+        String value = new String(bytes, pos[0], length, StandardCharsets.UTF_8);
+        pos[0] += length;
+        return value;
+    }
+
+    private static void writeBytes(Output out, byte[] bs) {
+        out.write(bs, 0, bs.length);
+    }
+
+    /**
+     * An unsynchronized growable byte array, ByteArrayOutputStream locks on every byte written.
+     */
+    private static final class Output {
+
+        private byte[] buf;
+
+        private int size;
+
+        private Output() {
+            this(32);
+        }
+
+        private Output(int capacity) {
+            buf = new byte[Math.max(capacity, 16)];
+        }
+
+        private void write(int b) {
+            ensureCapacity(size + 1);
+            buf[size++] = (byte)b;
+        }
+
+        private void write(byte[] bs, int off, int len) {
+            ensureCapacity(size + len);
+            System.arraycopy(bs, off, buf, size, len);
+            size += len;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, capacity));
+            }
+        }
+    }
+
+    private static void writeVarint(Output out, int value) {
+        writeVarlong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarlong(Output out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int)value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] pos) {
+        return (int)readVarlong(bytes, pos);
+    }
+
+    private static long readVarlong(byte[] bytes, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[pos[0]++];
+            value |= (long)(b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.core.model;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.exception.TransactionException;
 
 /**
@@ -80,4 +82,94 @@ public interface TransactionManager {
      * out.
      */
     GlobalStatus globalReport(String xid, GlobalStatus globalStatus) throws TransactionException;
+
+    /**
+     * Begin a new global transaction without blocking the caller.
+     *
+     * @param applicationId           ID of the application who begins this transaction.
+     * @param transactionServiceGroup ID of the transaction service group.
+     * @param name                    Give a name to the global transaction.
+     * @param timeout                 Timeout of the global transaction.
+     * @return the future of the XID, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<String> beginAsync(String applicationId, String transactionServiceGroup, String name,
+                                                 int timeout) {
+        return completedCall(() -> begin(applicationId, transactionServiceGroup, name, timeout));
+    }
+
+    /**
+     * Global commit without blocking the caller.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the status after committing, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> commitAsync(String xid) {
+        return completedCall(() -> commit(xid));
+    }
+
+    /**
+     * Global rollback without blocking the caller.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the status after rollbacking, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> rollbackAsync(String xid) {
+        return completedCall(() -> rollback(xid));
+    }
+
+    /**
+     * Get current status of the give transaction without blocking the caller.
+     *
+     * @param xid XID of the global transaction.
+     * @return the future of the current status, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> getStatusAsync(String xid) {
+        return completedCall(() -> getStatus(xid));
+    }
+
+    /**
+     * Global report without blocking the caller.
+     *
+     * @param xid XID of the global transaction.
+     * @param globalStatus Status of the global transaction.
+     * @return the future of the status, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> globalReportAsync(String xid, GlobalStatus globalStatus) {
+        return completedCall(() -> globalReport(xid, globalStatus));
+    }
+
+    /**
+     * Run a call of this transaction manager in the caller thread and expose its result as a future,
+     * for the implementations that have no non-blocking transport.
+     *
+     * @param call the call
+     * @param <T>  the type of the result
+     * @return the completed future
+     */
+    static <T> CompletableFuture<T> completedCall(TransactionCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(call.call());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    /**
+     * A call of the transaction manager.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    interface TransactionCall<T> {
+
+        /**
+         * Do the call.
+         *
+         * @return the result
+         * @throws TransactionException the transaction exception
+         */
+        T call() throws TransactionException;
+    }
 }
@@ -74,6 +74,26 @@ public class MessageFuture {
         return result;
     }
 
+    /**
+     * Get the result as a completable future, completed exceptionally on timeout or send failure.
+     *
+     * @return the completable future
+     */
+    public CompletableFuture<Object> toCompletableFuture() {
+        return origin.thenCompose(result -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            if (result instanceof TimeoutException) {
+                future.completeExceptionally(new TimeoutException(String.format("%s ,cost: %d ms",
+                    ((TimeoutException)result).getMessage(), System.currentTimeMillis() - start)));
+            } else if (result instanceof Throwable) {
+                future.completeExceptionally((Throwable)result);
+            } else {
+                future.complete(result);
+            }
+            return future;
+        });
+    }
+
     /**
      * Sets result message.
      *
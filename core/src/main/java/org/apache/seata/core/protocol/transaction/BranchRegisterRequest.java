@@ -16,6 +16,7 @@
  */
 package org.apache.seata.core.protocol.transaction;
 
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.protocol.MessageType;
 import org.apache.seata.core.rpc.RpcContext;
@@ -34,6 +35,8 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
 
     private String lockKey;
 
+    private byte[] binaryLockKey;
+
     private String applicationData;
 
     /**
@@ -73,11 +76,14 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
     }
 
     /**
-     * Gets lock key.
+     * Gets lock key, the binary lock key is decoded to the text form on first access.
      *
      * @return the lock key
      */
     public String getLockKey() {
+        if (lockKey == null && binaryLockKey != null) {
+            lockKey = LockKeyCodec.decode(binaryLockKey);
+        }
         return lockKey;
     }
 
@@ -90,6 +96,25 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
         this.lockKey = lockKey;
     }
 
+    /**
+     * Gets binary lock key, it only shrinks the request on the wire, the TC works on the decoded text.
+     *
+     * @return the binary lock key, null if the lock key is sent as text
+     * @see LockKeyCodec
+     */
+    public byte[] getBinaryLockKey() {
+        return binaryLockKey;
+    }
+
+    /**
+     * Sets binary lock key.
+     *
+     * @param binaryLockKey the binary lock key
+     */
+    public void setBinaryLockKey(byte[] binaryLockKey) {
+        this.binaryLockKey = binaryLockKey;
+    }
+
     /**
      * Gets resource id.
      *
@@ -143,7 +168,11 @@ public class BranchRegisterRequest extends AbstractTransactionRequestToTC  {
         sb.append("xid='").append(xid).append('\'');
         sb.append(", branchType=").append(branchType);
         sb.append(", resourceId='").append(resourceId).append('\'');
-        sb.append(", lockKey='").append(lockKey).append('\'');
+        if (lockKey == null && binaryLockKey != null) {
+            sb.append(", binaryLockKey=").append(binaryLockKey.length).append(" bytes");
+        } else {
+            sb.append(", lockKey='").append(lockKey).append('\'');
+        }
         sb.append(", applicationData='").append(applicationData).append('\'');
         sb.append('}');
         return sb.toString();
@@ -21,6 +21,7 @@ import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.rpc.processor.RemotingProcessor;
 import org.apache.seata.core.protocol.MessageType;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 
@@ -43,6 +44,29 @@ public interface RemotingServer {
      */
     Object sendSyncRequest(String resourceId, String clientId, Object msg, boolean tryOtherApp) throws TimeoutException;
 
+    /**
+     * server send sync request without waiting for the response.
+     * <p>
+     * The default implementation falls back to {@link #sendSyncRequest(String, String, Object, boolean)}.
+     * </p>
+     *
+     * @param resourceId rm client resourceId
+     * @param clientId   rm client id
+     * @param msg        transaction message {@code org.apache.seata.core.protocol}
+     * @param tryOtherApp try other app
+     * @return the future of the client result message
+     */
+    default CompletableFuture<Object> sendSyncRequestAsync(String resourceId, String clientId, Object msg,
+                                                           boolean tryOtherApp) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            future.complete(sendSyncRequest(resourceId, clientId, msg, tryOtherApp));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
     /**
      * server send sync request.
      *
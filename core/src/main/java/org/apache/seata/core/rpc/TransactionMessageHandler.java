@@ -16,6 +16,8 @@
  */
 package org.apache.seata.core.rpc;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.protocol.AbstractResultMessage;
 
@@ -34,6 +36,17 @@ public interface TransactionMessageHandler {
      */
     AbstractResultMessage onRequest(AbstractMessage request, RpcContext context);
 
+    /**
+     * On a request received, the response may be completed later without holding the calling thread.
+     *
+     * @param request received request message
+     * @param context context of the RPC
+     * @return the future of the response to the request
+     */
+    default CompletableFuture<AbstractResultMessage> onRequestAsync(AbstractMessage request, RpcContext context) {
+        return CompletableFuture.completedFuture(onRequest(request, context));
+    }
+
     /**
      * On a response received.
      *
@@ -22,6 +22,7 @@ import java.net.SocketAddress;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -209,6 +210,65 @@ public abstract class AbstractNettyRemoting implements Disposable {
         }
     }
 
+    /**
+     * rpc request without waiting for the response.
+     * The returned future is completed by the response, or exceptionally when the send fails or the request times
+     * out, so no thread is parked on the remote side.
+     *
+     * @param channel       netty channel
+     * @param rpcMessage    rpc message
+     * @param timeoutMillis rpc communication timeout
+     * @return the future of the response message
+     */
+    protected CompletableFuture<Object> sendSyncAsync(Channel channel, RpcMessage rpcMessage, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new FrameworkException("timeout should more than 0ms");
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        if (channel == null) {
+            LOGGER.warn("sendSyncAsync nothing, caused by null channel.");
+            result.complete(null);
+            return result;
+        }
+
+        MessageFuture messageFuture = new MessageFuture();
+        messageFuture.setRequestMessage(rpcMessage);
+        messageFuture.setTimeout(timeoutMillis);
+        futures.put(rpcMessage.getId(), messageFuture);
+
+        String remoteAddr = ChannelUtil.getAddressFromChannel(channel);
+        messageFuture.toCompletableFuture().whenComplete((response, cause) -> {
+            if (cause != null) {
+                LOGGER.error("wait response error:{},ip:{},request:{}", cause.getMessage(), channel.remoteAddress(),
+                    rpcMessage.getBody());
+                result.completeExceptionally(cause);
+            } else {
+                doAfterRpcHooks(remoteAddr, rpcMessage, response);
+                result.complete(response);
+            }
+        });
+
+        try {
+            channelWritableCheck(channel, rpcMessage.getBody());
+        } catch (RuntimeException e) {
+            futures.remove(rpcMessage.getId());
+            messageFuture.setResultMessage(e);
+            return result;
+        }
+        doBeforeRpcHooks(remoteAddr, rpcMessage);
+
+        channel.writeAndFlush(rpcMessage).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                MessageFuture messageFuture1 = futures.remove(rpcMessage.getId());
+                if (messageFuture1 != null) {
+                    messageFuture1.setResultMessage(future.cause());
+                }
+                destroyChannel(future.channel());
+            }
+        });
+        return result;
+    }
+
     /**
      * rpc async request.
      *
@@ -20,6 +20,7 @@ import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -144,29 +145,10 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
         // send batch message
         // put message into basketMap, @see MergedSendRunnable
         if (this.isEnableClientBatchSendRequest()) {
-
-            // send batch message is sync request, needs to create messageFuture and put it in futures.
-            MessageFuture messageFuture = new MessageFuture();
-            messageFuture.setRequestMessage(rpcMessage);
-            messageFuture.setTimeout(timeoutMillis);
-            futures.put(rpcMessage.getId(), messageFuture);
-
-            // put message into basketMap
-            BlockingQueue<RpcMessage> basket = CollectionUtils.computeIfAbsent(basketMap, serverAddress,
-                key -> new LinkedBlockingQueue<>());
-            if (!basket.offer(rpcMessage)) {
-                LOGGER.error("put message into basketMap offer failed, serverAddress:{},rpcMessage:{}",
-                    serverAddress, rpcMessage);
+            MessageFuture messageFuture = offerMergeMessage(serverAddress, rpcMessage, timeoutMillis);
+            if (messageFuture == null) {
                 return null;
             }
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("offer message: {}", rpcMessage.getBody());
-            }
-            if (!isSending) {
-                synchronized (mergeLock) {
-                    mergeLock.notifyAll();
-                }
-            }
 
             try {
                 Object response = messageFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
@@ -180,12 +162,64 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                 }
             }
         } else {
-            Channel channel = clientChannelManager.acquireChannel(serverAddress);
+            Channel channel = acquireChannel(serverAddress, msg);
             return super.sendSync(channel, rpcMessage, timeoutMillis);
         }
 
     }
 
+    @Override
+    public CompletableFuture<Object> sendSyncRequestAsync(Object msg) {
+        String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
+        long timeoutMillis = this.getRpcRequestTimeout();
+        RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+
+        if (this.isEnableClientBatchSendRequest()) {
+            MessageFuture messageFuture = offerMergeMessage(serverAddress, rpcMessage, timeoutMillis);
+            if (messageFuture == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return messageFuture.toCompletableFuture();
+        }
+        Channel channel = acquireChannel(serverAddress, msg);
+        return super.sendSyncAsync(channel, rpcMessage, timeoutMillis);
+    }
+
+    /**
+     * Put the message into the basket of the server, @see MergedSendRunnable
+     *
+     * @param serverAddress the server address
+     * @param rpcMessage    the rpc message
+     * @param timeoutMillis the timeout
+     * @return the future of the response, null if the basket refused the message
+     */
+    private MessageFuture offerMergeMessage(String serverAddress, RpcMessage rpcMessage, long timeoutMillis) {
+        // send batch message is sync request, needs to create messageFuture and put it in futures.
+        MessageFuture messageFuture = new MessageFuture();
+        messageFuture.setRequestMessage(rpcMessage);
+        messageFuture.setTimeout(timeoutMillis);
+        futures.put(rpcMessage.getId(), messageFuture);
+
+        // put message into basketMap
+        BlockingQueue<RpcMessage> basket = CollectionUtils.computeIfAbsent(basketMap, serverAddress,
+            key -> new LinkedBlockingQueue<>());
+        if (!basket.offer(rpcMessage)) {
+            LOGGER.error("put message into basketMap offer failed, serverAddress:{},rpcMessage:{}",
+                serverAddress, rpcMessage);
+            futures.remove(rpcMessage.getId());
+            return null;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("offer message: {}", rpcMessage.getBody());
+        }
+        if (!isSending) {
+            synchronized (mergeLock) {
+                mergeLock.notifyAll();
+            }
+        }
+        return messageFuture;
+    }
+
     @Override
     public Object sendSyncRequest(Channel channel, Object msg) throws TimeoutException {
         if (channel == null) {
@@ -304,6 +338,17 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
         return StringUtils.isBlank(xid) ? String.valueOf(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE)) : xid;
     }
 
+    /**
+     * Acquire the channel to the server for the message, the messages of one xid share a channel.
+     */
+    private Channel acquireChannel(String serverAddress, Object msg) {
+        if (clientChannelManager.getChannelsPerServer() <= 1) {
+            return clientChannelManager.acquireChannel(serverAddress);
+        }
+        String xid = msg instanceof GlobalBeginRequest ? null : getXid(msg);
+        return clientChannelManager.acquireChannel(serverAddress, xid);
+    }
+
     private String getThreadPrefix() {
         return AbstractNettyRemotingClient.MERGE_THREAD_PREFIX + THREAD_PREFIX_SPLIT_CHAR + transactionRole.name();
     }
@@ -370,7 +415,7 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                         // send batch message is sync request, but there is no need to get the return value.
                         // Since the messageFuture has been created before the message is placed in basketMap,
                         // the return value will be obtained in ClientOnResponseProcessor.
-                        sendChannel = clientChannelManager.acquireChannel(address);
+                        sendChannel = clientChannelManager.acquireChannel(address, null);
                         AbstractNettyRemotingClient.this.sendAsyncRequest(sendChannel, mergeMessage);
                     } catch (FrameworkException e) {
                         if (e.getErrcode() == FrameworkErrorCode.ChannelIsNotWritable && sendChannel != null) {
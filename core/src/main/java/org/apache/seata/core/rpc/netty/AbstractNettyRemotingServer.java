@@ -16,8 +16,14 @@
  */
 package org.apache.seata.core.rpc.netty;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import io.netty.channel.Channel;
@@ -28,14 +34,21 @@ import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
+import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.NetUtil;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.protocol.HeartbeatMessage;
 import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.MessageFuture;
 import org.apache.seata.core.protocol.ProtocolConstants;
 import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.protocol.Version;
+import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
+import org.apache.seata.core.protocol.transaction.BranchRollbackRequest;
+import org.apache.seata.core.protocol.transaction.UndoLogDeleteRequest;
 import org.apache.seata.core.rpc.RemotingServer;
 import org.apache.seata.core.rpc.RpcContext;
 import org.apache.seata.core.rpc.processor.Pair;
@@ -52,14 +65,49 @@ public abstract class AbstractNettyRemotingServer extends AbstractNettyRemoting
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractNettyRemotingServer.class);
 
+    private static final int MAX_MERGE_SEND_MILLS = 1;
+    private static final int MAX_MERGE_SEND_THREAD = 1;
+    private static final int MAX_MERGE_SEND_SIZE = 512;
+    private static final long KEEP_ALIVE_TIME = Integer.MAX_VALUE;
+    private static final String MERGE_THREAD_PREFIX = "rpcServerMergeMessageSend";
+
     private final NettyServerBootstrap serverBootstrap;
 
+    protected final Object mergeLock = new Object();
+
+    /**
+     * When batch sending is enabled, the phase two requests to the RM are stored to basketMap
+     * Send via asynchronous thread {@link AbstractNettyRemotingServer.MergedSendRunnable}
+     * {@link NettyServerConfig#isEnableTcServerBatchSendRequest()}
+     */
+    protected final ConcurrentMap<Channel, BlockingQueue<RpcMessage>> basketMap = new ConcurrentHashMap<>();
+
+    private ExecutorService mergeSendExecutorService;
+
+    private volatile boolean mergeSendRunning;
+
     @Override
     public void init() {
+        if (NettyServerConfig.isEnableTcServerBatchSendRequest()) {
+            startMergeSend();
+        }
         super.init();
         serverBootstrap.start();
     }
 
+    /**
+     * Start the thread that merges the phase two requests, see {@link MergedSendRunnable}.
+     */
+    void startMergeSend() {
+        mergeSendExecutorService = new ThreadPoolExecutor(MAX_MERGE_SEND_THREAD,
+            MAX_MERGE_SEND_THREAD,
+            KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory(MERGE_THREAD_PREFIX, MAX_MERGE_SEND_THREAD));
+        mergeSendRunning = true;
+        mergeSendExecutorService.submit(new MergedSendRunnable());
+    }
+
     public AbstractNettyRemotingServer(ThreadPoolExecutor messageExecutor, NettyServerConfig nettyServerConfig) {
         super(messageExecutor);
         serverBootstrap = new NettyServerBootstrap(nettyServerConfig);
@@ -74,9 +122,42 @@ public abstract class AbstractNettyRemotingServer extends AbstractNettyRemoting
             throw new RuntimeException("rm client is not connected. dbkey:" + resourceId + ",clientId:" + clientId);
         }
         RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        if (isMergeSendable(channel, msg)) {
+            long timeoutMillis = NettyServerConfig.getRpcRequestTimeout();
+            MessageFuture messageFuture = offerMergeMessage(channel, rpcMessage, timeoutMillis);
+            try {
+                return messageFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception exx) {
+                LOGGER.error("wait response error:{},ip:{},request:{}", exx.getMessage(), channel.remoteAddress(),
+                    rpcMessage.getBody());
+                if (exx instanceof TimeoutException) {
+                    throw (TimeoutException)exx;
+                } else {
+                    throw new RuntimeException(exx);
+                }
+            }
+        }
         return super.sendSync(channel, rpcMessage, NettyServerConfig.getRpcRequestTimeout());
     }
 
+    @Override
+    public CompletableFuture<Object> sendSyncRequestAsync(String resourceId, String clientId, Object msg,
+                                                          boolean tryOtherApp) {
+        Channel channel = ChannelManager.getChannel(resourceId, clientId, tryOtherApp);
+        if (channel == null) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            future.completeExceptionally(new RuntimeException("rm client is not connected. dbkey:" + resourceId
+                + ",clientId:" + clientId));
+            return future;
+        }
+        RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
+        if (isMergeSendable(channel, msg)) {
+            return offerMergeMessage(channel, rpcMessage, NettyServerConfig.getRpcRequestTimeout())
+                .toCompletableFuture();
+        }
+        return super.sendSyncAsync(channel, rpcMessage, NettyServerConfig.getRpcRequestTimeout());
+    }
+
     @Override
     public Object sendSyncRequest(Channel channel, Object msg) throws TimeoutException {
         if (channel == null) {
@@ -92,6 +173,10 @@ public abstract class AbstractNettyRemotingServer extends AbstractNettyRemoting
             throw new RuntimeException("client is not connected");
         }
         RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_ONEWAY);
+        if (isMergeSendable(channel, msg)) {
+            offerMergeMessage(channel, rpcMessage, 0);
+            return;
+        }
         super.sendAsync(channel, rpcMessage);
     }
 
@@ -130,9 +215,62 @@ public abstract class AbstractNettyRemotingServer extends AbstractNettyRemoting
     @Override
     public void destroy() {
         serverBootstrap.shutdown();
+        if (mergeSendExecutorService != null) {
+            mergeSendRunning = false;
+            mergeSendExecutorService.shutdownNow();
+        }
         super.destroy();
     }
 
+    /**
+     * Whether the message can go to the RM in a merged message.
+     * Only the phase two requests are merged, and only to the RMs that can handle a merged request.
+     *
+     * @param channel the RM channel
+     * @param msg     the message
+     * @return true if the message can be merged
+     */
+    protected boolean isMergeSendable(Channel channel, Object msg) {
+        if (!mergeSendRunning || !(msg instanceof BranchCommitRequest
+            || msg instanceof BranchRollbackRequest || msg instanceof UndoLogDeleteRequest)) {
+            return false;
+        }
+        RpcContext rpcContext = ChannelManager.getContextFromIdentified(channel);
+        return rpcContext != null && StringUtils.isNotBlank(rpcContext.getVersion())
+            && Version.isAboveOrEqualVersion240(rpcContext.getVersion());
+    }
+
+    /**
+     * Put the message into the basket of the channel, see {@link MergedSendRunnable}.
+     *
+     * @param channel       the RM channel
+     * @param rpcMessage    the rpc message
+     * @param timeoutMillis the timeout of the response, 0 if no response is expected
+     * @return the future of the response, null if no response is expected
+     */
+    private MessageFuture offerMergeMessage(Channel channel, RpcMessage rpcMessage, long timeoutMillis) {
+        MessageFuture messageFuture = null;
+        if (timeoutMillis > 0) {
+            messageFuture = new MessageFuture();
+            messageFuture.setRequestMessage(rpcMessage);
+            messageFuture.setTimeout(timeoutMillis);
+            futures.put(rpcMessage.getId(), messageFuture);
+        }
+        BlockingQueue<RpcMessage> basket = CollectionUtils.computeIfAbsent(basketMap, channel,
+            key -> new LinkedBlockingQueue<>());
+        if (!basket.offer(rpcMessage)) {
+            LOGGER.error("put message into basketMap offer failed, channel:{},rpcMessage:{}", channel, rpcMessage);
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("offer message: {}", rpcMessage.getBody());
+        }
+        if (!isSending) {
+            synchronized (mergeLock) {
+                mergeLock.notifyAll();
+            }
+        }
+        return messageFuture;
+    }
+
     /**
      * Debug log.
      *
@@ -153,6 +291,86 @@ public abstract class AbstractNettyRemotingServer extends AbstractNettyRemoting
         ctx.close();
     }
 
+    /**
+     * The type Merged send runnable.
+     * <p>
+     * Packs the pending phase two requests of each RM channel into {@link MergedWarpMessage}s, the RM answers them
+     * with a {@link org.apache.seata.core.protocol.BatchResultMessage}.
+     * </p>
+     */
+    private class MergedSendRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            while (mergeSendRunning) {
+                synchronized (mergeLock) {
+                    try {
+                        mergeLock.wait(MAX_MERGE_SEND_MILLS);
+                    } catch (InterruptedException e) {
+                        // interrupted by destroy
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                isSending = true;
+                basketMap.forEach((channel, basket) -> {
+                    if (!channel.isActive()) {
+                        basketMap.remove(channel);
+                        failMergeMessages(basket, "channel is inactive: " + channel);
+                        return;
+                    }
+                    while (!basket.isEmpty()) {
+                        MergedWarpMessage mergeMessage = new MergedWarpMessage();
+                        RpcMessage msg;
+                        while (mergeMessage.msgIds.size() < MAX_MERGE_SEND_SIZE && (msg = basket.poll()) != null) {
+                            mergeMessage.msgs.add((AbstractMessage)msg.getBody());
+                            mergeMessage.msgIds.add(msg.getId());
+                        }
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug("merge msg size:{}, channel:{}", mergeMessage.msgIds.size(), channel);
+                        }
+                        try {
+                            // the rm answers with a BatchResultMessage, the futures of the merged requests are
+                            // completed in ServerOnResponseProcessor.
+                            sendAsync(channel, buildRequestMessage(mergeMessage,
+                                ProtocolConstants.MSGTYPE_RESQUEST_SYNC));
+                        } catch (FrameworkException e) {
+                            LOGGER.error("server merge call failed: {}", e.getMessage(), e);
+                            failMergeMessages(mergeMessage, e);
+                        }
+                    }
+                });
+                isSending = false;
+            }
+            isSending = false;
+            // no more sends, the waiting callers fail now instead of timing out
+            basketMap.forEach((channel, basket) -> {
+                basketMap.remove(channel);
+                failMergeMessages(basket, "server is shutting down");
+            });
+        }
+
+        private void failMergeMessages(BlockingQueue<RpcMessage> basket, String reason) {
+            RpcMessage msg;
+            while ((msg = basket.poll()) != null) {
+                MessageFuture messageFuture = futures.remove(msg.getId());
+                if (messageFuture != null) {
+                    messageFuture.setResultMessage(new RuntimeException(reason));
+                }
+            }
+        }
+
+        private void failMergeMessages(MergedWarpMessage mergeMessage, Throwable cause) {
+            // fast fail
+            for (Integer msgId : mergeMessage.msgIds) {
+                MessageFuture messageFuture = futures.remove(msgId);
+                if (messageFuture != null) {
+                    messageFuture.setResultMessage(new RuntimeException("merge send failed", cause));
+                }
+            }
+        }
+    }
+
     /**
      * The type ServerHandler.
      */
@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,12 +59,28 @@ class NettyClientChannelManager {
 
     private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
 
+    /**
+     * The channels striped on top of the one in {@link #channels}, slot 0 is always empty.
+     */
+    private final ConcurrentMap<String, AtomicReferenceArray<Channel>> stripedChannels = new ConcurrentHashMap<>();
+
+    private final AtomicInteger stripeCounter = new AtomicInteger();
+
+    private final int channelsPerServer;
+
     private final GenericKeyedObjectPool<NettyPoolKey, Channel> nettyClientKeyPool;
 
     private Function<String, NettyPoolKey> poolKeyFunction;
 
     NettyClientChannelManager(final NettyPoolableFactory keyPoolableFactory, final Function<String, NettyPoolKey> poolKeyFunction,
                                      final NettyClientConfig clientConfig) {
+        this(keyPoolableFactory, poolKeyFunction, clientConfig, NettyClientConfig.getClientChannelsPerServer());
+    }
+
+    NettyClientChannelManager(final NettyPoolableFactory keyPoolableFactory,
+                              final Function<String, NettyPoolKey> poolKeyFunction,
+                              final NettyClientConfig clientConfig, final int channelsPerServer) {
+        this.channelsPerServer = Math.max(1, channelsPerServer);
         nettyClientKeyPool = new GenericKeyedObjectPool<>(keyPoolableFactory);
         nettyClientKeyPool.setConfig(getNettyPoolConfig(clientConfig));
         this.poolKeyFunction = poolKeyFunction;
@@ -70,7 +88,9 @@ class NettyClientChannelManager {
 
     private GenericKeyedObjectPool.Config getNettyPoolConfig(final NettyClientConfig clientConfig) {
         GenericKeyedObjectPool.Config poolConfig = new GenericKeyedObjectPool.Config();
-        poolConfig.maxActive = clientConfig.getMaxPoolActive();
+        int maxActive = clientConfig.getMaxPoolActive();
+        // every stripe holds one channel of the pool key of its server
+        poolConfig.maxActive = maxActive > 0 ? Math.max(maxActive, channelsPerServer) : maxActive;
         poolConfig.minIdle = clientConfig.getMinPoolIdle();
         poolConfig.maxWait = clientConfig.getMaxAcquireConnMills();
         poolConfig.testOnBorrow = clientConfig.isPoolTestBorrow();
@@ -111,6 +131,83 @@ class NettyClientChannelManager {
         }
     }
 
+    /**
+     * Acquire one of the channels connected to remote server.
+     * <p>
+     * With more than one channel per server, the requests of one xid always go through the same channel, so they
+     * keep their order, and the requests without xid are spread round robin. The first channel is the one of
+     * {@link #acquireChannel(String)}, the others are borrowed from the pool on demand and registered to the server
+     * the same way. When the extra channel can not be connected, the first one is used.
+     * </p>
+     *
+     * @param serverAddress server address
+     * @param xid           the xid of the request, may be null
+     * @return netty channel
+     */
+    Channel acquireChannel(String serverAddress, String xid) {
+        if (channelsPerServer <= 1) {
+            return acquireChannel(serverAddress);
+        }
+        int hash = xid != null ? xid.hashCode() : stripeCounter.getAndIncrement();
+        int stripe = (hash & Integer.MAX_VALUE) % channelsPerServer;
+        if (stripe == 0) {
+            return acquireChannel(serverAddress);
+        }
+        AtomicReferenceArray<Channel> stripes = CollectionUtils.computeIfAbsent(stripedChannels, serverAddress,
+            key -> new AtomicReferenceArray<>(channelsPerServer));
+        Channel channelToServer = stripes.get(stripe);
+        if (channelToServer != null && channelToServer.isActive()) {
+            return channelToServer;
+        }
+        Channel primary = acquireChannel(serverAddress);
+        Object lockObj = CollectionUtils.computeIfAbsent(channelLocks, serverAddress, key -> new Object());
+        synchronized (lockObj) {
+            channelToServer = stripes.get(stripe);
+            if (channelToServer != null && channelToServer.isActive()) {
+                return channelToServer;
+            }
+            try {
+                channelToServer = nettyClientKeyPool.borrowObject(poolKeyMap.get(serverAddress));
+                stripes.set(stripe, channelToServer);
+                return channelToServer;
+            } catch (Exception exx) {
+                LOGGER.warn("connect channel {} to {} failed, use the first channel: {}", stripe, serverAddress,
+                    exx.getMessage());
+                return primary;
+            }
+        }
+    }
+
+    /**
+     * Get the number of channels to one server.
+     *
+     * @return the channels per server
+     */
+    int getChannelsPerServer() {
+        return channelsPerServer;
+    }
+
+    /**
+     * Get the channels striped on top of the first channel to the server.
+     *
+     * @param serverAddress server address
+     * @return the striped channels, empty with one channel per server
+     */
+    List<Channel> getStripedChannels(String serverAddress) {
+        AtomicReferenceArray<Channel> stripes = stripedChannels.get(serverAddress);
+        if (stripes == null) {
+            return Collections.emptyList();
+        }
+        List<Channel> result = new ArrayList<>(stripes.length());
+        for (int i = 0; i < stripes.length(); i++) {
+            Channel channel = stripes.get(i);
+            if (channel != null) {
+                result.add(channel);
+            }
+        }
+        return result;
+    }
+
     /**
      * Release channel to pool if necessary.
      *
@@ -121,6 +218,7 @@ class NettyClientChannelManager {
         if (channel == null || serverAddress == null) { return; }
         try {
             synchronized (channelLocks.get(serverAddress)) {
+                removeStripedChannel(serverAddress, channel);
                 Channel ch = channels.get(serverAddress);
                 if (ch == null) {
                     nettyClientKeyPool.returnObject(poolKeyMap.get(serverAddress), channel);
@@ -152,6 +250,7 @@ class NettyClientChannelManager {
             if (channel.equals(channels.get(serverAddress))) {
                 channels.remove(serverAddress);
             }
+            removeStripedChannel(serverAddress, channel);
             nettyClientKeyPool.returnObject(poolKeyMap.get(serverAddress), channel);
         } catch (Exception exx) {
             LOGGER.error("return channel to rmPool error:{}", exx.getMessage());
@@ -267,6 +366,7 @@ class NettyClientChannelManager {
     }
 
     void invalidateObject(final String serverAddress, final Channel channel) throws Exception {
+        removeStripedChannel(serverAddress, channel);
         nettyClientKeyPool.invalidateObject(poolKeyMap.get(serverAddress), channel);
     }
 
@@ -296,6 +396,16 @@ class NettyClientChannelManager {
         return channelFromPool;
     }
 
+    private void removeStripedChannel(String serverAddress, Channel channel) {
+        AtomicReferenceArray<Channel> stripes = stripedChannels.get(serverAddress);
+        if (stripes == null) {
+            return;
+        }
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.compareAndSet(i, channel, null);
+        }
+    }
+
     private List<String> getAvailServerList(String transactionServiceGroup) throws Exception {
         List<InetSocketAddress> availInetSocketAddressList = RegistryFactory.getInstance()
                 .lookup(transactionServiceGroup);
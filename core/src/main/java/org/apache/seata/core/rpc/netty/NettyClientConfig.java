@@ -20,6 +20,7 @@ import io.netty.channel.Channel;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.rpc.TransportServerType;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_CHANNELS_PER_SERVER;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_PROTOCOL;
 import static org.apache.seata.common.DefaultValues.DEFAULT_RPC_RM_REQUEST_TIMEOUT;
@@ -60,6 +61,8 @@ public class NettyClientConfig extends NettyBaseConfig {
     private static final boolean DEFAULT_POOL_TEST_RETURN = true;
     private static final boolean DEFAULT_POOL_LIFO = true;
     private static final boolean ENABLE_CLIENT_BATCH_SEND_REQUEST = CONFIG.getBoolean(ConfigurationKeys.ENABLE_CLIENT_BATCH_SEND_REQUEST, DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST);
+    private static final int CLIENT_CHANNELS_PER_SERVER = CONFIG.getInt(ConfigurationKeys.CLIENT_CHANNELS_PER_SERVER,
+        DEFAULT_CLIENT_CHANNELS_PER_SERVER);
 
     /**
      * Gets connect timeout millis.
@@ -461,4 +464,13 @@ public class NettyClientConfig extends NettyBaseConfig {
         return ENABLE_CLIENT_BATCH_SEND_REQUEST;
     }
 
+    /**
+     * Gets the number of channels the client keeps to one server.
+     *
+     * @return the channels per server, at least 1
+     */
+    public static int getClientChannelsPerServer() {
+        return Math.max(1, CLIENT_CHANNELS_PER_SERVER);
+    }
+
 }
@@ -47,6 +47,7 @@ import org.apache.seata.core.rpc.processor.client.ClientHeartbeatProcessor;
 import org.apache.seata.core.rpc.processor.client.ClientOnResponseProcessor;
 import org.apache.seata.core.rpc.processor.client.RmBranchCommitProcessor;
 import org.apache.seata.core.rpc.processor.client.RmBranchRollbackProcessor;
+import org.apache.seata.core.rpc.processor.client.RmMergedRequestProcessor;
 import org.apache.seata.core.rpc.processor.client.RmUndoLogProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -232,6 +233,10 @@ public final class RmNettyRemotingClient extends AbstractNettyRemotingClient {
                     LOGGER.info("will register resourceId:{}", resourceId);
                 }
                 sendRegisterMessage(serverAddress, rmChannel, resourceId);
+                // keep the registration consistent across all the channels to the server
+                for (Channel stripedChannel : getClientChannelManager().getStripedChannels(serverAddress)) {
+                    sendRegisterMessage(serverAddress, stripedChannel, resourceId);
+                }
             }
         }
     }
@@ -321,7 +326,11 @@ public final class RmNettyRemotingClient extends AbstractNettyRemotingClient {
         // 3.registry rm handler undo log processor
         RmUndoLogProcessor rmUndoLogProcessor = new RmUndoLogProcessor(getTransactionMessageHandler());
         super.registerProcessor(MessageType.TYPE_RM_DELETE_UNDOLOG, rmUndoLogProcessor, messageExecutor);
-        // 4.registry TC response processor
+        // 4.registry rm handler merged request processor
+        RmMergedRequestProcessor rmMergedRequestProcessor =
+            new RmMergedRequestProcessor(getTransactionMessageHandler(), this, messageExecutor);
+        super.registerProcessor(MessageType.TYPE_SEATA_MERGE, rmMergedRequestProcessor, messageExecutor);
+        // 5.registry TC response processor
         ClientOnResponseProcessor onResponseProcessor =
             new ClientOnResponseProcessor(mergeMsgMap, super.getFutures(), childToParentMap, getTransactionMessageHandler());
         super.registerProcessor(MessageType.TYPE_SEATA_MERGE_RESULT, onResponseProcessor, null);
@@ -330,7 +339,7 @@ public final class RmNettyRemotingClient extends AbstractNettyRemotingClient {
         super.registerProcessor(MessageType.TYPE_GLOBAL_LOCK_QUERY_RESULT, onResponseProcessor, null);
         super.registerProcessor(MessageType.TYPE_REG_RM_RESULT, onResponseProcessor, null);
         super.registerProcessor(MessageType.TYPE_BATCH_RESULT_MSG, onResponseProcessor, null);
-        // 5.registry heartbeat message processor
+        // 6.registry heartbeat message processor
         ClientHeartbeatProcessor clientHeartbeatProcessor = new ClientHeartbeatProcessor();
         super.registerProcessor(MessageType.TYPE_HEARTBEAT_MSG, clientHeartbeatProcessor, null);
     }
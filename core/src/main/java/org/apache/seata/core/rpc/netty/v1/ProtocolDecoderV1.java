@@ -24,6 +24,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import org.apache.seata.core.compressor.Compressor;
 import org.apache.seata.core.compressor.CompressorFactory;
+import org.apache.seata.core.compressor.CompressorType;
 import org.apache.seata.core.exception.DecodeException;
 import org.apache.seata.core.protocol.HeartbeatMessage;
 import org.apache.seata.core.protocol.ProtocolConstants;
@@ -123,17 +124,21 @@ public class ProtocolDecoderV1 extends LengthFieldBasedFrameDecoder implements P
         } else {
             int bodyLength = fullLength - headLength;
             if (bodyLength > 0) {
-                byte[] bs = new byte[bodyLength];
-                frame.readBytes(bs);
-                Compressor compressor = CompressorFactory.getCompressor(compressorType);
-                bs = compressor.decompress(bs);
                 SerializerType protocolType = SerializerType.getByCode(rpcMessage.getCodec());
-                if (this.supportDeSerializerTypes.contains(protocolType)) {
-                    Serializer serializer = SerializerServiceLoader.load(protocolType, ProtocolConstants.VERSION_1);
-                    rpcMessage.setBody(serializer.deserialize(bs));
-                } else {
+                if (!this.supportDeSerializerTypes.contains(protocolType)) {
                     throw new IllegalArgumentException("SerializerType not match");
                 }
+                Serializer serializer = SerializerServiceLoader.load(protocolType, ProtocolConstants.VERSION_1);
+                if (compressorType == CompressorType.NONE.getCode()) {
+                    // direct read body with zero-copy
+                    rpcMessage.setBody(serializer.deserialize(frame, bodyLength));
+                } else {
+                    byte[] bs = new byte[bodyLength];
+                    frame.readBytes(bs);
+                    Compressor compressor = CompressorFactory.getCompressor(compressorType);
+                    bs = compressor.decompress(bs);
+                    rpcMessage.setBody(serializer.deserialize(bs));
+                }
             }
         }
 
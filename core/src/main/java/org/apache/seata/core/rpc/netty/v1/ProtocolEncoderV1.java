@@ -23,6 +23,7 @@ import org.apache.seata.core.rpc.netty.ProtocolEncoder;
 import org.apache.seata.core.serializer.Serializer;
 import org.apache.seata.core.compressor.Compressor;
 import org.apache.seata.core.compressor.CompressorFactory;
+import org.apache.seata.core.compressor.CompressorType;
 import org.apache.seata.core.protocol.ProtocolConstants;
 import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.serializer.SerializerServiceLoader;
@@ -90,19 +91,22 @@ public class ProtocolEncoderV1 extends MessageToByteEncoder implements ProtocolE
                 fullLength += headMapBytesLength;
             }
 
-            byte[] bodyBytes = null;
             if (messageType != ProtocolConstants.MSGTYPE_HEARTBEAT_REQUEST
                 && messageType != ProtocolConstants.MSGTYPE_HEARTBEAT_RESPONSE) {
                 // heartbeat has no body
                 Serializer serializer = SerializerServiceLoader.load(SerializerType.getByCode(rpcMessage.getCodec()), ProtocolConstants.VERSION_1);
-                bodyBytes = serializer.serialize(rpcMessage.getBody());
-                Compressor compressor = CompressorFactory.getCompressor(rpcMessage.getCompressor());
-                bodyBytes = compressor.compress(bodyBytes);
-                fullLength += bodyBytes.length;
-            }
-
-            if (bodyBytes != null) {
-                out.writeBytes(bodyBytes);
+                if (rpcMessage.getCompressor() == CompressorType.NONE.getCode()) {
+                    // direct write body with zero-copy
+                    int bodyIndex = out.writerIndex();
+                    serializer.serialize(rpcMessage.getBody(), out);
+                    fullLength += out.writerIndex() - bodyIndex;
+                } else {
+                    byte[] bodyBytes = serializer.serialize(rpcMessage.getBody());
+                    Compressor compressor = CompressorFactory.getCompressor(rpcMessage.getCompressor());
+                    bodyBytes = compressor.compress(bodyBytes);
+                    fullLength += bodyBytes.length;
+                    out.writeBytes(bodyBytes);
+                }
             }
 
             // fix fullLength and headLength
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.processor.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.seata.common.util.NetUtil;
+import org.apache.seata.core.protocol.AbstractMessage;
+import org.apache.seata.core.protocol.AbstractResultMessage;
+import org.apache.seata.core.protocol.BatchResultMessage;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.AbstractBranchEndRequest;
+import org.apache.seata.core.protocol.transaction.AbstractBranchEndResponse;
+import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
+import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
+import org.apache.seata.core.protocol.transaction.BranchRollbackRequest;
+import org.apache.seata.core.protocol.transaction.BranchRollbackResponse;
+import org.apache.seata.core.protocol.transaction.UndoLogDeleteRequest;
+import org.apache.seata.core.rpc.RemotingClient;
+import org.apache.seata.core.rpc.TransactionMessageHandler;
+import org.apache.seata.core.rpc.processor.RemotingProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * process TC merged phase two commands.
+ * <p>
+ * process message type:
+ * {@link MergedWarpMessage} of
+ * 1) {@link BranchCommitRequest}
+ * 2) {@link BranchRollbackRequest}
+ * 3) {@link UndoLogDeleteRequest}
+ * <p>
+ * The requests of one merged message are handled concurrently, the results go back in one {@link BatchResultMessage}.
+ *
+ * @since 2.4.0
+ */
+public class RmMergedRequestProcessor implements RemotingProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RmMergedRequestProcessor.class);
+
+    private TransactionMessageHandler handler;
+
+    private RemotingClient remotingClient;
+
+    private Executor executor;
+
+    public RmMergedRequestProcessor(TransactionMessageHandler handler, RemotingClient remotingClient,
+                                    Executor executor) {
+        this.handler = handler;
+        this.remotingClient = remotingClient;
+        this.executor = executor;
+    }
+
+    @Override
+    public void process(ChannelHandlerContext ctx, RpcMessage rpcMessage) throws Exception {
+        String remoteAddress = NetUtil.toStringAddress(ctx.channel().remoteAddress());
+        MergedWarpMessage mergedWarpMessage = (MergedWarpMessage) rpcMessage.getBody();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("rm client handle merged request process, size:{}", mergedWarpMessage.msgs.size());
+        }
+        List<Integer> msgIds = new ArrayList<>(mergedWarpMessage.msgs.size());
+        List<AbstractBranchEndRequest> requests = new ArrayList<>(mergedWarpMessage.msgs.size());
+        List<CompletableFuture<AbstractResultMessage>> results = new ArrayList<>(mergedWarpMessage.msgs.size());
+        for (int i = 0; i < mergedWarpMessage.msgs.size(); i++) {
+            AbstractMessage msg = mergedWarpMessage.msgs.get(i);
+            if (msg instanceof UndoLogDeleteRequest) {
+                executor.execute(() -> handleUndoLogDelete((UndoLogDeleteRequest) msg));
+            } else if (msg instanceof BranchCommitRequest || msg instanceof BranchRollbackRequest) {
+                msgIds.add(mergedWarpMessage.msgIds.get(i));
+                requests.add((AbstractBranchEndRequest) msg);
+                results.add(CompletableFuture.supplyAsync(() -> handler.onRequest(msg, null), executor));
+            } else {
+                LOGGER.error("unsupported merged request: {}", msg);
+            }
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).whenComplete((v, t) -> {
+            BatchResultMessage batchResultMessage = new BatchResultMessage();
+            for (int i = 0; i < results.size(); i++) {
+                AbstractResultMessage resultMessage;
+                try {
+                    resultMessage = results.get(i).join();
+                } catch (CompletionException e) {
+                    LOGGER.error("merged request failed: {}", requests.get(i), e.getCause());
+                    resultMessage = failedResult(requests.get(i), e.getCause());
+                }
+                batchResultMessage.getResultMessages().add(resultMessage);
+                batchResultMessage.getMsgIds().add(msgIds.get(i));
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("merged request result size:{}", batchResultMessage.getMsgIds().size());
+            }
+            try {
+                this.remotingClient.sendAsyncResponse(remoteAddress, rpcMessage, batchResultMessage);
+            } catch (Throwable throwable) {
+                LOGGER.error("merged request response error: {}", throwable.getMessage(), throwable);
+            }
+        });
+    }
+
+    /**
+     * The failure is answered like the handler answers an exception of a single request, so the server does
+     * not wait for a result until it times out.
+     */
+    private static AbstractResultMessage failedResult(AbstractBranchEndRequest request, Throwable cause) {
+        AbstractBranchEndResponse response = request instanceof BranchCommitRequest ? new BranchCommitResponse()
+            : new BranchRollbackResponse();
+        response.setXid(request.getXid());
+        response.setBranchId(request.getBranchId());
+        response.setResultCode(ResultCode.Failed);
+        response.setMsg("RuntimeException[" + cause.getMessage() + "]");
+        return response;
+    }
+
+    private void handleUndoLogDelete(UndoLogDeleteRequest undoLogDeleteRequest) {
+        try {
+            handler.onRequest(undoLogDeleteRequest, null);
+        } catch (Exception e) {
+            LOGGER.error("Failed to delete undo log by undoLogDeleteRequest on" + undoLogDeleteRequest.getResourceId());
+        }
+    }
+}
@@ -203,13 +203,18 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
                     NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
                 BatchLogHandler.INSTANCE.writeLog(receiveMsgLog);
             }
-            AbstractResultMessage result = transactionMessageHandler.onRequest(msg, rpcContext);
-            remotingServer.sendAsyncResponse(rpcMessage, ctx.channel(), result);
-            if (LOGGER.isInfoEnabled()) {
-                String resultMsgLog = String.format("result msg[single]: %s, clientIp: %s, vgroup: %s", result,
-                    NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
-                BatchLogHandler.INSTANCE.writeLog(resultMsgLog);
-            }
+            transactionMessageHandler.onRequestAsync(msg, rpcContext).whenComplete((result, t) -> {
+                if (t != null) {
+                    LOGGER.error("handle request error: {}", t.getMessage(), t);
+                    return;
+                }
+                remotingServer.sendAsyncResponse(rpcMessage, ctx.channel(), result);
+                if (LOGGER.isInfoEnabled()) {
+                    String resultMsgLog = String.format("result msg[single]: %s, clientIp: %s, vgroup: %s", result,
+                        NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
+                    BatchLogHandler.INSTANCE.writeLog(resultMsgLog);
+                }
+            });
         }
     }
 
@@ -276,7 +281,8 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
     }
 
     /**
-     * handle rpc request message
+     * handle rpc request message, without waiting for locks: all the results of a merged request go back in one
+     * message, so a conflict is answered at once and left to the client lock retry instead of holding back the others
      * @param rpcContext rpcContext
      */
     private AbstractResultMessage handleRequestsByMergedWarpMessage(AbstractMessage subMessage, RpcContext rpcContext) {
@@ -309,15 +315,20 @@ public class ServerOnRequestProcessor implements RemotingProcessor, Disposable {
                 NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
             BatchLogHandler.INSTANCE.writeLog(receiveMsgLog);
         }
-        AbstractResultMessage resultMessage = transactionMessageHandler.onRequest(msg, rpcContext);
-        BlockingQueue<QueueItem> msgQueue = computeIfAbsentMsgQueue(ctx.channel());
-        offerMsg(msgQueue, rpcMessage, resultMessage, msgId, ctx.channel());
-        notifyBatchRespondingThread();
-        if (LOGGER.isInfoEnabled()) {
-            String resultMsgLog = String.format("result msg[merged]: %s, clientIp: %s, vgroup: %s", resultMessage,
-                NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
-            BatchLogHandler.INSTANCE.writeLog(resultMsgLog);
-        }
+        transactionMessageHandler.onRequestAsync(msg, rpcContext).whenComplete((resultMessage, t) -> {
+            if (t != null) {
+                LOGGER.error("handle request error: {}", t.getMessage(), t);
+                return;
+            }
+            BlockingQueue<QueueItem> msgQueue = computeIfAbsentMsgQueue(ctx.channel());
+            offerMsg(msgQueue, rpcMessage, resultMessage, msgId, ctx.channel());
+            notifyBatchRespondingThread();
+            if (LOGGER.isInfoEnabled()) {
+                String resultMsgLog = String.format("result msg[merged]: %s, clientIp: %s, vgroup: %s", resultMessage,
+                    NetUtil.toIpAddress(ctx.channel().remoteAddress()), rpcContext.getTransactionServiceGroup());
+                BatchLogHandler.INSTANCE.writeLog(resultMsgLog);
+            }
+        });
     }
 
     /**
@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentMap;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.seata.common.util.NetUtil;
 import org.apache.seata.core.protocol.AbstractResultMessage;
+import org.apache.seata.core.protocol.BatchResultMessage;
 import org.apache.seata.core.protocol.MessageFuture;
 import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
@@ -40,6 +41,7 @@ import org.slf4j.LoggerFactory;
  * RM:
  * 1) {@link BranchCommitResponse}
  * 2) {@link BranchRollbackResponse}
+ * 3) {@link BatchResultMessage}
  *
  * @since 1.3.0
  */
@@ -65,6 +67,10 @@ public class ServerOnResponseProcessor implements RemotingProcessor {
 
     @Override
     public void process(ChannelHandlerContext ctx, RpcMessage rpcMessage) throws Exception {
+        if (rpcMessage.getBody() instanceof BatchResultMessage) {
+            onBatchResultMessage(ctx, (BatchResultMessage)rpcMessage.getBody());
+            return;
+        }
         MessageFuture messageFuture = futures.remove(rpcMessage.getId());
         String receiveMsgLog = String.format("receive msg[single]: %s, clientIp: %s, vgroup: %s", rpcMessage.getBody(), NetUtil.toIpAddress(ctx.channel().remoteAddress()),
             ChannelManager.getContextFromIdentified(ctx.channel()).getTransactionServiceGroup());
@@ -90,6 +96,31 @@ public class ServerOnResponseProcessor implements RemotingProcessor {
         }
     }
 
+    /**
+     * The RM answers the merged phase two requests with a batch result message.
+     *
+     * @param ctx                the channel handler context
+     * @param batchResultMessage the batch result message
+     */
+    private void onBatchResultMessage(ChannelHandlerContext ctx, BatchResultMessage batchResultMessage) {
+        for (int i = 0; i < batchResultMessage.getMsgIds().size(); i++) {
+            int msgId = batchResultMessage.getMsgIds().get(i);
+            AbstractResultMessage resultMessage = batchResultMessage.getResultMessages().get(i);
+            if (LOGGER.isInfoEnabled()) {
+                BatchLogHandler.INSTANCE.writeLog(String.format("receive msg[merged]: %s, clientIp: %s, vgroup: %s",
+                    resultMessage, NetUtil.toIpAddress(ctx.channel().remoteAddress()),
+                    ChannelManager.getContextFromIdentified(ctx.channel()).getTransactionServiceGroup()));
+            }
+            MessageFuture messageFuture = futures.remove(msgId);
+            if (messageFuture != null) {
+                messageFuture.setResultMessage(resultMessage);
+            } else if (ChannelManager.isRegistered(ctx.channel())) {
+                RpcContext rpcContext = ChannelManager.getContextFromIdentified(ctx.channel());
+                transactionMessageHandler.onResponse(resultMessage, rpcContext);
+            }
+        }
+    }
+
     private void onResponseMessage(ChannelHandlerContext ctx, RpcMessage rpcMessage) {
         if (rpcMessage.getBody() instanceof AbstractResultMessage) {
             RpcContext rpcContext = ChannelManager.getContextFromIdentified(ctx.channel());
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.core.serializer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * The interface Codec.
  *
@@ -39,4 +41,33 @@ public interface Serializer {
      * @return the t
      */
     <T> T deserialize(byte[] bytes);
+
+    /**
+     * Encode object straight into the buffer.
+     * The default implementation copies the result of {@link #serialize(Object)},
+     * serializers that can write into a ByteBuf override it to skip the intermediate byte[].
+     *
+     * @param <T> the type parameter
+     * @param t   the t
+     * @param out the buffer to write to
+     */
+    default <T> void serialize(T t, ByteBuf out) {
+        out.writeBytes(serialize(t));
+    }
+
+    /**
+     * Decode t from the next length readable bytes of the buffer, the bytes are consumed.
+     * The default implementation copies them into a byte[] for {@link #deserialize(byte[])},
+     * serializers that can read from a ByteBuf override it to skip the copy.
+     *
+     * @param <T>    the type parameter
+     * @param in     the buffer to read from
+     * @param length the length of the encoded t
+     * @return the t
+     */
+    default <T> T deserialize(ByteBuf in, int length) {
+        byte[] bytes = new byte[length];
+        in.readBytes(bytes);
+        return deserialize(bytes);
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.lock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The LockKeyCodec Test
+ */
+public class LockKeyCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        String[] lockKeys = {
+            "t_order:1,2,3",
+            "t_order:1,2;t_stock:a,b;t_order:4",
+            "t_order:1_a,2_b,3_c",
+            "t_order:-1,0,9223372036854775807,-9223372036854775808",
+            "t_order:01,-0,9223372036854775808,1.5",
+            "t_order:9223372036854775806,-9223372036854775809,9999999999999999999,1000000000000000000",
+            "t_order:1,a_b_c,2",
+            "t_order:,1,",
+            "t_order:",
+            "t_订单:主键,1"
+        };
+        for (String lockKey : lockKeys) {
+            byte[] bytes = LockKeyCodec.encode(lockKey);
+            Assertions.assertTrue(LockKeyCodec.isBinary(bytes), lockKey);
+            Assertions.assertEquals(lockKey, LockKeyCodec.decode(bytes));
+        }
+    }
+
+    @Test
+    public void testKeepText() {
+        Assertions.assertNull(LockKeyCodec.encode(null));
+        Assertions.assertNull(LockKeyCodec.encode(""));
+        Assertions.assertNull(LockKeyCodec.encode("t_order"));
+        Assertions.assertNull(LockKeyCodec.encode("t_order:1;"));
+        Assertions.assertFalse(LockKeyCodec.isBinary("t_order:1".getBytes()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LockKeyCodec.decode("t_order:1".getBytes()));
+    }
+
+    @Test
+    public void testCompact() {
+        StringBuilder sb = new StringBuilder("t_order:");
+        for (long i = 0; i < 1000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(1700000000000000000L + i);
+        }
+        String lockKey = sb.toString();
+        byte[] bytes = LockKeyCodec.encode(lockKey);
+        Assertions.assertTrue(bytes.length < lockKey.length() / 2);
+        Assertions.assertEquals(lockKey, LockKeyCodec.decode(bytes));
+    }
+}
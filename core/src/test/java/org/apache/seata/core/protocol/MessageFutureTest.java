@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -186,6 +188,30 @@ public class MessageFutureTest {
         }
     }
 
+    /**
+     * Test to completable future.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testToCompletableFuture() throws Exception {
+        MessageFuture messageFuture = new MessageFuture();
+        messageFuture.setRequestMessage(buildRepcMessage());
+        messageFuture.setTimeout(TIME_OUT_FIELD);
+        CompletableFuture<Object> future = messageFuture.toCompletableFuture();
+        assertThat(future.isDone()).isFalse();
+        messageFuture.setResultMessage("has_result");
+        assertThat(future.get()).isEqualTo("has_result");
+
+        MessageFuture timeoutFuture = new MessageFuture();
+        timeoutFuture.setRequestMessage(buildRepcMessage());
+        timeoutFuture.setTimeout(TIME_OUT_FIELD);
+        CompletableFuture<Object> timeout = timeoutFuture.toCompletableFuture();
+        timeoutFuture.setResultMessage(new TimeoutException("test_timeout"));
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, timeout::get);
+        assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+    }
+
     private RpcMessage buildRepcMessage() {
         RpcMessage rpcMessage = new RpcMessage();
         rpcMessage.setId(ID_FIELD);
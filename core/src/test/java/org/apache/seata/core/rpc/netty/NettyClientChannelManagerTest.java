@@ -34,6 +34,7 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_TX_GROUP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -109,6 +110,27 @@ class NettyClientChannelManagerTest {
         Assertions.assertEquals(actual, newChannel);
     }
     
+    @Test
+    void assertAcquireStripedChannel() {
+        channelManager = new NettyClientChannelManager(poolableFactory, poolKeyFunction, nettyClientConfig, 2);
+        when(poolKeyFunction.apply(anyString())).thenReturn(nettyPoolKey);
+        when(poolableFactory.makeObject(nettyPoolKey)).thenReturn(channel, newChannel);
+        lenient().when(poolableFactory.validateObject(nettyPoolKey, channel)).thenReturn(true);
+        lenient().when(poolableFactory.validateObject(nettyPoolKey, newChannel)).thenReturn(true);
+        lenient().when(channel.isActive()).thenReturn(true);
+        lenient().when(newChannel.isActive()).thenReturn(true);
+        // "1".hashCode() is odd, so the xid goes to the second channel
+        Channel actual = channelManager.acquireChannel("localhost", "1");
+        Assertions.assertEquals(newChannel, actual);
+        Assertions.assertEquals(channel, channelManager.getChannels().get("localhost"));
+        Assertions.assertEquals(newChannel, channelManager.acquireChannel("localhost", "1"));
+        Assertions.assertEquals(channel, channelManager.acquireChannel("localhost", "0"));
+        verify(poolableFactory, times(2)).makeObject(nettyPoolKey);
+
+        channelManager.releaseChannel(newChannel, "localhost");
+        assertTrue(channelManager.getStripedChannels("localhost").isEmpty());
+    }
+
     @Test
     void assertReconnect() {
         channelManager.getChannels().putIfAbsent("127.0.0.1:8091", channel);
@@ -17,9 +17,16 @@
 package org.apache.seata.core.rpc.netty;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.MessageFuture;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
+import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
 import org.apache.seata.core.rpc.RegisterCheckAuthHandler;
+import org.apache.seata.core.rpc.RpcContext;
 import org.apache.seata.discovery.registry.MultiRegistryFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +35,14 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +89,108 @@ public class NettyRemotingServerTest {
 		Mockito.verify(channel).close();
 	}
 
+	@Test
+	public void testMergeSend() throws Exception {
+		List<RpcMessage> written = new CopyOnWriteArrayList<>();
+		Channel channel = mockChannel(written);
+		RpcContext rpcContext = new RpcContext();
+		rpcContext.setVersion("2.4.0");
+		nettyRemotingServer.startMergeSend();
+		List<CompletableFuture<Object>> results = new ArrayList<>();
+		try (MockedStatic<ChannelManager> channelManager = Mockito.mockStatic(ChannelManager.class)) {
+			channelManager.when(() -> ChannelManager.getChannel("jdbc:mysql://db", "app:127.0.0.1", false))
+					.thenReturn(channel);
+			channelManager.when(() -> ChannelManager.getContextFromIdentified(channel)).thenReturn(rpcContext);
+			for (int i = 0; i < 3; i++) {
+				BranchCommitRequest request = new BranchCommitRequest();
+				request.setBranchId(i);
+				results.add(nettyRemotingServer.sendSyncRequestAsync("jdbc:mysql://db", "app:127.0.0.1", request, false));
+			}
+		}
+
+		// every request goes out inside a merged message, answered by msgId
+		long deadline = System.currentTimeMillis() + 3000;
+		while (countMerged(written) < 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assertions.assertEquals(3, countMerged(written));
+		for (RpcMessage rpcMessage : written) {
+			MergedWarpMessage mergedWarpMessage = (MergedWarpMessage) rpcMessage.getBody();
+			for (Integer msgId : mergedWarpMessage.msgIds) {
+				MessageFuture messageFuture = nettyRemotingServer.futures.remove(msgId);
+				Assertions.assertNotNull(messageFuture);
+				BranchCommitResponse response = new BranchCommitResponse();
+				response.setBranchId(((BranchCommitRequest) mergedWarpMessage.msgs.get(
+						mergedWarpMessage.msgIds.indexOf(msgId))).getBranchId());
+				messageFuture.setResultMessage(response);
+			}
+		}
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertEquals(i, ((BranchCommitResponse) results.get(i).get(1, TimeUnit.SECONDS)).getBranchId());
+		}
+		nettyRemotingServer.destroy();
+	}
+
+	@Test
+	public void testMergeSendStopsOnDestroy() throws Exception {
+		nettyRemotingServer.startMergeSend();
+		Field field = AbstractNettyRemotingServer.class.getDeclaredField("mergeSendExecutorService");
+		field.setAccessible(true);
+		ExecutorService mergeSendExecutorService = (ExecutorService) field.get(nettyRemotingServer);
+
+		nettyRemotingServer.destroy();
+
+		// the merge loop exits instead of spinning forever
+		Assertions.assertTrue(mergeSendExecutorService.awaitTermination(3, TimeUnit.SECONDS));
+		Assertions.assertFalse(nettyRemotingServer.isMergeSendable(Mockito.mock(Channel.class),
+				new BranchCommitRequest()));
+	}
+
+	@Test
+	public void testMergeSendFailsInactiveChannel() throws Exception {
+		List<RpcMessage> written = new CopyOnWriteArrayList<>();
+		Channel channel = mockChannel(written);
+		Mockito.when(channel.isActive()).thenReturn(false);
+		RpcContext rpcContext = new RpcContext();
+		rpcContext.setVersion("2.4.0");
+		nettyRemotingServer.startMergeSend();
+		CompletableFuture<Object> result;
+		try (MockedStatic<ChannelManager> channelManager = Mockito.mockStatic(ChannelManager.class)) {
+			channelManager.when(() -> ChannelManager.getChannel("jdbc:mysql://db", "app:127.0.0.1", false))
+					.thenReturn(channel);
+			channelManager.when(() -> ChannelManager.getContextFromIdentified(channel)).thenReturn(rpcContext);
+			result = nettyRemotingServer.sendSyncRequestAsync("jdbc:mysql://db", "app:127.0.0.1",
+					new BranchCommitRequest(), false);
+		}
+		try {
+			Assertions.assertThrows(ExecutionException.class, () -> result.get(3, TimeUnit.SECONDS));
+			Assertions.assertTrue(written.isEmpty());
+		} finally {
+			nettyRemotingServer.destroy();
+		}
+	}
+
+	private static Channel mockChannel(List<RpcMessage> written) {
+		Channel channel = Mockito.mock(Channel.class);
+		Mockito.when(channel.isActive()).thenReturn(true);
+		Mockito.when(channel.isWritable()).thenReturn(true);
+		Mockito.when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8091));
+		ChannelFuture channelFuture = Mockito.mock(ChannelFuture.class);
+		Mockito.when(channel.writeAndFlush(Mockito.any())).thenAnswer(invocation -> {
+			written.add(invocation.getArgument(0));
+			return channelFuture;
+		});
+		return channel;
+	}
+
+	private static int countMerged(List<RpcMessage> written) {
+		int count = 0;
+		for (RpcMessage rpcMessage : written) {
+			count += ((MergedWarpMessage) rpcMessage.getBody()).msgs.size();
+		}
+		return count;
+	}
+
 	@Test
 	public void destory() {
 		nettyRemotingServer.destroy();
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.processor.client;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.seata.core.protocol.BatchResultMessage;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
+import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
+import org.apache.seata.core.protocol.transaction.BranchRollbackRequest;
+import org.apache.seata.core.protocol.transaction.BranchRollbackResponse;
+import org.apache.seata.core.protocol.transaction.UndoLogDeleteRequest;
+import org.apache.seata.core.rpc.RemotingClient;
+import org.apache.seata.core.rpc.TransactionMessageHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RmMergedRequestProcessorTest {
+
+    @Test
+    public void testProcess() throws Exception {
+        BranchCommitRequest commitRequest = new BranchCommitRequest();
+        commitRequest.setXid("127.0.0.1:8091:1");
+        commitRequest.setBranchId(2L);
+        BranchRollbackRequest rollbackRequest = new BranchRollbackRequest();
+        rollbackRequest.setXid("127.0.0.1:8091:1");
+        rollbackRequest.setBranchId(3L);
+        UndoLogDeleteRequest undoLogDeleteRequest = new UndoLogDeleteRequest();
+
+        BranchCommitResponse commitResponse = new BranchCommitResponse();
+        commitResponse.setResultCode(ResultCode.Success);
+        TransactionMessageHandler handler = mock(TransactionMessageHandler.class);
+        when(handler.onRequest(commitRequest, null)).thenReturn(commitResponse);
+        when(handler.onRequest(rollbackRequest, null)).thenThrow(new IllegalStateException("rollback failed"));
+        RemotingClient remotingClient = mock(RemotingClient.class);
+
+        MergedWarpMessage mergedWarpMessage = new MergedWarpMessage();
+        mergedWarpMessage.msgs.addAll(Arrays.asList(commitRequest, undoLogDeleteRequest, rollbackRequest));
+        mergedWarpMessage.msgIds.addAll(Arrays.asList(11, 12, 13));
+        RpcMessage rpcMessage = new RpcMessage();
+        rpcMessage.setBody(mergedWarpMessage);
+
+        new RmMergedRequestProcessor(handler, remotingClient, Runnable::run).process(newContext(), rpcMessage);
+
+        verify(handler).onRequest(undoLogDeleteRequest, null);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(remotingClient).sendAsyncResponse(eq("127.0.0.1:8091"), eq(rpcMessage), captor.capture());
+        BatchResultMessage batchResultMessage = (BatchResultMessage) captor.getValue();
+        // the one-way undo log delete gets no result
+        Assertions.assertEquals(Arrays.asList(11, 13), batchResultMessage.getMsgIds());
+        Assertions.assertSame(commitResponse, batchResultMessage.getResultMessages().get(0));
+        BranchRollbackResponse rollbackResponse = (BranchRollbackResponse) batchResultMessage.getResultMessages().get(1);
+        Assertions.assertEquals(ResultCode.Failed, rollbackResponse.getResultCode());
+        Assertions.assertEquals(3L, rollbackResponse.getBranchId());
+        Assertions.assertEquals("127.0.0.1:8091:1", rollbackResponse.getXid());
+        Assertions.assertTrue(rollbackResponse.getMsg().contains("rollback failed"));
+    }
+
+    @Test
+    public void testProcessUndoLogDeleteOnly() throws Exception {
+        TransactionMessageHandler handler = mock(TransactionMessageHandler.class);
+        RemotingClient remotingClient = mock(RemotingClient.class);
+        MergedWarpMessage mergedWarpMessage = new MergedWarpMessage();
+        mergedWarpMessage.msgs.add(new UndoLogDeleteRequest());
+        mergedWarpMessage.msgIds.add(1);
+        RpcMessage rpcMessage = new RpcMessage();
+        rpcMessage.setBody(mergedWarpMessage);
+
+        new RmMergedRequestProcessor(handler, remotingClient, Runnable::run).process(newContext(), rpcMessage);
+
+        verify(handler).onRequest(any(UndoLogDeleteRequest.class), eq(null));
+        verify(remotingClient, never()).sendAsyncResponse(any(), any(), any());
+    }
+
+    private static ChannelHandlerContext newContext() {
+        Channel channel = mock(Channel.class);
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8091));
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(ctx.channel()).thenReturn(channel);
+        return ctx;
+    }
+}
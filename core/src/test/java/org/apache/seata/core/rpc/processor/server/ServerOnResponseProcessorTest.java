@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.rpc.processor.server;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.seata.core.protocol.BatchResultMessage;
+import org.apache.seata.core.protocol.MessageFuture;
+import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
+import org.apache.seata.core.protocol.transaction.BranchRollbackResponse;
+import org.apache.seata.core.rpc.RpcContext;
+import org.apache.seata.core.rpc.TransactionMessageHandler;
+import org.apache.seata.core.rpc.netty.ChannelManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ServerOnResponseProcessorTest {
+
+    @Test
+    public void testOnBatchResultMessage() throws Exception {
+        Channel channel = mock(Channel.class);
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8091));
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(ctx.channel()).thenReturn(channel);
+        RpcContext rpcContext = new RpcContext();
+        rpcContext.setTransactionServiceGroup("default_tx_group");
+
+        ConcurrentHashMap<Integer, MessageFuture> futures = new ConcurrentHashMap<>();
+        MessageFuture messageFuture = new MessageFuture();
+        messageFuture.setTimeout(3000);
+        futures.put(1, messageFuture);
+        TransactionMessageHandler handler = mock(TransactionMessageHandler.class);
+
+        BranchCommitResponse commitResponse = new BranchCommitResponse();
+        BranchRollbackResponse rollbackResponse = new BranchRollbackResponse();
+        BatchResultMessage batchResultMessage = new BatchResultMessage();
+        batchResultMessage.getMsgIds().addAll(Arrays.asList(1, 2));
+        batchResultMessage.getResultMessages().addAll(Arrays.asList(commitResponse, rollbackResponse));
+        RpcMessage rpcMessage = new RpcMessage();
+        rpcMessage.setId(100);
+        rpcMessage.setBody(batchResultMessage);
+
+        try (MockedStatic<ChannelManager> channelManager = Mockito.mockStatic(ChannelManager.class)) {
+            channelManager.when(() -> ChannelManager.getContextFromIdentified(channel)).thenReturn(rpcContext);
+            channelManager.when(() -> ChannelManager.isRegistered(channel)).thenReturn(true);
+            new ServerOnResponseProcessor(handler, futures).process(ctx, rpcMessage);
+        }
+
+        // the future waiting for the first request is completed by its msgId, not by the id of the batch
+        Assertions.assertSame(commitResponse, messageFuture.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(futures.isEmpty());
+        // nobody waits for the second one, it goes to the handler
+        verify(handler).onResponse(rollbackResponse, rpcContext);
+        verify(handler, never()).onResponse(commitResponse, rpcContext);
+        verify(ctx, never()).close();
+        verify(handler, never()).onRequest(any(), any());
+    }
+}
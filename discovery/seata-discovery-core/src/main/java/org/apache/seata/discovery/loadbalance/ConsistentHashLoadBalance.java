@@ -16,10 +16,10 @@
  */
 package org.apache.seata.discovery.loadbalance;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -30,6 +30,10 @@ import static org.apache.seata.common.DefaultValues.VIRTUAL_NODES_DEFAULT;
 
 /**
  * The type consistent hash load balance.
+ * <p>
+ * The hash ring is cached and only changed when the invokers change, by removing the virtual nodes of the invokers
+ * gone and adding the ones of the invokers new, so a select is one hash and one lookup.
+ * </p>
  */
 @LoadLevel(name = LoadBalanceFactory.CONSISTENT_HASH_LOAD_BALANCE)
 public class ConsistentHashLoadBalance implements LoadBalance {
@@ -45,52 +49,103 @@ public class ConsistentHashLoadBalance implements LoadBalance {
     private static final int VIRTUAL_NODES_NUM = ConfigurationFactory.getInstance().getInt(
         LOAD_BALANCE_CONSISTENT_HASH_VIRTUAL_NODES, VIRTUAL_NODES_DEFAULT);
 
+    private static final HashFunction HASH_FUNCTION = new Fnv1aHash();
+
+    private volatile ConsistentHashSelector<?> selector;
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T select(List<T> invokers, String xid) {
-        return new ConsistentHashSelector<>(invokers, VIRTUAL_NODES_NUM).select(xid);
+        ConsistentHashSelector<T> current = (ConsistentHashSelector<T>) selector;
+        if (current == null || !current.invokers.equals(invokers)) {
+            current = current == null ? new ConsistentHashSelector<>(invokers, VIRTUAL_NODES_NUM)
+                : current.update(invokers);
+            selector = current;
+        }
+        return current.select(xid);
     }
 
     private static final class ConsistentHashSelector<T> {
 
-        private final SortedMap<Long, T> virtualInvokers = new TreeMap<>();
-        private final HashFunction hashFunction = new SHA256Hash();
+        private final List<T> invokers;
+        private final TreeMap<Long, T> virtualInvokers;
+        private final int virtualNodes;
 
         ConsistentHashSelector(List<T> invokers, int virtualNodes) {
+            this(new ArrayList<>(invokers), new TreeMap<>(), virtualNodes);
+            for (T invoker : this.invokers) {
+                addVirtualNodes(invoker);
+            }
+        }
+
+        private ConsistentHashSelector(List<T> invokers, TreeMap<Long, T> virtualInvokers, int virtualNodes) {
+            this.invokers = invokers;
+            this.virtualInvokers = virtualInvokers;
+            this.virtualNodes = virtualNodes;
+        }
+
+        /**
+         * Build the selector of the new invokers from this one, only the changed invokers are hashed.
+         */
+        ConsistentHashSelector<T> update(List<T> newInvokers) {
+            ConsistentHashSelector<T> updated = new ConsistentHashSelector<>(new ArrayList<>(newInvokers),
+                new TreeMap<>(virtualInvokers), virtualNodes);
+            Set<T> oldSet = new HashSet<>(invokers);
+            Set<T> newSet = new HashSet<>(newInvokers);
             for (T invoker : invokers) {
-                for (int i = 0; i < virtualNodes; i++) {
-                    virtualInvokers.put(hashFunction.hash(invoker.toString() + i), invoker);
+                if (!newSet.contains(invoker)) {
+                    updated.removeVirtualNodes(invoker);
                 }
             }
+            for (T invoker : newInvokers) {
+                if (!oldSet.contains(invoker)) {
+                    updated.addVirtualNodes(invoker);
+                }
+            }
+            return updated;
+        }
+
+        private void addVirtualNodes(T invoker) {
+            for (int i = 0; i < virtualNodes; i++) {
+                virtualInvokers.put(HASH_FUNCTION.hash(invoker.toString() + i), invoker);
+            }
+        }
+
+        private void removeVirtualNodes(T invoker) {
+            for (int i = 0; i < virtualNodes; i++) {
+                virtualInvokers.remove(HASH_FUNCTION.hash(invoker.toString() + i), invoker);
+            }
         }
 
         public T select(String objectKey) {
-            SortedMap<Long, T> tailMap = virtualInvokers.tailMap(hashFunction.hash(objectKey));
+            SortedMap<Long, T> tailMap = virtualInvokers.tailMap(HASH_FUNCTION.hash(objectKey));
             Long nodeHashVal = tailMap.isEmpty() ? virtualInvokers.firstKey() : tailMap.firstKey();
             return virtualInvokers.get(nodeHashVal);
         }
     }
 
-    private static class SHA256Hash implements HashFunction {
-        MessageDigest instance;
+    /**
+     * 64 bit FNV-1a over the chars of the key, followed by the murmur3 finalizer to spread the close keys
+     * such as "ip:port0", "ip:port1" over the whole ring.
+     */
+    private static class Fnv1aHash implements HashFunction {
 
-        public SHA256Hash() {
-            try {
-                instance = MessageDigest.getInstance("SHA-256");
-            } catch (NoSuchAlgorithmException e) {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
-        }
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+        private static final long FNV_PRIME = 0x100000001b3L;
 
         @Override
         public long hash(String key) {
-            instance.reset();
-            instance.update(key.getBytes());
-            byte[] digest = instance.digest(key.getBytes(StandardCharsets.UTF_8));
-            long hash = 0;
-            for (int i = 0; i < 8 && i < digest.length; i++) {
-                hash <<= 8;
-                hash |= digest[i] & 0xff;
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= FNV_PRIME;
             }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb3fe1a85ec53L;
+            hash ^= hash >>> 33;
             return hash;
         }
     }
@@ -22,6 +22,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -108,6 +109,29 @@ public class LoadBalanceTest {
         Assertions.assertEquals(1, selected, "selected must be equal to 1");
     }
 
+    /**
+     * Test consistent hash load balance select after the invokers change.
+     *
+     * @param addresses the addresses
+     */
+    @ParameterizedTest
+    @MethodSource("addressProvider")
+    public void testConsistentHashLoadBalance_invokersChange(List<InetSocketAddress> addresses) {
+        List<InetSocketAddress> removed = new ArrayList<>(addresses.subList(1, addresses.size()));
+        ConsistentHashLoadBalance loadBalance = new ConsistentHashLoadBalance();
+        for (int i = 0; i < 100; i++) {
+            loadBalance.select(addresses, XID + i);
+        }
+        ConsistentHashLoadBalance fresh = new ConsistentHashLoadBalance();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(fresh.select(removed, XID + i), loadBalance.select(removed, XID + i));
+        }
+        fresh = new ConsistentHashLoadBalance();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(fresh.select(addresses, XID + i), loadBalance.select(addresses, XID + i));
+        }
+    }
+
     /**
      * Test least active load balance select.
      *
@@ -25,6 +25,8 @@ public interface IdConstants {
 
     String SEATA_EXCEPTION = "seata.exception";
 
+    String SEATA_BRANCH = "seata.branch";
+
     String APP_ID_KEY = "applicationId";
     
     String GROUP_KEY = "group";
@@ -39,6 +41,10 @@ public interface IdConstants {
 
     String STATUS_KEY = "status";
 
+    String ACTION_KEY = "action";
+
+    String QUANTILE_KEY = "quantile";
+
     String ROLE_VALUE_TC = "tc";
 
     String ROLE_VALUE_TM = "tm";
@@ -53,6 +59,8 @@ public interface IdConstants {
 
     String METER_VALUE_TIMER = "timer";
 
+    String METER_VALUE_HISTOGRAM = "histogram";
+
     String STATISTIC_VALUE_COUNT = "count";
 
     String STATISTIC_VALUE_TOTAL = "total";
@@ -63,6 +71,12 @@ public interface IdConstants {
 
     String STATISTIC_VALUE_AVERAGE = "average";
 
+    String ACTION_VALUE_REGISTER = "register";
+
+    String ACTION_VALUE_COMMIT = "commit";
+
+    String ACTION_VALUE_ROLLBACK = "rollback";
+
     String STATUS_VALUE_ACTIVE = "active";
 
     String STATUS_VALUE_COMMITTED = "committed";
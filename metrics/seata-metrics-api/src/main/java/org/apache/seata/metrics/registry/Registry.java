@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 
 import org.apache.seata.metrics.Counter;
 import org.apache.seata.metrics.Gauge;
+import org.apache.seata.metrics.Histogram;
 import org.apache.seata.metrics.Id;
 import org.apache.seata.metrics.Measurement;
 import org.apache.seata.metrics.Summary;
@@ -38,6 +39,8 @@ public interface Registry {
 
     Timer getTimer(Id id);
 
+    Histogram getHistogram(Id id);
+
     Iterable<Measurement> measure();
 
     void clearUp();
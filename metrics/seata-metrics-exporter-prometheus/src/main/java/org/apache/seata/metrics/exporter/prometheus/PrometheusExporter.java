@@ -19,7 +19,9 @@ package org.apache.seata.metrics.exporter.prometheus;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import io.prometheus.client.Collector;
@@ -29,6 +31,7 @@ import io.prometheus.client.exporter.HTTPServer;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.metrics.IdConstants;
 import org.apache.seata.metrics.Measurement;
 import org.apache.seata.metrics.exporter.Exporter;
 import org.apache.seata.metrics.registry.Registry;
@@ -66,16 +69,56 @@ public class PrometheusExporter extends Collector implements Collector.Describab
         if (registry != null) {
             Iterable<Measurement> measurements = registry.measure();
             List<Sample> samples = new ArrayList<>();
-            measurements.forEach(measurement -> samples.add(convertMeasurementToSample(measurement)));
+            Map<String, List<Sample>> summarySamples = new LinkedHashMap<>();
+            measurements.forEach(measurement -> {
+                if (isHistogram(measurement)) {
+                    String prometheusName = measurement.getId().getName().replace(".", "_");
+                    summarySamples.computeIfAbsent(prometheusName, key -> new ArrayList<>())
+                        .add(convertHistogramMeasurementToSample(prometheusName, measurement));
+                } else {
+                    samples.add(convertMeasurementToSample(measurement));
+                }
+            });
 
             if (!samples.isEmpty()) {
                 Type unknownType = getUnknownType();
                 familySamples.add(new MetricFamilySamples("seata", unknownType, "seata", samples));
             }
+            summarySamples.forEach((name, histogramSamples) ->
+                familySamples.add(new MetricFamilySamples(name, Type.SUMMARY, name, histogramSamples)));
         }
         return familySamples;
     }
 
+    private boolean isHistogram(Measurement measurement) {
+        for (Entry<String, String> tag : measurement.getId().getTags()) {
+            if (IdConstants.METER_KEY.equals(tag.getKey())) {
+                return IdConstants.METER_VALUE_HISTOGRAM.equals(tag.getValue());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Histograms are exported as prometheus summaries: the quantile samples, name_count and name_sum
+     */
+    private Sample convertHistogramMeasurementToSample(String prometheusName, Measurement measurement) {
+        String sampleName = prometheusName;
+        List<String> labelNames = new ArrayList<>();
+        List<String> labelValues = new ArrayList<>();
+        for (Entry<String, String> tag : measurement.getId().getTags()) {
+            if (IdConstants.STATISTIC_KEY.equals(tag.getKey())) {
+                sampleName = IdConstants.STATISTIC_VALUE_COUNT.equals(tag.getValue()) ? prometheusName + "_count"
+                    : prometheusName + "_sum";
+            } else {
+                labelNames.add(tag.getKey());
+                labelValues.add(tag.getValue());
+            }
+        }
+        return new Sample(sampleName, labelNames, labelValues, measurement.getValue(),
+            (long)measurement.getTimestamp());
+    }
+
     private Sample convertMeasurementToSample(Measurement measurement) {
         String prometheusName = measurement.getId().getName().replace(".", "_");
         List<String> labelNames = new ArrayList<>();
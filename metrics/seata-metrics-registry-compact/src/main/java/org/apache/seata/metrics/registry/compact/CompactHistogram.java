@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.registry.compact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.seata.metrics.Clock;
+import org.apache.seata.metrics.Histogram;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.Measurement;
+import org.apache.seata.metrics.SystemClock;
+
+/**
+ * Compact Histogram implement with HistogramValue, count and total keep growing like a prometheus summary
+ * while the quantiles are computed over the values recorded since the last measure
+ *
+ */
+public class CompactHistogram implements Histogram {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999, 1};
+
+    private final Id id;
+
+    private final Id countId;
+
+    private final Id totalId;
+
+    private final Id[] quantileIds;
+
+    private final LongAdder count;
+
+    private final LongAdder total;
+
+    private volatile HistogramValue value;
+
+    private final Clock clock;
+
+    public CompactHistogram(Id id) {
+        this(id, SystemClock.INSTANCE);
+    }
+
+    public CompactHistogram(Id id, Clock clock) {
+        this.id = id;
+        this.countId = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_COUNT);
+        this.totalId = new Id(id.getName()).withTag(id.getTags())
+            .withTag(IdConstants.STATISTIC_KEY, IdConstants.STATISTIC_VALUE_TOTAL);
+        this.quantileIds = new Id[QUANTILES.length];
+        for (int i = 0; i < QUANTILES.length; i++) {
+            this.quantileIds[i] = new Id(id.getName()).withTag(id.getTags())
+                .withTag(IdConstants.QUANTILE_KEY, String.valueOf(QUANTILES[i]));
+        }
+        this.count = new LongAdder();
+        this.total = new LongAdder();
+        this.value = new HistogramValue();
+        this.clock = clock;
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    @Override
+    public void record(long value, TimeUnit unit) {
+        if (value < 0) {
+            return;
+        }
+        long changeValue = unit == TimeUnit.MICROSECONDS ? value : TimeUnit.MICROSECONDS.convert(value, unit);
+        this.count.increment();
+        this.total.add(changeValue);
+        this.value.record(changeValue);
+    }
+
+    @Override
+    public long count() {
+        return this.count.longValue();
+    }
+
+    @Override
+    public long total() {
+        return this.total.longValue();
+    }
+
+    @Override
+    public long valueAtQuantile(double quantile) {
+        return this.value.getValueAtQuantile(quantile);
+    }
+
+    @Override
+    public Iterable<Measurement> measure() {
+        //reset the quantile window when measure
+        double time = clock.getCurrentMilliseconds();
+        HistogramValue value = this.value;
+        this.value = new HistogramValue();
+        List<Measurement> measurements = new ArrayList<>(QUANTILES.length + 2);
+        measurements.add(new Measurement(countId, time, count.longValue()));
+        measurements.add(new Measurement(totalId, time, total.longValue() * 0.001));
+        for (int i = 0; i < QUANTILES.length; i++) {
+            measurements.add(new Measurement(quantileIds[i], time, value.getValueAtQuantile(QUANTILES[i]) * 0.001));
+        }
+        return measurements;
+    }
+}
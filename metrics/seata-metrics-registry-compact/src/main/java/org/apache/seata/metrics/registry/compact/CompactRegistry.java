@@ -26,6 +26,7 @@ import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.metrics.Counter;
 import org.apache.seata.metrics.Gauge;
+import org.apache.seata.metrics.Histogram;
 import org.apache.seata.metrics.Id;
 import org.apache.seata.metrics.Measurement;
 import org.apache.seata.metrics.Meter;
@@ -65,6 +66,12 @@ public class CompactRegistry implements Registry {
                 new Id(id.getName()).withTag(id.getTags())));
     }
 
+    @Override
+    public Histogram getHistogram(Id id) {
+        return (Histogram)CollectionUtils.computeIfAbsent(METERS, id.getMeterKey(), key -> new CompactHistogram(
+                new Id(id.getName()).withTag(id.getTags())));
+    }
+
     @Override
     public Iterable<Measurement> measure() {
         final List<Measurement> measurements = new ArrayList<>();
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.exporter.prometheus;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.Measurement;
+import org.apache.seata.metrics.registry.compact.CompactHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CompactHistogramTest {
+
+    private CompactHistogram compactHistogram;
+
+    @BeforeEach
+    public void setUp() {
+        compactHistogram = new CompactHistogram(new Id("test"));
+    }
+
+    @Test
+    public void testRecord() {
+        compactHistogram.record(5, TimeUnit.MILLISECONDS);
+        compactHistogram.record(10, TimeUnit.MILLISECONDS);
+        compactHistogram.record(-1, TimeUnit.MILLISECONDS);
+        assertEquals(2, compactHistogram.count());
+        assertEquals(15000, compactHistogram.total());
+        assertEquals(10000, compactHistogram.valueAtQuantile(1));
+    }
+
+    @Test
+    public void testMeasure() {
+        for (int i = 1; i <= 100; i++) {
+            compactHistogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        Iterator<Measurement> iterator = compactHistogram.measure().iterator();
+        assertEquals(100, iterator.next().getValue());
+        assertEquals(5050, iterator.next().getValue(), 0.01);
+        Measurement p50 = iterator.next();
+        assertEquals("0.5", quantile(p50));
+        assertEquals(50, p50.getValue(), 50 / 32.0);
+        iterator.next();
+        Measurement p99 = iterator.next();
+        assertEquals("0.99", quantile(p99));
+        assertEquals(99, p99.getValue(), 99 / 32.0);
+        iterator.next();
+        assertEquals(100, iterator.next().getValue(), 0.01);
+
+        // count and total keep growing, the quantiles only cover the new window
+        compactHistogram.record(1, TimeUnit.MILLISECONDS);
+        iterator = compactHistogram.measure().iterator();
+        assertEquals(101, iterator.next().getValue());
+        assertEquals(5051, iterator.next().getValue(), 0.01);
+        assertEquals(1, iterator.next().getValue(), 0.01);
+    }
+
+    private static String quantile(Measurement measurement) {
+        for (Entry<String, String> tag : measurement.getId().getTags()) {
+            if (IdConstants.QUANTILE_KEY.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+}
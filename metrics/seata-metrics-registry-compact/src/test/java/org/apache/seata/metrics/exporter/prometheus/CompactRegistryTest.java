@@ -108,4 +108,19 @@ public class CompactRegistryTest {
         compactRegistry.clearUp();
     }
 
+    @Test
+    public void testGetHistogram() {
+        when(id.getName()).thenReturn("test");
+        SortedMap<String, String> sortedMap = new TreeMap<>();
+        sortedMap.put("testTag", "testValue");
+        when(id.getTags()).thenReturn(sortedMap.entrySet());
+        when(id.getMeterKey()).thenReturn("testKey");
+        Histogram histogram = compactRegistry.getHistogram(id);
+
+        Id id2 = new Id(id.getName()).withTag(id.getTags());
+        assertEquals(id2.getName(), histogram.getId().getName());
+        assertEquals(id2.getTags(), histogram.getId().getTags());
+        compactRegistry.clearUp();
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.metrics.exporter.prometheus;
+
+import org.apache.seata.metrics.registry.compact.HistogramValue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistogramValueTest {
+
+    @Test
+    public void testEmpty() {
+        HistogramValue histogramValue = new HistogramValue();
+        assertEquals(0, histogramValue.getCount());
+        assertEquals(0, histogramValue.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        HistogramValue histogramValue = new HistogramValue();
+        for (long i = 1; i <= 10; i++) {
+            histogramValue.record(i);
+        }
+        histogramValue.record(-1);
+        assertEquals(10, histogramValue.getCount());
+        assertEquals(5, histogramValue.getValueAtQuantile(0.5));
+        assertEquals(10, histogramValue.getValueAtQuantile(1));
+        assertEquals(10, histogramValue.getMax());
+    }
+
+    @Test
+    public void testQuantileError() {
+        HistogramValue histogramValue = new HistogramValue();
+        for (long i = 1; i <= 100000; i++) {
+            histogramValue.record(i * 10);
+        }
+        assertQuantile(500000, histogramValue.getValueAtQuantile(0.5));
+        assertQuantile(990000, histogramValue.getValueAtQuantile(0.99));
+        assertQuantile(999000, histogramValue.getValueAtQuantile(0.999));
+        assertEquals(1000000, histogramValue.getValueAtQuantile(1));
+    }
+
+    @Test
+    public void testTail() {
+        HistogramValue histogramValue = new HistogramValue();
+        for (int i = 0; i < 990; i++) {
+            histogramValue.record(1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogramValue.record(500000);
+        }
+        assertQuantile(1000, histogramValue.getValueAtQuantile(0.5));
+        assertQuantile(1000, histogramValue.getValueAtQuantile(0.99));
+        assertQuantile(500000, histogramValue.getValueAtQuantile(0.999));
+        histogramValue.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogramValue.getValueAtQuantile(1));
+    }
+
+    private static void assertQuantile(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32,
+            "expected ~" + expected + " but " + actual);
+    }
+}
@@ -16,12 +16,17 @@
  */
 package org.apache.seata.rm.datasource.exec;
 
+import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.StringJoiner;
 
 import org.apache.seata.common.util.IOUtil;
@@ -32,7 +37,14 @@ import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.common.DefaultValues;
 import org.apache.seata.rm.datasource.SqlGenerateUtils;
 import org.apache.seata.rm.datasource.StatementProxy;
+import org.apache.seata.rm.datasource.sql.struct.Field;
+import org.apache.seata.rm.datasource.sql.struct.Row;
+import org.apache.seata.sqlparser.ParametersHolder;
+import org.apache.seata.sqlparser.SqlParserType;
+import org.apache.seata.sqlparser.struct.ColumnMeta;
+import org.apache.seata.sqlparser.struct.Null;
 import org.apache.seata.sqlparser.struct.TableMeta;
+import org.apache.seata.sqlparser.util.JdbcConstants;
 import org.apache.seata.rm.datasource.sql.struct.TableRecords;
 import org.apache.seata.sqlparser.SQLRecognizer;
 import org.apache.seata.sqlparser.SQLUpdateRecognizer;
@@ -50,6 +62,19 @@ public class UpdateExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
     private static final boolean ONLY_CARE_UPDATE_COLUMNS = CONFIG.getBoolean(
         ConfigurationKeys.TRANSACTION_UNDO_ONLY_CARE_UPDATE_COLUMNS, DefaultValues.DEFAULT_ONLY_CARE_UPDATE_COLUMNS);
 
+    /**
+     * only the druid recognizers hand out the evaluated SET values, the antlr one returns the raw SQL text
+     */
+    private static final boolean DERIVE_AFTER_IMAGE = CONFIG.getBoolean(
+        ConfigurationKeys.TRANSACTION_UNDO_DERIVE_AFTER_IMAGE, DefaultValues.DEFAULT_DERIVE_AFTER_IMAGE)
+        && SqlParserType.SQL_PARSER_TYPE_DRUID.equals(
+            CONFIG.getConfig(ConfigurationKeys.SQL_PARSER_TYPE, SqlParserType.SQL_PARSER_TYPE_DRUID));
+
+    /**
+     * returned by {@link #deriveValue} when the stored value can not be predicted
+     */
+    private static final Object NOT_DERIVABLE = new Object();
+
     /**
      * Instantiates a new Update executor.
      *
@@ -99,6 +124,12 @@ public class UpdateExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
         if (beforeImage == null || beforeImage.size() == 0) {
             return TableRecords.empty(getTableMeta());
         }
+        if (DERIVE_AFTER_IMAGE) {
+            TableRecords afterImage = deriveAfterImage(tmeta, beforeImage);
+            if (afterImage != null) {
+                return afterImage;
+            }
+        }
         String selectSQL = buildAfterImageSQL(tmeta, beforeImage);
         PreparedStatement pst = null;
         ResultSet rs = null;
@@ -121,4 +152,203 @@ public class UpdateExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
         return SqlGenerateUtils.buildSQLByPKs(selectSQLJoiner.toString(), "", tableMeta.getPrimaryKeyOnlyName(), beforeImage.pkRows().size(), getDbType());
     }
 
+    /**
+     * Build the after image from the before image and the SET values of the statement, without querying
+     * the rows again. The rows are locked by the before image query, so only the SET columns can change,
+     * unless the database changes them itself. ON UPDATE columns are detected, update triggers are not, so
+     * it must stay disabled for tables with triggers that change the updated rows.
+     *
+     * @param tableMeta   the table meta
+     * @param beforeImage the before image
+     * @return the after image, or null if any SET value can not be predicted exactly
+     */
+    protected TableRecords deriveAfterImage(TableMeta tableMeta, TableRecords beforeImage) {
+        for (ColumnMeta columnMeta : tableMeta.getAllColumns().values()) {
+            if (columnMeta.isOnUpdate()) {
+                return null;
+            }
+        }
+        Map<String, Object> newValues = getNewValues();
+        if (newValues == null) {
+            return null;
+        }
+        TableRecords afterImage = new TableRecords(tableMeta);
+        for (Row beforeRow : beforeImage.getRows()) {
+            Row row = new Row();
+            int changed = 0;
+            for (Field beforeField : beforeRow.getFields()) {
+                Object value = beforeField.getValue();
+                String column = beforeField.getName().toUpperCase(Locale.ROOT);
+                if (newValues.containsKey(column)) {
+                    value = deriveValue(getDbType(), tableMeta.getColumnMeta(beforeField.getName()), value,
+                        newValues.get(column));
+                    if (value == NOT_DERIVABLE) {
+                        return null;
+                    }
+                    changed++;
+                }
+                Field field = new Field(beforeField.getName(), beforeField.getType(), value);
+                field.setKeyType(beforeField.getKeyType());
+                row.add(field);
+            }
+            if (changed != newValues.size()) {
+                return null;
+            }
+            afterImage.add(row);
+        }
+        return afterImage;
+    }
+
+    /**
+     * the SET values keyed by the upper case column name, null when any of them is not a literal or a parameter
+     */
+    private Map<String, Object> getNewValues() {
+        SQLUpdateRecognizer recognizer = (SQLUpdateRecognizer) sqlRecognizer;
+        List<String> columns = recognizer.getUpdateColumnsUnEscape();
+        List<Object> values;
+        try {
+            values = recognizer.getUpdateValues();
+        } catch (RuntimeException e) {
+            // an expression like a = a + 1 or a = now()
+            return null;
+        }
+        List<Integer> parameterIndexes = recognizer.getUpdateValueParameterIndexes();
+        if (values == null || values.size() != columns.size()
+            || parameterIndexes == null || parameterIndexes.size() != columns.size()) {
+            return null;
+        }
+        Map<Integer, ArrayList<Object>> parameters = statementProxy instanceof ParametersHolder
+            ? ((ParametersHolder) statementProxy).getParameters() : null;
+        Map<String, Object> newValues = new HashMap<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = values.get(i);
+            // numbered by the parser over the whole statement, placeholders of a join or subquery may come first
+            int parameterIndex = parameterIndexes.get(i);
+            if (parameterIndex > 0) {
+                ArrayList<Object> parameter = parameters == null ? null : parameters.get(parameterIndex);
+                if (parameter == null || parameter.size() != 1) {
+                    return null;
+                }
+                value = parameter.get(0) == Null.get() ? null : parameter.get(0);
+            } else if (!isLiteral(value)) {
+                // a variable like @var
+                return null;
+            }
+            String column = columns.get(i);
+            column = column.substring(column.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+            newValues.put(column, value);
+            if (newValues.size() != i + 1) {
+                return null;
+            }
+        }
+        return newValues;
+    }
+
+    /**
+     * the value the database will store, or {@link #NOT_DERIVABLE} when it may convert the new value
+     */
+    private static Object deriveValue(String dbType, ColumnMeta columnMeta, Object oldValue, Object newValue) {
+        if (columnMeta == null) {
+            return NOT_DERIVABLE;
+        }
+        int dataType = columnMeta.getDataType();
+        if (dataType == Types.CHAR || dataType == Types.NCHAR) {
+            // padded to the column length
+            return NOT_DERIVABLE;
+        }
+        if (newValue == null) {
+            return null;
+        }
+        if (oldValue == null) {
+            // the java type the driver returns for this column is unknown
+            return NOT_DERIVABLE;
+        }
+        if (oldValue.getClass() == newValue.getClass()) {
+            if (newValue instanceof String) {
+                return isPlainVarchar(dbType, columnMeta) && !(isOracle(dbType) && ((String) newValue).isEmpty())
+                    ? newValue : NOT_DERIVABLE;
+            }
+            if (newValue instanceof Boolean || isIntegral(newValue)) {
+                return newValue;
+            }
+            if (newValue instanceof BigDecimal) {
+                return toColumnScale(dbType, columnMeta, (BigDecimal) newValue);
+            }
+            return NOT_DERIVABLE;
+        }
+        if (isIntegral(newValue)) {
+            long value = ((Number) newValue).longValue();
+            if (oldValue instanceof Long) {
+                return value;
+            }
+            if (oldValue instanceof Integer && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            if (oldValue instanceof BigDecimal) {
+                return toColumnScale(dbType, columnMeta, BigDecimal.valueOf(value));
+            }
+        }
+        return NOT_DERIVABLE;
+    }
+
+    /**
+     * the decimal as the database returns it, only known where every value of the column has the declared scale
+     */
+    private static Object toColumnScale(String dbType, ColumnMeta columnMeta, BigDecimal value) {
+        int dataType = columnMeta.getDataType();
+        if ((dataType != Types.DECIMAL && dataType != Types.NUMERIC) || !hasFixedDecimalScale(dbType)) {
+            // oracle NUMBER and postgresql numeric return each value at its own scale
+            return NOT_DERIVABLE;
+        }
+        try {
+            // the database would round anything longer
+            return value.setScale(columnMeta.getDecimalDigits());
+        } catch (ArithmeticException e) {
+            return NOT_DERIVABLE;
+        }
+    }
+
+    private static boolean hasFixedDecimalScale(String dbType) {
+        return JdbcConstants.MYSQL.equals(dbType) || JdbcConstants.MARIADB.equals(dbType)
+            || JdbcConstants.POLARDBX.equals(dbType) || JdbcConstants.SQLSERVER.equals(dbType);
+    }
+
+    private static boolean isLiteral(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Number;
+    }
+
+    /**
+     * a variable length character column that stores the string as it is, unlike JSON, ENUM or SET columns
+     */
+    private static boolean isPlainVarchar(String dbType, ColumnMeta columnMeta) {
+        int dataType = columnMeta.getDataType();
+        if (dataType != Types.VARCHAR && dataType != Types.NVARCHAR) {
+            return false;
+        }
+        String typeName = columnMeta.getDataTypeName();
+        if (typeName == null) {
+            return false;
+        }
+        typeName = typeName.toUpperCase(Locale.ROOT);
+        if (isOracle(dbType)) {
+            return "VARCHAR2".equals(typeName) || "NVARCHAR2".equals(typeName);
+        }
+        if (JdbcConstants.POSTGRESQL.equals(dbType) || JdbcConstants.KINGBASE.equals(dbType)) {
+            return "VARCHAR".equals(typeName) || "CHARACTER VARYING".equals(typeName);
+        }
+        return "VARCHAR".equals(typeName) || "NVARCHAR".equals(typeName);
+    }
+
+    /**
+     * the databases that store an empty string as null
+     */
+    private static boolean isOracle(String dbType) {
+        return JdbcConstants.ORACLE.equals(dbType) || JdbcConstants.DM.equals(dbType)
+            || JdbcConstants.OSCAR.equals(dbType);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
 }
@@ -16,14 +16,21 @@
  */
 package org.apache.seata.rm.datasource.sql;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.seata.common.DefaultValues;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.sqlparser.SQLRecognizer;
 import org.apache.seata.sqlparser.SQLRecognizerFactory;
 import org.apache.seata.sqlparser.SqlParserType;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class SQLVisitorFactory {
@@ -32,9 +39,23 @@ public class SQLVisitorFactory {
      */
     private final static SQLRecognizerFactory SQL_RECOGNIZER_FACTORY;
 
+    /**
+     * The cached recognizers by db type, then by sql. The recognizers are side-effect free, they only read their
+     * parsed ast, so one instance is shared by all executions of the same sql.
+     * An entry weighs one per started KB of its sql, each db type has a cache of the configured size.
+     */
+    private final static Map<String, Cache<String, List<SQLRecognizer>>> SQL_RECOGNIZER_CACHES =
+        new ConcurrentHashMap<>();
+
+    private static final long SQL_RECOGNIZER_CACHE_SIZE;
+
+    private static final int CACHE_WEIGHT_UNIT = 1024;
+
     static {
         String sqlParserType = ConfigurationFactory.getInstance().getConfig(ConfigurationKeys.SQL_PARSER_TYPE, SqlParserType.SQL_PARSER_TYPE_DRUID);
         SQL_RECOGNIZER_FACTORY = EnhancedServiceLoader.load(SQLRecognizerFactory.class, sqlParserType);
+        SQL_RECOGNIZER_CACHE_SIZE = ConfigurationFactory.getInstance().getLong(ConfigurationKeys.SQL_PARSER_CACHE_SIZE,
+            DefaultValues.DEFAULT_SQL_PARSER_CACHE_SIZE);
     }
 
     /**
@@ -45,8 +66,18 @@ public class SQLVisitorFactory {
      * @return the sql recognizer
      */
     public static List<SQLRecognizer> get(String sql, String dbType) {
-        return SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+        if (SQL_RECOGNIZER_CACHE_SIZE <= 0 || sql == null || dbType == null) {
+            return SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+        }
+        Cache<String, List<SQLRecognizer>> cache = CollectionUtils.computeIfAbsent(SQL_RECOGNIZER_CACHES, dbType,
+            key -> Caffeine.newBuilder().maximumWeight(SQL_RECOGNIZER_CACHE_SIZE)
+                .<String, List<SQLRecognizer>>weigher((k, value) -> k.length() / CACHE_WEIGHT_UNIT + 1).build());
+        List<SQLRecognizer> sqlRecognizers = cache.get(sql, key -> {
+            List<SQLRecognizer> created = SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+            // the sql not recognized is cached too, as an empty list
+            return created == null ? Collections.emptyList() : Collections.unmodifiableList(created);
+        });
+        return sqlRecognizers.isEmpty() ? null : sqlRecognizers;
     }
 
-
 }
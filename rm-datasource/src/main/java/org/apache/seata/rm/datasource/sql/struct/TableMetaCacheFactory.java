@@ -18,6 +18,7 @@ package org.apache.seata.rm.datasource.sql.struct;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +26,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
@@ -33,6 +35,7 @@ import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.rm.datasource.DataSourceProxy;
+import org.apache.seata.rm.datasource.sql.struct.cache.TableMetaSnapshot;
 import org.apache.seata.sqlparser.struct.TableMetaCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,12 +98,29 @@ public class TableMetaCacheFactory {
      */
     public static void tableMetaRefreshEvent(String resourceId) {
         TableMetaRefreshHolder refreshHolder = TABLE_META_REFRESH_HOLDER_MAP.get(resourceId);
+        if (refreshHolder == null) {
+            return;
+        }
         boolean offer = refreshHolder.tableMetaRefreshQueue.offer(System.nanoTime());
         if (!offer) {
             LOGGER.error("table refresh event offer error:{}", resourceId);
         }
     }
 
+    /**
+     * publish a refresh-ahead event of the stale table metas, at most one is pending per resource
+     */
+    public static void tableMetaRefreshAheadEvent(String resourceId) {
+        TableMetaRefreshHolder refreshHolder = TABLE_META_REFRESH_HOLDER_MAP.get(resourceId);
+        if (refreshHolder == null || !refreshHolder.refreshAheadPending.compareAndSet(false, true)) {
+            return;
+        }
+        if (!refreshHolder.tableMetaRefreshQueue.offer(System.nanoTime())) {
+            refreshHolder.refreshAheadPending.set(false);
+            LOGGER.error("table refresh event offer error:{}", resourceId);
+        }
+    }
+
     /**
      * Remove the TableMetaRefreshHolder from the map.
      */
@@ -114,6 +134,11 @@ public class TableMetaCacheFactory {
         private DataSourceProxy dataSource;
         private BlockingQueue<Long> tableMetaRefreshQueue;
 
+        /**
+         * cleared as soon as an event is taken, whether it is refreshed, skipped or fails
+         */
+        private final AtomicBoolean refreshAheadPending = new AtomicBoolean();
+
 
         private final Executor tableMetaRefreshExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
             new LinkedBlockingQueue<>(), new NamedThreadFactory("tableMetaRefresh", 1, true));
@@ -124,6 +149,7 @@ public class TableMetaCacheFactory {
             this.tableMetaRefreshQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
 
             tableMetaRefreshExecutor.execute(() -> {
+                prefetchSnapshotTables();
                 while (true) {
                     // 1. check table meta
                     if (ENABLE_TABLE_META_CHECKER_ENABLE
@@ -134,6 +160,9 @@ public class TableMetaCacheFactory {
                     // 2. refresh table meta
                     try {
                         Long eventTime = tableMetaRefreshQueue.poll(TABLE_META_REFRESH_INTERVAL_TIME, TimeUnit.MILLISECONDS);
+                        if (eventTime != null) {
+                            refreshAheadPending.set(false);
+                        }
                         // if it has bean refreshed not long ago, skip
                         if (eventTime != null && eventTime - lastRefreshFinishTime > TimeUnit.MILLISECONDS.toNanos(TABLE_META_REFRESH_INTERVAL_TIME)) {
                             try (Connection connection = dataSource.getConnection()) {
@@ -162,6 +191,22 @@ public class TableMetaCacheFactory {
             });
         }
 
+        /**
+         * Warm the cache up with the tables in the snapshot, on one connection and off the business threads.
+         */
+        private void prefetchSnapshotTables() {
+            List<String> tableNames = TableMetaSnapshot.load(dataSource.getResourceId());
+            if (tableNames.isEmpty()) {
+                return;
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                TableMetaCacheFactory.getTableMetaCache(dataSource.getDbType())
+                    .prefetch(connection, tableNames, dataSource.getResourceId());
+            } catch (Exception e) {
+                LOGGER.warn("prefetch table meta error:{}", e.getMessage(), e);
+            }
+        }
+
         /**
          * Helper method to determine if the exception is caused by the data source being closed.
          *
@@ -18,15 +18,20 @@ package org.apache.seata.rm.datasource.sql.struct.cache;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
 import org.apache.seata.common.exception.ShouldNeverHappenException;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.core.context.RootContext;
+import org.apache.seata.rm.datasource.sql.struct.TableMetaCacheFactory;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.sqlparser.struct.TableMetaCache;
 import org.slf4j.Logger;
@@ -44,12 +49,23 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
 
     private static final long EXPIRE_TIME = 900 * 1000;
 
+    /**
+     * An entry in use is served up to this age, the background refresh normally renews it long before.
+     */
+    private static final long MAX_STALE_TIME = 4 * EXPIRE_TIME;
+
     private static final Cache<String, TableMeta> TABLE_META_CACHE;
 
+    private static final Policy.Expiration<String, TableMeta> TABLE_META_AGE;
+
     static {
         try {
+            // idle tables expire, tables in use are refreshed ahead in the background instead of
+            // expiring under a business statement
             TABLE_META_CACHE = Caffeine.newBuilder().maximumSize(CACHE_SIZE)
-                    .expireAfterWrite(EXPIRE_TIME, TimeUnit.MILLISECONDS).softValues().build();
+                    .expireAfterAccess(EXPIRE_TIME, TimeUnit.MILLISECONDS)
+                    .expireAfterWrite(MAX_STALE_TIME, TimeUnit.MILLISECONDS).softValues().build();
+            TABLE_META_AGE = TABLE_META_CACHE.policy().expireAfterWrite().orElse(null);
         } catch (Throwable t) {
             LOGGER.error("Build the `TABLE_META_CACHE` failed:", t);
             throw t;
@@ -77,21 +93,54 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
             throw new ShouldNeverHappenException(String.format("[xid:%s] Get table meta failed," +
                 " please check whether the table `%s` exists.", RootContext.getXID(), tableName));
         }
+        refreshAheadIfStale(key, resourceId);
         return tmeta;
     }
 
+    private void refreshAheadIfStale(String key, String resourceId) {
+        if (TABLE_META_AGE == null) {
+            return;
+        }
+        long age = TABLE_META_AGE.ageOf(key, TimeUnit.MILLISECONDS).orElse(0L);
+        if (age > EXPIRE_TIME) {
+            // serve the stale meta, the refresh thread of the data source reloads it
+            TableMetaCacheFactory.tableMetaRefreshAheadEvent(resourceId);
+        }
+    }
+
+    @Override
+    public void prefetch(final Connection connection, Collection<String> tableNames, String resourceId) {
+        int loaded = 0;
+        for (String tableName : tableNames) {
+            String key = getCacheKey(connection, tableName, resourceId);
+            if (TABLE_META_CACHE.getIfPresent(key) != null) {
+                continue;
+            }
+            try {
+                TABLE_META_CACHE.put(key, fetchSchema(connection, tableName));
+                loaded++;
+            } catch (Exception e) {
+                LOGGER.warn("prefetch table meta of the table `{}` failed: {}", tableName, e.getMessage());
+            }
+        }
+        LOGGER.info("prefetched {} table metas of the resource {}", loaded, resourceId);
+    }
+
     @Override
     public void refresh(final Connection connection, String resourceId) {
+        List<String> tableNames = new ArrayList<>();
         ConcurrentMap<String, TableMeta> tableMetaMap = TABLE_META_CACHE.asMap();
         for (Map.Entry<String, TableMeta> entry : tableMetaMap.entrySet()) {
             String key = getCacheKey(connection, entry.getValue().getOriginalTableName(), resourceId);
             if (entry.getKey().equals(key)) {
+                String freshTableName = StringUtils.isBlank(entry.getValue().getOriginalTableName()) ?
+                        entry.getValue().getTableName() : entry.getValue().getOriginalTableName();
+                tableNames.add(freshTableName);
                 try {
-                    String freshTableName = StringUtils.isBlank(entry.getValue().getOriginalTableName()) ?
-                            entry.getValue().getTableName() : entry.getValue().getOriginalTableName();
                     TableMeta tableMeta = fetchSchema(connection, freshTableName);
+                    // put it back even if unchanged, which renews its age
+                    TABLE_META_CACHE.put(entry.getKey(), tableMeta);
                     if (!tableMeta.equals(entry.getValue())) {
-                        TABLE_META_CACHE.put(entry.getKey(), tableMeta);
                         LOGGER.info("table meta change was found, update table meta cache automatically.");
                     }
                 } catch (SQLException e) {
@@ -99,6 +148,9 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
                 }
             }
         }
+        if (!tableNames.isEmpty()) {
+            TableMetaSnapshot.save(resourceId, tableNames);
+        }
     }
 
 
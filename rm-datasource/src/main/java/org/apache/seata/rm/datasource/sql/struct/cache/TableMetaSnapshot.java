@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.sql.struct.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.seata.common.ConfigurationKeys;
+import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.config.ConfigurationFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The on-disk snapshot of the tables a resource has used, one table name per line, so a restarted RM can
+ * prefetch their metas in the background instead of loading them one by one on first use.
+ * Only the table names are kept, the metas are always read from the database.
+ *
+ */
+public final class TableMetaSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableMetaSnapshot.class);
+
+    private static final String SNAPSHOT_DIR = ConfigurationFactory.getInstance()
+        .getConfig(ConfigurationKeys.CLIENT_TABLE_META_SNAPSHOT_DIR);
+
+    private TableMetaSnapshot() {
+    }
+
+    /**
+     * Whether client.rm.tableMetaSnapshotDir is configured.
+     *
+     * @return the boolean
+     */
+    public static boolean isEnabled() {
+        return StringUtils.isNotBlank(SNAPSHOT_DIR);
+    }
+
+    /**
+     * Load the table names of the resource.
+     *
+     * @param resourceId the resource id
+     * @return the table names, empty if the snapshot is disabled or missing
+     */
+    public static List<String> load(String resourceId) {
+        if (!isEnabled()) {
+            return Collections.emptyList();
+        }
+        Path file = snapshotFile(resourceId);
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        try {
+            List<String> tableNames = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (StringUtils.isNotBlank(line)) {
+                    tableNames.add(line.trim());
+                }
+            }
+            return tableNames;
+        } catch (IOException e) {
+            LOGGER.warn("read table meta snapshot {} failed: {}", file, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Save the table names of the resource, the file is replaced atomically.
+     *
+     * @param resourceId the resource id
+     * @param tableNames the table names
+     */
+    public static void save(String resourceId, Collection<String> tableNames) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = snapshotFile(resourceId);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(tmp, tableNames, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("write table meta snapshot {} failed: {}", file, e.getMessage());
+        }
+    }
+
+    private static Path snapshotFile(String resourceId) {
+        String name = resourceId.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.length() > 64) {
+            name = name.substring(0, 64);
+        }
+        return Paths.get(SNAPSHOT_DIR, name + "-" + Integer.toHexString(resourceId.hashCode()) + ".tables");
+    }
+}
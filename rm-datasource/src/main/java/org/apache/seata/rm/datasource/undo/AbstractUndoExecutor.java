@@ -52,6 +52,7 @@ import org.apache.seata.sqlparser.util.ColumnUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_BATCH_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_DATA_VALIDATION;
 
 /**
@@ -77,6 +78,12 @@ public abstract class AbstractUndoExecutor {
     public static final boolean IS_UNDO_DATA_VALIDATION_ENABLE = ConfigurationFactory.getInstance()
             .getBoolean(ConfigurationKeys.TRANSACTION_UNDO_DATA_VALIDATION, DEFAULT_TRANSACTION_UNDO_DATA_VALIDATION);
 
+    /**
+     * The max rows of the undo rows sent in one jdbc batch, 1 or less executes the rows one by one.
+     */
+    public static final int UNDO_BATCH_SIZE = ConfigurationFactory.getInstance()
+            .getInt(ConfigurationKeys.TRANSACTION_UNDO_BATCH_SIZE, DEFAULT_TRANSACTION_UNDO_BATCH_SIZE);
+
     /**
      * The Sql undo log.
      */
@@ -123,7 +130,12 @@ public abstract class AbstractUndoExecutor {
             String undoSQL = buildUndoSQL();
             undoPST = conn.prepareStatement(undoSQL);
             TableRecords undoRows = getUndoRows();
-            for (Row undoRow : undoRows.getRows()) {
+            List<Row> rows = undoRows.getRows();
+            // the undo sql is the same for every row of one undo log, so the rows can share one batch,
+            // the dirty data validation above has already checked all of them.
+            boolean batch = UNDO_BATCH_SIZE > 1 && rows.size() > 1;
+            int batchedRows = 0;
+            for (Row undoRow : rows) {
                 ArrayList<Field> undoValues = new ArrayList<>();
                 List<Field> pkValueList = getOrderedPkList(undoRows, undoRow, connectionProxy.getDbType());
                 for (Field field : undoRow.getFields()) {
@@ -134,7 +146,18 @@ public abstract class AbstractUndoExecutor {
 
                 undoPrepare(undoPST, undoValues, pkValueList);
 
-                undoPST.executeUpdate();
+                if (!batch) {
+                    undoPST.executeUpdate();
+                    continue;
+                }
+                undoPST.addBatch();
+                if (++batchedRows >= UNDO_BATCH_SIZE) {
+                    undoPST.executeBatch();
+                    batchedRows = 0;
+                }
+            }
+            if (batchedRows > 0) {
+                undoPST.executeBatch();
             }
 
         } catch (Exception ex) {
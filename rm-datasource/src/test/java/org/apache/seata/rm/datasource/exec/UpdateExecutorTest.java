@@ -17,6 +17,8 @@
 package org.apache.seata.rm.datasource.exec;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
@@ -32,14 +34,20 @@ import com.google.common.collect.Lists;
 import org.apache.seata.rm.datasource.ConnectionProxy;
 import org.apache.seata.rm.datasource.DataSourceProxy;
 import org.apache.seata.rm.datasource.DataSourceProxyTest;
+import org.apache.seata.rm.datasource.PreparedStatementProxy;
 import org.apache.seata.rm.datasource.StatementProxy;
 import org.apache.seata.rm.datasource.exec.UpdateExecutor;
 import org.apache.seata.rm.datasource.mock.MockDriver;
+import org.apache.seata.rm.datasource.sql.struct.KeyType;
+import org.apache.seata.rm.datasource.sql.struct.Row;
 import org.apache.seata.rm.datasource.sql.struct.TableRecords;
 import org.apache.seata.sqlparser.druid.mysql.MySQLUpdateRecognizer;
+import org.apache.seata.sqlparser.struct.ColumnMeta;
+import org.apache.seata.sqlparser.struct.TableMeta;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 
 public class UpdateExecutorTest {
@@ -48,6 +56,8 @@ public class UpdateExecutorTest {
 
     private static StatementProxy statementProxy;
 
+    private static ConnectionProxy connectionProxy;
+
     @BeforeAll
     public static void init() {
         List<String> returnValueColumnLabels = Lists.newArrayList("id", "name", "all", "updated");
@@ -79,7 +89,7 @@ public class UpdateExecutorTest {
             Field field = dataSourceProxy.getClass().getDeclaredField("dbType");
             field.setAccessible(true);
             field.set(dataSourceProxy, "mysql");
-            ConnectionProxy connectionProxy = new ConnectionProxy(dataSourceProxy, dataSource.getConnection().getConnection());
+            connectionProxy = new ConnectionProxy(dataSourceProxy, dataSource.getConnection().getConnection());
             MockStatementBase mockStatement = new MockStatement(dataSource.getConnection().getConnection());
             statementProxy = new StatementProxy(connectionProxy, mockStatement);
         } catch (Exception e) {
@@ -265,4 +275,133 @@ public class UpdateExecutorTest {
         Assertions.assertNotNull(beforeImage);
         Assertions.assertNotNull(afterImage);
     }
+
+    @Test
+    public void testDeriveAfterImage() {
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("t");
+        addColumn(tableMeta, "id", Types.INTEGER, "INT");
+        addColumn(tableMeta, "name", Types.VARCHAR, "VARCHAR");
+        addColumn(tableMeta, "code", Types.CHAR, "CHAR");
+        addColumn(tableMeta, "amount", Types.DECIMAL, "DECIMAL");
+        addColumn(tableMeta, "doc", Types.LONGVARCHAR, "JSON");
+        addColumn(tableMeta, "tag", Types.VARCHAR, "SET");
+        tableMeta.getColumnMeta("amount").setDecimalDigits(2);
+        TableRecords beforeImage = new TableRecords(tableMeta);
+        Row row = new Row();
+        org.apache.seata.rm.datasource.sql.struct.Field pk =
+            new org.apache.seata.rm.datasource.sql.struct.Field("id", Types.INTEGER, 1);
+        pk.setKeyType(KeyType.PRIMARY_KEY);
+        row.add(pk);
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("name", Types.VARCHAR, "Tom"));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("code", Types.CHAR, "A"));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("amount", Types.DECIMAL, new BigDecimal("1.00")));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("doc", Types.LONGVARCHAR, "{}"));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("tag", Types.VARCHAR, "a"));
+        beforeImage.add(row);
+
+        TableRecords afterImage = newUpdateExecutor("update t set t.`name` = 'WILL', amount = 2 where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage);
+        Assertions.assertNotNull(afterImage);
+        List<org.apache.seata.rm.datasource.sql.struct.Field> fields = afterImage.getRows().get(0).getFields();
+        Assertions.assertEquals(1, fields.get(0).getValue());
+        Assertions.assertEquals(KeyType.PRIMARY_KEY, fields.get(0).getKeyType());
+        Assertions.assertEquals("WILL", fields.get(1).getValue());
+        Assertions.assertEquals("A", fields.get(2).getValue());
+        Assertions.assertEquals(new BigDecimal("2.00"), fields.get(3).getValue());
+        Assertions.assertEquals("Tom", beforeImage.getRows().get(0).getFields().get(1).getValue());
+
+        Assertions.assertNull(newUpdateExecutor("update t set name = concat(name, 'x') where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set code = 'B' where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set amount = 2.005 where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set name = 'a', name = 'b' where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set name = ? where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set name = @v where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set doc = '{\"a\": 1}' where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        Assertions.assertNull(newUpdateExecutor("update t set tag = 'b,a' where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+        afterImage = newUpdateExecutor("update t set name = '' where id = 1").deriveAfterImage(tableMeta, beforeImage);
+        Assertions.assertNotNull(afterImage);
+        Assertions.assertEquals("", afterImage.getRows().get(0).getFields().get(1).getValue());
+
+        tableMeta.getColumnMeta("amount").setOnUpdate(true);
+        Assertions.assertNull(newUpdateExecutor("update t set name = 'WILL' where id = 1")
+            .deriveAfterImage(tableMeta, beforeImage));
+    }
+
+    @Test
+    public void testDeriveAfterImageWithPlaceholders() throws SQLException {
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("t");
+        addColumn(tableMeta, "id", Types.INTEGER, "INT");
+        addColumn(tableMeta, "name", Types.VARCHAR, "VARCHAR");
+        addColumn(tableMeta, "amount", Types.DECIMAL, "DECIMAL");
+        tableMeta.getColumnMeta("amount").setDecimalDigits(2);
+        TableRecords beforeImage = new TableRecords(tableMeta);
+        Row row = new Row();
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("id", Types.INTEGER, 1));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("name", Types.VARCHAR, "Tom"));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("amount", Types.DECIMAL, new BigDecimal("1.50")));
+        beforeImage.add(row);
+
+        String sql = "update t set amount = ?, name = ? where id = ? and name = ?";
+        PreparedStatementProxy preparedStatementProxy =
+            new PreparedStatementProxy(connectionProxy, Mockito.mock(PreparedStatement.class), sql);
+        preparedStatementProxy.setInt(1, 3);
+        preparedStatementProxy.setString(2, "WILL");
+        preparedStatementProxy.setInt(3, 1);
+        preparedStatementProxy.setString(4, "Tom");
+        List<SQLStatement> asts = SQLUtils.parseStatements(sql, JdbcConstants.MYSQL);
+        UpdateExecutor executor = new UpdateExecutor(preparedStatementProxy, (statement, args) -> null,
+            new MySQLUpdateRecognizer(sql, asts.get(0)));
+        TableRecords afterImage = executor.deriveAfterImage(tableMeta, beforeImage);
+        Assertions.assertNotNull(afterImage);
+        List<org.apache.seata.rm.datasource.sql.struct.Field> fields = afterImage.getRows().get(0).getFields();
+        Assertions.assertEquals("WILL", fields.get(1).getValue());
+        Assertions.assertEquals(new BigDecimal("3.00"), fields.get(2).getValue());
+    }
+
+    @Test
+    public void testDeriveAfterImageWithUnfixedDecimalScale() {
+        TableMeta tableMeta = new TableMeta();
+        tableMeta.setTableName("t");
+        addColumn(tableMeta, "id", Types.INTEGER, "INT");
+        addColumn(tableMeta, "amount", Types.NUMERIC, "NUMERIC");
+        TableRecords beforeImage = new TableRecords(tableMeta);
+        Row row = new Row();
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("id", Types.INTEGER, 1));
+        row.add(new org.apache.seata.rm.datasource.sql.struct.Field("amount", Types.NUMERIC, new BigDecimal("1.5")));
+        beforeImage.add(row);
+
+        // the database returns 2 for an unconstrained numeric, not 2.0
+        for (String dbType : new String[] {"postgresql", "oracle"}) {
+            UpdateExecutor executor = Mockito.spy(newUpdateExecutor("update t set amount = 2 where id = 1"));
+            Mockito.doReturn(dbType).when(executor).getDbType();
+            Assertions.assertNull(executor.deriveAfterImage(tableMeta, beforeImage));
+            executor = Mockito.spy(newUpdateExecutor("update t set amount = 2.0 where id = 1"));
+            Mockito.doReturn(dbType).when(executor).getDbType();
+            Assertions.assertNull(executor.deriveAfterImage(tableMeta, beforeImage));
+        }
+    }
+
+    private static UpdateExecutor newUpdateExecutor(String sql) {
+        List<SQLStatement> asts = SQLUtils.parseStatements(sql, JdbcConstants.MYSQL);
+        MySQLUpdateRecognizer recognizer = new MySQLUpdateRecognizer(sql, asts.get(0));
+        return new UpdateExecutor(statementProxy, (statement, args) -> null, recognizer);
+    }
+
+    private static void addColumn(TableMeta tableMeta, String name, int dataType, String dataTypeName) {
+        ColumnMeta columnMeta = new ColumnMeta();
+        columnMeta.setColumnName(name);
+        columnMeta.setDataType(dataType);
+        columnMeta.setDataTypeName(dataTypeName);
+        tableMeta.getAllColumns().put(name, columnMeta);
+    }
 }
@@ -318,4 +318,39 @@ public class SQLVisitorFactoryTest {
         Assertions.assertEquals(SQLType.UPDATE, recognizer.getSQLType());
         Assertions.assertEquals("t1", recognizer.getTableName());
     }
+
+    @Test
+    public void testSqlRecognizerCache() {
+        String sql = "update t2 set name = ? where id = ?";
+        List<SQLRecognizer> recognizers = SQLVisitorFactory.get(sql, JdbcConstants.MYSQL);
+        Assertions.assertSame(recognizers, SQLVisitorFactory.get(sql, JdbcConstants.MYSQL));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> recognizers.add(recognizers.get(0)));
+        // cached per db type
+        Assertions.assertEquals(MariadbUpdateRecognizer.class.getName(),
+            SQLVisitorFactory.get(sql, JdbcConstants.MARIADB).get(0).getClass().getName());
+        // the sql not recognized stays null
+        Assertions.assertNull(SQLVisitorFactory.get("select * from t2", JdbcConstants.MYSQL));
+        Assertions.assertNull(SQLVisitorFactory.get("select * from t2", JdbcConstants.MYSQL));
+    }
+
+    @Test
+    public void testCachedJoinUpdateRecognizerShared() throws Exception {
+        String sql = "update t1 a inner join t2 b on a.id = b.id set a.name = ? where b.id = ?";
+        MySQLUpdateRecognizer recognizer = (MySQLUpdateRecognizer) SQLVisitorFactory.get(sql, JdbcConstants.MYSQL).get(0);
+        Assertions.assertSame(recognizer, SQLVisitorFactory.get(sql, JdbcConstants.MYSQL).get(0));
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    recognizer.getTableName();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals("a", recognizer.getTableAlias("t1"));
+        Assertions.assertEquals("b", recognizer.getTableAlias("t2"));
+    }
 }
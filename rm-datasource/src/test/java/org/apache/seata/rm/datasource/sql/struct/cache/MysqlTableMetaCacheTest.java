@@ -162,6 +162,30 @@ public class MysqlTableMetaCacheTest {
         getTableMetaCache().refresh(dataSourceProxy.getPlainConnection(), dataSourceProxy.getResourceId());
     }
 
+    @Test
+    public void prefetchTest() throws SQLException {
+        Object[][] primaryIndexMetas = new Object[][] {
+            new Object[] {"PRIMARY", "id", false, "", 3, 0, "A", 34L}
+        };
+        MockDriver mockDriver = new MockDriver(columnMetas, primaryIndexMetas);
+        mockDriver.setMockTableMetasReturnValue(tableMetas);
+        DruidDataSource dataSource = new DruidDataSource();
+        dataSource.setUrl("jdbc:mock:xxx");
+        dataSource.setDriver(mockDriver);
+
+        DataSourceProxy proxy = DataSourceProxyTest.getDataSourceProxy(dataSource);
+
+        getTableMetaCache().prefetch(proxy.getPlainConnection(), Collections.singletonList("mt_prefetch"),
+            proxy.getResourceId());
+
+        // served from the cache, the database can not answer anymore
+        mockDriver.setMockColumnsMetasReturnValue(null);
+        TableMeta tableMeta = getTableMetaCache().getTableMeta(proxy.getPlainConnection(), "mt_prefetch",
+            proxy.getResourceId());
+        Assertions.assertEquals("mt_prefetch", tableMeta.getOriginalTableName());
+        Assertions.assertEquals("id", tableMeta.getPrimaryKeyOnlyName().get(0));
+    }
+
     private void assertColumnMetaEquals(Object[] expected, ColumnMeta actual) {
         Assertions.assertEquals(expected[0], actual.getTableCat());
         Assertions.assertEquals(expected[3], actual.getColumnName());
@@ -234,6 +234,44 @@ public class UndoExecutorTest {
         spy.executeOn(connectionProxy);
     }
 
+    /**
+     * Test the rows of one undo log are executed in one batch.
+     */
+    @Test
+    public void testBatchUndo() throws SQLException {
+        SQLUndoLog sqlUndoLog = new SQLUndoLog();
+        sqlUndoLog.setTableName("my_test_table");
+        sqlUndoLog.setSqlType(SQLType.INSERT);
+        sqlUndoLog.setBeforeImage(TableRecords.empty(new MockTableMeta("product", "id")));
+
+        TableRecords afterImage = new TableRecords(new MockTableMeta("product", "id"));
+        for (int i = 0; i < 3; i++) {
+            Row row = new Row();
+            Field pkField = new Field();
+            pkField.setKeyType(KeyType.PRIMARY_KEY);
+            pkField.setName("id");
+            pkField.setType(Types.INTEGER);
+            pkField.setValue(300 + i);
+            row.add(pkField);
+            afterImage.add(row);
+        }
+        sqlUndoLog.setAfterImage(afterImage);
+
+        Connection targetConnection = Mockito.mock(Connection.class);
+        PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(targetConnection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
+        ConnectionProxy batchConnectionProxy = new ConnectionProxy(dataSourceProxy, targetConnection);
+
+        AbstractUndoExecutor spy = Mockito.spy(UndoExecutorFactory.getUndoExecutor(JdbcConstants.MYSQL, sqlUndoLog));
+        // skip data validation
+        Mockito.doReturn(true).when(spy).dataValidationAndGoOn(batchConnectionProxy);
+        spy.executeOn(batchConnectionProxy);
+
+        Mockito.verify(preparedStatement, Mockito.times(3)).addBatch();
+        Mockito.verify(preparedStatement, Mockito.times(1)).executeBatch();
+        Mockito.verify(preparedStatement, Mockito.never()).executeUpdate();
+    }
+
     /**
      * Test delete.
      */
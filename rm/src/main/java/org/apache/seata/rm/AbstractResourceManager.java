@@ -26,6 +26,7 @@ import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.RmTransactionException;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.GlobalStatus;
@@ -56,6 +57,10 @@ public abstract class AbstractResourceManager implements ResourceManager {
             DefaultValues.DEFAULT_APPLICATION_DATA_SIZE_LIMIT);
 
     private static boolean throwDataSizeExp = CONFIG.getBoolean(ConfigurationKeys.RM_APPLICATION_DATA_SIZE_CHECK, false);
+
+    private static boolean lockKeyBinaryEnable = CONFIG.getBoolean(ConfigurationKeys.RM_LOCK_KEY_BINARY_ENABLE,
+            DefaultValues.DEFAULT_RM_LOCK_KEY_BINARY_ENABLE);
+
     /**
      * registry branch record
      *
@@ -75,6 +80,10 @@ public abstract class AbstractResourceManager implements ResourceManager {
             BranchRegisterRequest request = new BranchRegisterRequest();
             request.setXid(xid);
             request.setLockKey(lockKeys);
+            if (lockKeyBinaryEnable) {
+                // requires a TC that understands the binary lock key, falls back to text if it can't be encoded
+                request.setBinaryLockKey(LockKeyCodec.encode(lockKeys));
+            }
             request.setResourceId(resourceId);
             request.setBranchType(branchType);
             request.setApplicationData(applicationData);
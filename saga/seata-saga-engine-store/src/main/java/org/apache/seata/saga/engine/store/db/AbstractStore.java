@@ -184,6 +184,65 @@ public class AbstractStore {
         }
     }
 
+    /**
+     * Execute the statements in order on one connection and commit them together,
+     * consecutive statements with the same sql are sent as one JDBC batch.
+     *
+     * @param statements the statements
+     */
+    protected void executeBatch(List<BatchStatement<?>> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        Connection connection = null;
+        PreparedStatement stmt = null;
+        boolean autoCommit = true;
+        try {
+            connection = dataSource.getConnection();
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            String sql = null;
+            for (BatchStatement<?> statement : statements) {
+                if (!statement.getSql().equals(sql)) {
+                    if (stmt != null) {
+                        stmt.executeBatch();
+                        closeSilent(stmt);
+                    }
+                    sql = statement.getSql();
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Preparing SQL: {}", sql);
+                    }
+                    stmt = connection.prepareStatement(sql);
+                }
+                statement.toStatement(stmt);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    LOGGER.info(rollbackException.getMessage(), rollbackException);
+                }
+            }
+            throw new StoreException(e);
+        } finally {
+            closeSilent(stmt);
+            if (connection != null && autoCommit) {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.info(e.getMessage(), e);
+                }
+            }
+            closeSilent(connection);
+        }
+    }
+
     public void setDataSource(DataSource dataSource) {
         this.dataSource = dataSource;
     }
@@ -205,4 +264,44 @@ public class AbstractStore {
 
         void toStatement(T o, PreparedStatement statement) throws SQLException;
     }
+
+    /**
+     * A statement kept for {@link #executeBatch(List)}, its parameters are set when the batch is executed.
+     *
+     * @param <T> the type of the object that sets the parameters
+     */
+    protected static class BatchStatement<T> {
+
+        private final String sql;
+
+        private final ObjectToStatement<T> objectToStatement;
+
+        private final T o;
+
+        public BatchStatement(String sql, ObjectToStatement<T> objectToStatement, T o) {
+            this.sql = sql;
+            this.objectToStatement = objectToStatement;
+            this.o = o;
+        }
+
+        public static BatchStatement<Object[]> of(String sql, Object... args) {
+            return new BatchStatement<>(sql, (values, statement) -> {
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+            }, args);
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        void toStatement(PreparedStatement statement) throws SQLException {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("adding params to batch: {}",
+                    o instanceof Object[] ? Arrays.toString((Object[]) o) : BeanUtils.beanToString(o));
+            }
+            objectToStatement.toStatement(o, statement);
+        }
+    }
 }
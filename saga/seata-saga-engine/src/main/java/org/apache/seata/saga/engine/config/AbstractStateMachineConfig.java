@@ -67,6 +67,7 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_REPORT_SUCCES
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_BRANCH_REGISTER_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_COMPENSATE_PERSIST_MODE_UPDATE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_RETRY_PERSIST_MODE_UPDATE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_STATE_LOG_WRITE_BEHIND;
 import static org.apache.seata.common.DefaultValues.DEFAULT_SAGA_JSON_PARSER;
 
 /**
@@ -121,6 +122,7 @@ public abstract class AbstractStateMachineConfig implements StateMachineConfig {
 
     private boolean rmReportSuccessEnable = DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE;
     private boolean sagaBranchRegisterEnable = DEFAULT_CLIENT_SAGA_BRANCH_REGISTER_ENABLE;
+    private boolean sagaStateLogWriteBehind = DEFAULT_CLIENT_SAGA_STATE_LOG_WRITE_BEHIND;
 
     public void init() throws Exception {
         // init seqGenerator
@@ -153,6 +155,10 @@ public abstract class AbstractStateMachineConfig implements StateMachineConfig {
             this.stateLogRepository = defaultStateLogRepository;
         }
 
+        if (this.scriptEngineManager == null) {
+            this.scriptEngineManager = new ScriptEngineManager();
+        }
+
         if (stateMachineRepository == null) {
             StateMachineRepositoryImpl defaultStateMachineRepository = new StateMachineRepositoryImpl();
             defaultStateMachineRepository.setCharset(charset);
@@ -160,6 +166,8 @@ public abstract class AbstractStateMachineConfig implements StateMachineConfig {
             defaultStateMachineRepository.setDefaultTenantId(defaultTenantId);
             defaultStateMachineRepository.setJsonParserName(sagaJsonParser);
             defaultStateMachineRepository.setStateLangStore(stateLangStore);
+            defaultStateMachineRepository.setExpressionResolver(expressionResolver);
+            defaultStateMachineRepository.setScriptEngineManager(scriptEngineManager);
             this.stateMachineRepository = defaultStateMachineRepository;
         }
 
@@ -208,10 +216,6 @@ public abstract class AbstractStateMachineConfig implements StateMachineConfig {
         if (this.serviceInvokerManager == null) {
             this.serviceInvokerManager = new ServiceInvokerManager();
         }
-
-        if (this.scriptEngineManager == null) {
-            this.scriptEngineManager = new ScriptEngineManager();
-        }
     }
 
     public ProcessControllerImpl createProcessorController(ProcessCtrlEventPublisher eventPublisher) throws Exception {
@@ -502,4 +506,12 @@ public abstract class AbstractStateMachineConfig implements StateMachineConfig {
     public void setSagaBranchRegisterEnable(boolean sagaBranchRegisterEnable) {
         this.sagaBranchRegisterEnable = sagaBranchRegisterEnable;
     }
+
+    public boolean isSagaStateLogWriteBehind() {
+        return sagaStateLogWriteBehind;
+    }
+
+    public void setSagaStateLogWriteBehind(boolean sagaStateLogWriteBehind) {
+        this.sagaStateLogWriteBehind = sagaStateLogWriteBehind;
+    }
 }
@@ -16,13 +16,18 @@
  */
 package org.apache.seata.saga.engine.expression.impl;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.saga.engine.expression.Expression;
 import org.apache.seata.saga.engine.expression.ExpressionFactory;
 import org.apache.seata.saga.engine.expression.ExpressionFactoryManager;
 import org.apache.seata.saga.engine.expression.ExpressionResolver;
 
 /**
- * Default {@link ExpressionResolver} implementation
+ * Default {@link ExpressionResolver} implementation.
+ * Expressions are created once per expression string and shared, they must not keep evaluation state.
  *
  */
 public class DefaultExpressionResolver implements ExpressionResolver {
@@ -41,8 +46,14 @@ public class DefaultExpressionResolver implements ExpressionResolver {
 
     private ExpressionFactoryManager expressionFactoryManager;
 
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+
     @Override
     public Expression getExpression(String expressionStr) {
+        return CollectionUtils.computeIfAbsent(expressionCache, expressionStr, this::createExpression);
+    }
+
+    protected Expression createExpression(String expressionStr) {
         ExpressionStruct struct = parseExpressionStruct(expressionStr);
 
         ExpressionFactory expressionFactory = expressionFactoryManager.getExpressionFactory(struct.type);
@@ -63,7 +63,8 @@ public class ChoiceStateHandler implements StateHandler {
                                 DomainConstants.VAR_NAME_STATEMACHINE_CONFIG)).getExpressionResolver();
                         for (ChoiceState.Choice choice : choices) {
                             Expression evaluator = resolver.getExpression(choice.getExpression());
-                            choiceEvaluators.put(evaluator, choice.getNext());
+                            // expressions are shared per expression string, the first duplicate choice wins
+                            choiceEvaluators.putIfAbsent(evaluator, choice.getNext());
                         }
                     }
                     choiceState.setChoiceEvaluators(choiceEvaluators);
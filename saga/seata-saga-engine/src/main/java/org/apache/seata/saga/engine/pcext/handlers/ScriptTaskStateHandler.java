@@ -25,6 +25,7 @@ import org.apache.seata.saga.engine.pcext.StateHandler;
 import org.apache.seata.saga.engine.pcext.StateHandlerInterceptor;
 import org.apache.seata.saga.engine.pcext.StateInstruction;
 import org.apache.seata.saga.engine.pcext.utils.EngineUtils;
+import org.apache.seata.saga.engine.pcext.utils.ScriptUtils;
 import org.apache.seata.saga.proctrl.HierarchicalProcessContext;
 import org.apache.seata.saga.proctrl.ProcessContext;
 import org.apache.seata.saga.statelang.domain.DomainConstants;
@@ -39,7 +40,6 @@ import javax.script.SimpleBindings;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ScriptTaskState Handler
@@ -51,8 +51,6 @@ public class ScriptTaskStateHandler implements StateHandler, InterceptableStateH
 
     private List<StateHandlerInterceptor> interceptors = new ArrayList<>();
 
-    private volatile Map<String, ScriptEngine> scriptEngineCache = new ConcurrentHashMap<>();
-
     @Override
     public void process(ProcessContext context) throws EngineExecutionException {
 
@@ -60,7 +58,6 @@ public class ScriptTaskStateHandler implements StateHandler, InterceptableStateH
         ScriptTaskStateImpl state = (ScriptTaskStateImpl) instruction.getState(context);
 
         String scriptType = state.getScriptType();
-        String scriptContent = state.getScriptContent();
 
         Object result;
         try {
@@ -100,12 +97,7 @@ public class ScriptTaskStateHandler implements StateHandler, InterceptableStateH
                     }
                 }
             }
-            if (bindings != null) {
-                result = scriptEngine.eval(scriptContent, bindings);
-            }
-            else {
-                result = scriptEngine.eval(scriptContent);
-            }
+            result = ScriptUtils.eval(state, scriptEngine, bindings);
 
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("<<<<<<<<<<<<<<<<<<<<<< ScriptTaskState[{}], ScriptType[{}], Execute finish. result: {}",
@@ -130,8 +122,7 @@ public class ScriptTaskStateHandler implements StateHandler, InterceptableStateH
     }
 
     protected ScriptEngine getScriptEngineFromCache(String scriptType, ScriptEngineManager scriptEngineManager) {
-        return CollectionUtils.computeIfAbsent(scriptEngineCache, scriptType,
-            key -> scriptEngineManager.getEngineByName(scriptType));
+        return ScriptUtils.getScriptEngine(scriptEngineManager, scriptType);
     }
 
     @Override
@@ -323,7 +323,7 @@ public class ServiceTaskHandlerInterceptor implements StateHandlerInterceptor {
                                 statusVal = entry.getValue();
                                 evaluator = resolver.getExpression(expressionStr);
                                 if (evaluator != null) {
-                                    statusEvaluators.put(evaluator, statusVal);
+                                    statusEvaluators.putIfAbsent(evaluator, statusVal);
                                 }
                             }
                         }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.saga.engine.pcext.utils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.saga.statelang.domain.impl.ScriptTaskStateImpl;
+
+/**
+ * Script Util
+ *
+ */
+public class ScriptUtils {
+
+    /**
+     * the script engines of each script engine manager, by script type
+     */
+    private static final Map<ScriptEngineManager, Map<String, ScriptEngine>> SCRIPT_ENGINE_CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Get the script engine of the script type, one engine per script engine manager and script type.
+     *
+     * @param scriptEngineManager the script engine manager
+     * @param scriptType          the script type
+     * @return the script engine, null if the script type is unknown
+     */
+    public static ScriptEngine getScriptEngine(ScriptEngineManager scriptEngineManager, String scriptType) {
+        Map<String, ScriptEngine> scriptEngines = SCRIPT_ENGINE_CACHE.computeIfAbsent(scriptEngineManager,
+            key -> new ConcurrentHashMap<>());
+        return CollectionUtils.computeIfAbsent(scriptEngines, scriptType, scriptEngineManager::getEngineByName);
+    }
+
+    /**
+     * Compile the script of the state once and keep it on the state.
+     *
+     * @param state        the script task state
+     * @param scriptEngine the script engine of the script type
+     * @return the compiled script, or null if the script engine can not compile
+     * @throws ScriptException if the script does not compile
+     */
+    public static CompiledScript compileScript(ScriptTaskStateImpl state, ScriptEngine scriptEngine)
+        throws ScriptException {
+        Object compiledScript = state.getCompiledScript();
+        if (compiledScript == null && scriptEngine instanceof Compilable) {
+            synchronized (state) {
+                compiledScript = state.getCompiledScript();
+                if (compiledScript == null) {
+                    compiledScript = ((Compilable) scriptEngine).compile(state.getScriptContent());
+                    state.setCompiledScript(compiledScript);
+                }
+            }
+        }
+        return compiledScript instanceof CompiledScript ? (CompiledScript) compiledScript : null;
+    }
+
+    /**
+     * Evaluate the script of the state, compiled if the script engine can compile.
+     * The script engine is shared by every execution, so a script without input still runs on fresh bindings
+     * instead of the engine scope, otherwise the variables it sets would be seen by the next executions.
+     *
+     * @param state        the script task state
+     * @param scriptEngine the script engine of the script type
+     * @param bindings     the bindings of the input, null if the state has no input
+     * @return the result of the script
+     * @throws ScriptException if the script fails
+     */
+    public static Object eval(ScriptTaskStateImpl state, ScriptEngine scriptEngine, Bindings bindings)
+        throws ScriptException {
+        if (bindings == null) {
+            bindings = scriptEngine.createBindings();
+        }
+        CompiledScript compiledScript = compileScript(state, scriptEngine);
+        if (compiledScript != null) {
+            return compiledScript.eval(bindings);
+        }
+        return scriptEngine.eval(state.getScriptContent(), bindings);
+    }
+}
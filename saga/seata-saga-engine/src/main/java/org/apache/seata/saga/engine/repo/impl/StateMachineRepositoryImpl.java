@@ -21,17 +21,29 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.saga.engine.expression.ExpressionResolver;
+import org.apache.seata.saga.engine.pcext.utils.ParameterUtils;
+import org.apache.seata.saga.engine.pcext.utils.ScriptUtils;
 import org.apache.seata.saga.engine.repo.StateMachineRepository;
 import org.apache.seata.saga.engine.sequence.SeqGenerator;
 import org.apache.seata.saga.engine.sequence.UUIDSeqGenerator;
 import org.apache.seata.saga.engine.store.StateLangStore;
+import org.apache.seata.saga.statelang.domain.ChoiceState;
 import org.apache.seata.saga.statelang.domain.DomainConstants;
+import org.apache.seata.saga.statelang.domain.State;
 import org.apache.seata.saga.statelang.domain.StateMachine;
+import org.apache.seata.saga.statelang.domain.TaskState;
+import org.apache.seata.saga.statelang.domain.impl.AbstractTaskState;
+import org.apache.seata.saga.statelang.domain.impl.ScriptTaskStateImpl;
 import org.apache.seata.saga.statelang.parser.StateMachineParserFactory;
 import org.apache.seata.saga.statelang.parser.utils.IOUtils;
 import org.slf4j.Logger;
@@ -51,6 +63,8 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
     private String charset = "UTF-8";
     private String defaultTenantId;
     private String jsonParserName = DomainConstants.DEFAULT_JSON_PARSER;
+    private ExpressionResolver expressionResolver;
+    private ScriptEngineManager scriptEngineManager;
 
     @Override
     public StateMachine getStateMachineById(String stateMachineId) {
@@ -70,6 +84,7 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
                         }
                         stateMachine.setStartState(parsedStatMachine.getStartState());
                         stateMachine.getStates().putAll(parsedStatMachine.getStates());
+                        prepareStateMachine(stateMachine);
                         item.setValue(stateMachine);
                         stateMachineMapById.put(stateMachine.getName() + "_" + stateMachine.getTenantId(),
                             item);
@@ -98,6 +113,7 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
                         }
                         stateMachine.setStartState(parsedStatMachine.getStartState());
                         stateMachine.getStates().putAll(parsedStatMachine.getStates());
+                        prepareStateMachine(stateMachine);
                         item.setValue(stateMachine);
                         stateMachineMapById.put(stateMachine.getId(), item);
                     }
@@ -138,6 +154,7 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
 
                     stateMachine.setId(oldStateMachine.getId());
                     stateMachine.setGmtCreate(oldStateMachine.getGmtCreate());
+                    prepareStateMachine(stateMachine);
 
                     Item item = new Item(stateMachine);
                     stateMachineMapByNameAndTenant.put(stateMachineName + "_" + tenantId, item);
@@ -156,12 +173,75 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
             stateMachine.setId(seqGenerator.generate(DomainConstants.SEQ_ENTITY_STATE_MACHINE));
         }
 
+        prepareStateMachine(stateMachine);
         Item item = new Item(stateMachine);
         stateMachineMapByNameAndTenant.put(stateMachineName + "_" + tenantId, item);
         stateMachineMapById.put(stateMachine.getId(), item);
         return stateMachine;
     }
 
+    /**
+     * Resolve every expression and compile every script of the state machine once, so that the state handlers
+     * find them ready instead of parsing them on the first execution.
+     * A state that fails here is left to its state handler, which reports the failure on execution.
+     *
+     * @param stateMachine the state machine
+     */
+    protected void prepareStateMachine(StateMachine stateMachine) {
+        if (stateMachine.getStates() == null) {
+            return;
+        }
+        for (State state : stateMachine.getStates().values()) {
+            try {
+                if (expressionResolver != null) {
+                    prepareExpressions(state);
+                }
+                if (scriptEngineManager != null && state instanceof ScriptTaskStateImpl) {
+                    ScriptTaskStateImpl scriptTaskState = (ScriptTaskStateImpl) state;
+                    ScriptEngine scriptEngine = ScriptUtils.getScriptEngine(scriptEngineManager,
+                        scriptTaskState.getScriptType());
+                    if (scriptEngine != null && StringUtils.isNotBlank(scriptTaskState.getScriptContent())) {
+                        ScriptUtils.compileScript(scriptTaskState, scriptEngine);
+                    }
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Prepare state [{}] of StateMachine[{}] failed: {}", state.getName(),
+                    stateMachine.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void prepareExpressions(State state) {
+        if (state instanceof ChoiceState) {
+            List<ChoiceState.Choice> choices = ((ChoiceState) state).getChoices();
+            if (choices != null) {
+                for (ChoiceState.Choice choice : choices) {
+                    expressionResolver.getExpression(choice.getExpression());
+                }
+            }
+        } else if (state instanceof AbstractTaskState) {
+            AbstractTaskState taskState = (AbstractTaskState) state;
+            if (taskState.getInput() != null) {
+                ParameterUtils.createValueExpression(expressionResolver, taskState.getInput());
+            }
+            if (taskState.getOutput() != null) {
+                ParameterUtils.createValueExpression(expressionResolver, taskState.getOutput());
+            }
+            if (taskState.getStatus() != null) {
+                for (String expression : taskState.getStatus().keySet()) {
+                    expressionResolver.getExpression(expression);
+                }
+            }
+            TaskState.Loop loop = taskState.getLoop();
+            if (loop != null) {
+                ParameterUtils.createValueExpression(expressionResolver, loop.getCollection());
+                if (StringUtils.isNotBlank(loop.getCompletionCondition())) {
+                    expressionResolver.getExpression(loop.getCompletionCondition());
+                }
+            }
+        }
+    }
+
     @Override
     public void registryByResources(InputStream[] resourceAsStreamArray, String tenantId) throws IOException {
         for (InputStream resource : resourceAsStreamArray) {
@@ -215,6 +295,14 @@ public class StateMachineRepositoryImpl implements StateMachineRepository {
         this.jsonParserName = jsonParserName;
     }
 
+    public void setExpressionResolver(ExpressionResolver expressionResolver) {
+        this.expressionResolver = expressionResolver;
+    }
+
+    public void setScriptEngineManager(ScriptEngineManager scriptEngineManager) {
+        this.scriptEngineManager = scriptEngineManager;
+    }
+
     private static class Item {
 
         private StateMachine value;
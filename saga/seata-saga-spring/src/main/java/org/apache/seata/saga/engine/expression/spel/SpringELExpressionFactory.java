@@ -19,25 +19,42 @@ package org.apache.seata.saga.engine.expression.spel;
 import org.apache.seata.saga.engine.expression.Expression;
 import org.apache.seata.saga.engine.expression.ExpressionFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
- * SpringELExpression factory
+ * SpringELExpression factory.
+ * Expressions are compiled to bytecode in MIXED mode, which falls back to interpretation when a compiled
+ * expression fails, unless the spring.expression.compiler.mode system property chooses otherwise.
  *
  */
 public class SpringELExpressionFactory implements ExpressionFactory {
 
-    ExpressionParser parser = new SpelExpressionParser();
+    private static final String COMPILER_MODE_PROPERTY_NAME = "spring.expression.compiler.mode";
+
+    ExpressionParser parser;
     ApplicationContext applicationContext;
 
     public SpringELExpressionFactory(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
+        this.parser = new SpelExpressionParser(createParserConfiguration(applicationContext));
+    }
+
+    private static SpelParserConfiguration createParserConfiguration(ApplicationContext applicationContext) {
+        if (SpringProperties.getProperty(COMPILER_MODE_PROPERTY_NAME) != null) {
+            return new SpelParserConfiguration();
+        }
+        ClassLoader classLoader = applicationContext != null && applicationContext.getClassLoader() != null
+            ? applicationContext.getClassLoader() : SpringELExpressionFactory.class.getClassLoader();
+        return new SpelParserConfiguration(SpelCompilerMode.MIXED, classLoader);
     }
 
     @Override
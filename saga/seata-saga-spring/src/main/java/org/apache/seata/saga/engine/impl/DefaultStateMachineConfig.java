@@ -47,12 +47,12 @@ public class DefaultStateMachineConfig extends AbstractStateMachineConfig implem
         // super init
         super.init();
 
+        // register spring el ExpressionFactoryManager, before the StateMachine def resolves its expressions
+        registerSpringElExpressionFactoryManager();
+
         // register StateMachine def  after init
         registerStateMachineDef();
 
-        // register spring el ExpressionFactoryManager
-        registerSpringElExpressionFactoryManager();
-
         // register serviceInvoker as spring bean invoker after init
         registerSpringBeanServiceInvoker();
     }
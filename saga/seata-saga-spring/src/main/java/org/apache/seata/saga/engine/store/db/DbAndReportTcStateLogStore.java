@@ -20,10 +20,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.seata.common.Constants;
 import org.apache.seata.common.exception.FrameworkErrorCode;
@@ -88,6 +91,12 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
     private StateLogStoreSqls stateLogStoreSqls;
     private String            defaultTenantId;
     private SeqGenerator      seqGenerator;
+    private boolean           stateLogWriteBehind;
+
+    /**
+     * state logs and branch reports deferred to the next checkpoint, keyed by state machine instance id
+     */
+    private final Map<String, StateLogBuffer> stateLogBuffers = new ConcurrentHashMap<>();
 
     @Override
     public void recordStateMachineStarted(StateMachineInstance machineInstance, ProcessContext context) {
@@ -162,6 +171,10 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
     public void recordStateMachineFinished(StateMachineInstance machineInstance, ProcessContext context) {
         if (machineInstance != null) {
             try {
+                if (stateLogWriteBehind) {
+                    flushStateLogs(machineInstance.getId(), true);
+                }
+
                 // save to db
                 Map<String, Object> endParams = machineInstance.getEndParams();
                 if (endParams != null) {
@@ -285,7 +298,20 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
             }
 
             stateInstance.setSerializedInputParams(paramsSerializer.serialize(stateInstance.getInputParams()));
-            if (!isUpdateMode) {
+            if (stateLogWriteBehind) {
+                // a state start is a checkpoint, the deferred logs are written with it before the service runs
+                if (!isUpdateMode) {
+                    bufferStateLog(stateInstance.getMachineInstanceId(), new BatchStatement<>(
+                        stateLogStoreSqls.getRecordStateStartedSql(dbType), STATE_INSTANCE_TO_STATEMENT_FOR_INSERT,
+                        stateInstance));
+                } else {
+                    bufferStateLog(stateInstance.getMachineInstanceId(), BatchStatement.of(
+                        stateLogStoreSqls.getUpdateStateExecutionStatusSql(dbType), stateInstance.getStatus().name(),
+                        new Timestamp(System.currentTimeMillis()), stateInstance.getMachineInstanceId(),
+                        stateInstance.getId()));
+                }
+                flushStateLogs(stateInstance.getMachineInstanceId(), false);
+            } else if (!isUpdateMode) {
                 executeUpdate(stateLogStoreSqls.getRecordStateStartedSql(dbType),
                     STATE_INSTANCE_TO_STATEMENT_FOR_INSERT, stateInstance);
             } else {
@@ -461,8 +487,14 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
 
             stateInstance.setSerializedOutputParams(paramsSerializer.serialize(stateInstance.getOutputParams()));
             stateInstance.setSerializedException(exceptionSerializer.serialize(stateInstance.getException()));
-            executeUpdate(stateLogStoreSqls.getRecordStateFinishedSql(dbType), STATE_INSTANCE_TO_STATEMENT_FOR_UPDATE,
-                    stateInstance);
+            if (stateLogWriteBehind) {
+                bufferStateLog(stateInstance.getMachineInstanceId(), new BatchStatement<>(
+                    stateLogStoreSqls.getRecordStateFinishedSql(dbType), STATE_INSTANCE_TO_STATEMENT_FOR_UPDATE,
+                    stateInstance));
+            } else {
+                executeUpdate(stateLogStoreSqls.getRecordStateFinishedSql(dbType), STATE_INSTANCE_TO_STATEMENT_FOR_UPDATE,
+                        stateInstance);
+            }
 
             //A switch to skip branch report on branch success, in order to optimize performance
             StateMachineConfig stateMachineConfig = (StateMachineConfig) context.getVariable(
@@ -548,8 +580,13 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
                     throw new EngineExecutionException("Global transaction is not exists", FrameworkErrorCode.ObjectNotExists);
                 }
 
-                sagaTransactionalTemplate.branchReport(globalTransaction.getXid(), Long.parseLong(originalStateInst.getId()), branchStatus,
-                        null);
+                if (stateLogWriteBehind) {
+                    bufferBranchReport(stateInstance.getMachineInstanceId(), globalTransaction.getXid(),
+                        Long.parseLong(originalStateInst.getId()), branchStatus);
+                } else {
+                    sagaTransactionalTemplate.branchReport(globalTransaction.getXid(), Long.parseLong(originalStateInst.getId()), branchStatus,
+                            null);
+                }
             } catch (TransactionException e) {
                 LOGGER.error(
                         "Report branch status to server error: {}, StateMachine:{}, StateName:{}, XID: {}, branchId: {}, branchStatus:{},"
@@ -598,6 +635,60 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
         return originalStateInst;
     }
 
+    private void bufferStateLog(String machineInstanceId, BatchStatement<?> statement) {
+        StateLogBuffer buffer = CollectionUtils.computeIfAbsent(stateLogBuffers, machineInstanceId,
+            k -> new StateLogBuffer());
+        synchronized (buffer) {
+            buffer.statements.add(statement);
+        }
+    }
+
+    private void bufferBranchReport(String machineInstanceId, String xid, long branchId, BranchStatus branchStatus) {
+        StateLogBuffer buffer = CollectionUtils.computeIfAbsent(stateLogBuffers, machineInstanceId,
+            k -> new StateLogBuffer());
+        synchronized (buffer) {
+            buffer.xid = xid;
+            // only the last status of a branch needs to be reported
+            buffer.branchReports.remove(branchId);
+            buffer.branchReports.put(branchId, branchStatus);
+        }
+    }
+
+    /**
+     * Write the deferred state logs of the state machine instance in one batch, then report the deferred branch status.
+     * The logs and reports stay buffered if the batch fails, so the next flush writes them again.
+     *
+     * @param machineInstanceId the state machine instance id
+     * @param remove            whether the state machine instance is over and its buffer should be dropped
+     */
+    protected void flushStateLogs(String machineInstanceId, boolean remove) {
+        if (StringUtils.isEmpty(machineInstanceId)) {
+            return;
+        }
+        StateLogBuffer buffer = stateLogBuffers.get(machineInstanceId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            // a failed batch is rolled back as a whole, nothing is reported for it
+            executeBatch(new ArrayList<>(buffer.statements));
+            buffer.statements.clear();
+            for (Map.Entry<Long, BranchStatus> entry : buffer.branchReports.entrySet()) {
+                try {
+                    sagaTransactionalTemplate.branchReport(buffer.xid, entry.getKey(), entry.getValue(), null);
+                } catch (TransactionException e) {
+                    LOGGER.error("Report branch status to server error: {}, XID: {}, branchId: {},"
+                        + " branchStatus:{}, Reason:{} ", e.getCode(), buffer.xid, entry.getKey(), entry.getValue(),
+                        e.getMessage(), e);
+                }
+            }
+            buffer.branchReports.clear();
+        }
+        if (remove) {
+            stateLogBuffers.remove(machineInstanceId, buffer);
+        }
+    }
+
     @Override
     public StateMachineInstance getStateMachineInstance(String stateMachineInstanceId) {
         StateMachineInstance stateMachineInstance = selectOne(stateLogStoreSqls.getGetStateMachineInstanceByIdSql(dbType),
@@ -660,6 +751,9 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
 
     @Override
     public StateInstance getStateInstance(String stateInstanceId, String machineInstId) {
+        if (stateLogWriteBehind) {
+            flushStateLogs(machineInstId, false);
+        }
         StateInstance stateInstance = selectOne(
                 stateLogStoreSqls.getGetStateInstanceByIdAndMachineInstanceIdSql(dbType), RESULT_SET_TO_STATE_INSTANCE,
                 machineInstId, stateInstanceId);
@@ -686,6 +780,9 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
 
     @Override
     public List<StateInstance> queryStateInstanceListByMachineInstanceId(String stateMachineInstanceId) {
+        if (stateLogWriteBehind) {
+            flushStateLogs(stateMachineInstanceId, false);
+        }
         List<StateInstance> stateInstanceList = selectList(
                 stateLogStoreSqls.getQueryStateInstancesByMachineInstanceIdSql(dbType), RESULT_SET_TO_STATE_INSTANCE,
                 stateMachineInstanceId);
@@ -733,6 +830,20 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
     public void clearUp(ProcessContext context) {
         RootContext.unbind();
         RootContext.unbindBranchType();
+        if (stateLogWriteBehind) {
+            StateMachineInstance machineInstance = (StateMachineInstance) context.getVariable(
+                DomainConstants.VAR_NAME_STATEMACHINE_INST);
+            if (machineInstance != null) {
+                try {
+                    flushStateLogs(machineInstance.getId(), true);
+                } catch (StoreException e) {
+                    // the state machine instance is over, the logs which can not be written are dropped
+                    stateLogBuffers.remove(machineInstance.getId());
+                    LOGGER.error("Flush state logs error: {}, StateMachineInstance: {}, Reason: {}",
+                        e.getErrcode(), machineInstance.getId(), e.getMessage(), e);
+                }
+            }
+        }
         if (sagaTransactionalTemplate != null) {
             GlobalTransaction globalTransaction;
             StateMachineInstance machineInstance =  (StateMachineInstance) context.getVariable(DomainConstants.VAR_NAME_STATEMACHINE_INST);
@@ -792,6 +903,10 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
         this.defaultTenantId = defaultTenantId;
     }
 
+    public void setStateLogWriteBehind(boolean stateLogWriteBehind) {
+        this.stateLogWriteBehind = stateLogWriteBehind;
+    }
+
     public void setSeqGenerator(SeqGenerator seqGenerator) {
         this.seqGenerator = seqGenerator;
     }
@@ -802,6 +917,15 @@ public class DbAndReportTcStateLogStore extends AbstractStore implements StateLo
         this.stateLogStoreSqls = new StateLogStoreSqls(tablePrefix);
     }
 
+    private static class StateLogBuffer {
+
+        private final List<BatchStatement<?>> statements = new ArrayList<>();
+
+        private final Map<Long, BranchStatus> branchReports = new LinkedHashMap<>();
+
+        private String xid;
+    }
+
     private static class StateMachineInstanceToStatementForInsert implements ObjectToStatement<StateMachineInstance> {
         @Override
         public void toStatement(StateMachineInstance stateMachineInstance, PreparedStatement statement)
@@ -16,6 +16,12 @@
  */
 package org.apache.seata.saga.engine.expression.spel;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.seata.saga.engine.expression.Expression;
+import org.apache.seata.saga.engine.expression.ExpressionFactoryManager;
+import org.apache.seata.saga.engine.expression.impl.DefaultExpressionResolver;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -28,4 +34,29 @@ public class SpringELExpressionFactoryTest {
         SpringELExpressionFactory factory = new SpringELExpressionFactory(null);
         Assertions.assertNotNull(factory.createExpression("'Hello World'.concat('!')"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCompiledExpression() {
+        SpringELExpressionFactory factory = new SpringELExpressionFactory(null);
+        Expression expression = factory.createExpression("[a] + 1");
+        Map<String, Object> context = new HashMap<>();
+        context.put("a", 1);
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals(2, expression.getValue(context));
+        }
+        // the compiled expression expects an Integer, MIXED mode falls back to interpretation
+        context.put("a", "x");
+        Assertions.assertEquals("x1", expression.getValue(context));
+    }
+
+    @Test
+    public void testResolverCache() {
+        ExpressionFactoryManager expressionFactoryManager = new ExpressionFactoryManager();
+        expressionFactoryManager.putExpressionFactory(ExpressionFactoryManager.DEFAULT_EXPRESSION_TYPE,
+            new SpringELExpressionFactory(null));
+        DefaultExpressionResolver resolver = new DefaultExpressionResolver();
+        resolver.setExpressionFactoryManager(expressionFactoryManager);
+        Assertions.assertSame(resolver.getExpression("$.[a]"), resolver.getExpression("$.[a]"));
+        Assertions.assertNotSame(resolver.getExpression("$.[a]"), resolver.getExpression("$.[b]"));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.saga.engine.pcext.utils;
+
+import javax.script.Bindings;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.SimpleBindings;
+
+import org.apache.seata.saga.statelang.domain.impl.ScriptTaskStateImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ScriptUtils test
+ */
+public class ScriptUtilsTest {
+
+    @Test
+    public void testGetScriptEngine() {
+        ScriptEngineManager scriptEngineManager = new ScriptEngineManager();
+        ScriptEngine scriptEngine = ScriptUtils.getScriptEngine(scriptEngineManager, "groovy");
+        Assertions.assertNotNull(scriptEngine);
+        Assertions.assertSame(scriptEngine, ScriptUtils.getScriptEngine(scriptEngineManager, "groovy"));
+        Assertions.assertNotSame(scriptEngine, ScriptUtils.getScriptEngine(new ScriptEngineManager(), "groovy"));
+        Assertions.assertNull(ScriptUtils.getScriptEngine(scriptEngineManager, "unknown"));
+    }
+
+    @Test
+    public void testCompileOnce() throws Exception {
+        ScriptEngine scriptEngine = ScriptUtils.getScriptEngine(new ScriptEngineManager(), "groovy");
+        ScriptTaskStateImpl state = newState("a + 1");
+
+        CompiledScript compiledScript = ScriptUtils.compileScript(state, scriptEngine);
+        Assertions.assertNotNull(compiledScript);
+        Assertions.assertSame(compiledScript, state.getCompiledScript());
+        Assertions.assertSame(compiledScript, ScriptUtils.compileScript(state, scriptEngine));
+
+        Assertions.assertEquals(2, ScriptUtils.eval(state, scriptEngine, bindings("a", 1)));
+        Assertions.assertEquals(3, ScriptUtils.eval(state, scriptEngine, bindings("a", 2)));
+        Assertions.assertSame(compiledScript, state.getCompiledScript());
+    }
+
+    @Test
+    public void testBindingsPerExecution() throws Exception {
+        ScriptEngine scriptEngine = ScriptUtils.getScriptEngine(new ScriptEngineManager(), "groovy");
+        ScriptTaskStateImpl state = newState("a = a * 2");
+
+        Assertions.assertEquals(4, ScriptUtils.eval(state, scriptEngine, bindings("a", 2)));
+        // the input of one execution does not leak into the engine or the next execution
+        Assertions.assertNull(scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE).get("a"));
+        Assertions.assertEquals(6, ScriptUtils.eval(state, scriptEngine, bindings("a", 3)));
+    }
+
+    @Test
+    public void testFreshBindingsWithoutInput() throws Exception {
+        ScriptEngine scriptEngine = ScriptUtils.getScriptEngine(new ScriptEngineManager(), "groovy");
+        ScriptTaskStateImpl state = newState("b = 5");
+        ScriptTaskStateImpl reader = newState("binding.hasVariable('b')");
+
+        Assertions.assertEquals(5, ScriptUtils.eval(state, scriptEngine, null));
+        // a script without input does not leave its variables in the shared engine
+        Assertions.assertNull(scriptEngine.getBindings(ScriptContext.ENGINE_SCOPE).get("b"));
+        Assertions.assertEquals(false, ScriptUtils.eval(reader, scriptEngine, null));
+    }
+
+    @Test
+    public void testNotCompilable() throws Exception {
+        ScriptEngine scriptEngine = mock(ScriptEngine.class);
+        Bindings bindings = bindings("a", 1);
+        Bindings emptyBindings = new SimpleBindings();
+        when(scriptEngine.createBindings()).thenReturn(emptyBindings);
+        when(scriptEngine.eval("a + 1", bindings)).thenReturn(2);
+        when(scriptEngine.eval("a + 1", emptyBindings)).thenReturn(3);
+        ScriptTaskStateImpl state = newState("a + 1");
+
+        Assertions.assertNull(ScriptUtils.compileScript(state, scriptEngine));
+        Assertions.assertEquals(2, ScriptUtils.eval(state, scriptEngine, bindings));
+        Assertions.assertEquals(3, ScriptUtils.eval(state, scriptEngine, null));
+        Assertions.assertNull(state.getCompiledScript());
+        verify(scriptEngine).eval("a + 1", bindings);
+        verify(scriptEngine).eval("a + 1", emptyBindings);
+    }
+
+    private static ScriptTaskStateImpl newState(String scriptContent) {
+        ScriptTaskStateImpl state = new ScriptTaskStateImpl();
+        state.setScriptType("groovy");
+        state.setScriptContent(scriptContent);
+        return state;
+    }
+
+    private static Bindings bindings(String name, Object value) {
+        Bindings bindings = new SimpleBindings();
+        bindings.put(name, value);
+        return bindings;
+    }
+}
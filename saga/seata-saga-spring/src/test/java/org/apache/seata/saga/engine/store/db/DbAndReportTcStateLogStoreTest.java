@@ -19,11 +19,14 @@ package org.apache.seata.saga.engine.store.db;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
+import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.saga.engine.config.DbStateMachineConfig;
 import org.apache.seata.saga.engine.sequence.UUIDSeqGenerator;
 import org.apache.seata.saga.proctrl.impl.ProcessContextImpl;
 import org.apache.seata.saga.statelang.domain.DomainConstants;
+import org.apache.seata.saga.statelang.domain.ExecutionStatus;
 import org.apache.seata.saga.statelang.domain.impl.StateInstanceImpl;
 import org.apache.seata.saga.statelang.domain.impl.StateMachineInstanceImpl;
 import org.junit.jupiter.api.Assertions;
@@ -131,6 +134,49 @@ public class DbAndReportTcStateLogStoreTest {
         Assertions.assertDoesNotThrow(() -> dbAndReportTcStateLogStore.queryStateInstanceListByMachineInstanceId("test"));
     }
 
+    @Test
+    public void testStateLogWriteBehind() {
+        dbAndReportTcStateLogStore.setStateLogWriteBehind(true);
+        Mockito.doNothing().when(dbAndReportTcStateLogStore).executeBatch(any());
+        StateInstanceImpl stateInstance = new StateInstanceImpl();
+        stateInstance.setId("stateInstanceId");
+        stateInstance.setMachineInstanceId("machineInstanceId");
+        stateInstance.setStatus(ExecutionStatus.SU);
+        ProcessContextImpl context = new ProcessContextImpl();
+        context.setVariable(DomainConstants.VAR_NAME_STATEMACHINE_CONFIG, new DbStateMachineConfig());
+
+        dbAndReportTcStateLogStore.recordStateFinished(stateInstance, context);
+        Mockito.verify(dbAndReportTcStateLogStore, Mockito.never()).executeUpdate(any(), any(), any());
+        Mockito.verify(dbAndReportTcStateLogStore, Mockito.never()).executeBatch(any());
+
+        dbAndReportTcStateLogStore.queryStateInstanceListByMachineInstanceId("machineInstanceId");
+        Mockito.verify(dbAndReportTcStateLogStore).executeBatch(Mockito.argThat(statements -> statements.size() == 1));
+
+        dbAndReportTcStateLogStore.queryStateInstanceListByMachineInstanceId("machineInstanceId");
+        Mockito.verify(dbAndReportTcStateLogStore).executeBatch(Mockito.argThat(List::isEmpty));
+    }
+
+    @Test
+    public void testStateLogWriteBehindBatchFailure() {
+        dbAndReportTcStateLogStore.setStateLogWriteBehind(true);
+        Mockito.doThrow(new StoreException("batch failed")).doNothing().when(dbAndReportTcStateLogStore)
+            .executeBatch(any());
+        StateInstanceImpl stateInstance = new StateInstanceImpl();
+        stateInstance.setId("stateInstanceId");
+        stateInstance.setMachineInstanceId("failedMachineInstanceId");
+        stateInstance.setStatus(ExecutionStatus.SU);
+        ProcessContextImpl context = new ProcessContextImpl();
+        context.setVariable(DomainConstants.VAR_NAME_STATEMACHINE_CONFIG, new DbStateMachineConfig());
+        dbAndReportTcStateLogStore.recordStateFinished(stateInstance, context);
+
+        Assertions.assertThrows(StoreException.class,
+            () -> dbAndReportTcStateLogStore.queryStateInstanceListByMachineInstanceId("failedMachineInstanceId"));
+        // the failed statement is kept and written by the next flush
+        dbAndReportTcStateLogStore.queryStateInstanceListByMachineInstanceId("failedMachineInstanceId");
+        Mockito.verify(dbAndReportTcStateLogStore, Mockito.times(2)).executeBatch(
+            Mockito.argThat(statements -> statements.size() == 1));
+    }
+
     @Test
     public void testClearUp() {
         ProcessContextImpl context = new ProcessContextImpl();
@@ -31,6 +31,11 @@ public class ScriptTaskStateImpl extends AbstractTaskState implements ScriptTask
 
     private String scriptContent;
 
+    /**
+     * the script compiled by the ScriptEngine of the script type, kept untyped like the other engine caches
+     */
+    private volatile Object compiledScript;
+
     public ScriptTaskStateImpl() {
         setType(StateType.SCRIPT_TASK);
     }
@@ -52,4 +57,12 @@ public class ScriptTaskStateImpl extends AbstractTaskState implements ScriptTask
     public void setScriptContent(String scriptContent) {
         this.scriptContent = scriptContent;
     }
+
+    public Object getCompiledScript() {
+        return compiledScript;
+    }
+
+    public void setCompiledScript(Object compiledScript) {
+        this.compiledScript = compiledScript;
+    }
 }
@@ -19,7 +19,9 @@ package org.apache.seata.spring.boot.autoconfigure.properties.client;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_DERIVE_AFTER_IMAGE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ONLY_CARE_UPDATE_COLUMNS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_BATCH_SIZE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_DATA_VALIDATION;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_LOG_SERIALIZATION;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_LOG_TABLE;
@@ -33,6 +35,8 @@ public class UndoProperties {
     private String logSerialization = DEFAULT_TRANSACTION_UNDO_LOG_SERIALIZATION;
     private String logTable = DEFAULT_TRANSACTION_UNDO_LOG_TABLE;
     private boolean onlyCareUpdateColumns = DEFAULT_ONLY_CARE_UPDATE_COLUMNS;
+    private int batchSize = DEFAULT_TRANSACTION_UNDO_BATCH_SIZE;
+    private boolean deriveAfterImage = DEFAULT_DERIVE_AFTER_IMAGE;
 
     public boolean isDataValidation() {
         return dataValidation;
@@ -69,4 +73,22 @@ public class UndoProperties {
         this.onlyCareUpdateColumns = onlyCareUpdateColumns;
         return this;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public UndoProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public boolean isDeriveAfterImage() {
+        return deriveAfterImage;
+    }
+
+    public UndoProperties setDeriveAfterImage(boolean deriveAfterImage) {
+        this.deriveAfterImage = deriveAfterImage;
+        return this;
+    }
 }
@@ -51,12 +51,18 @@ public class RmPropertiesTest {
         rmProperties.setSagaCompensatePersistModeUpdate(true);
         Assertions.assertTrue(rmProperties.isSagaCompensatePersistModeUpdate());
 
+        rmProperties.setSagaStateLogWriteBehind(true);
+        Assertions.assertTrue(rmProperties.isSagaStateLogWriteBehind());
+
         rmProperties.setTccActionInterceptorOrder(1);
         Assertions.assertEquals(1, rmProperties.getTccActionInterceptorOrder());
 
         rmProperties.setSqlParserType("type");
         Assertions.assertEquals("type", rmProperties.getSqlParserType());
 
+        rmProperties.setSqlParserCacheSize(1L);
+        Assertions.assertEquals(1L, rmProperties.getSqlParserCacheSize());
+
         rmProperties.setBranchExecutionTimeoutXA(1);
         Assertions.assertEquals(1, rmProperties.getBranchExecutionTimeoutXA());
 
@@ -68,5 +74,11 @@ public class RmPropertiesTest {
 
         rmProperties.setApplicationDataLimit(1);
         Assertions.assertEquals(1, rmProperties.getApplicationDataLimit());
+
+        rmProperties.setTableMetaSnapshotDir("/tmp/seata");
+        Assertions.assertEquals("/tmp/seata", rmProperties.getTableMetaSnapshotDir());
+
+        rmProperties.setLockKeyBinaryEnable(true);
+        Assertions.assertTrue(rmProperties.isLockKeyBinaryEnable());
     }
 }
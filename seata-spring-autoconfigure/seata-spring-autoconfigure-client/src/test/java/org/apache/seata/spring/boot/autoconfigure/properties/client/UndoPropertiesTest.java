@@ -35,5 +35,11 @@ public class UndoPropertiesTest {
 
         undoProperties.setOnlyCareUpdateColumns(true);
         Assertions.assertTrue(undoProperties.isOnlyCareUpdateColumns());
+
+        undoProperties.setBatchSize(100);
+        Assertions.assertEquals(100, undoProperties.getBatchSize());
+
+        undoProperties.setDeriveAfterImage(true);
+        Assertions.assertTrue(undoProperties.isDeriveAfterImage());
     }
 }
@@ -19,8 +19,10 @@ package org.apache.seata.spring.boot.autoconfigure.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_CHANNELS_PER_SERVER;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_RM_CLIENT_BATCH_SEND_REQUEST;
+import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_TM_CLIENT_BATCH_SEND_REQUEST;
 import static org.apache.seata.common.DefaultValues.DEFAULT_PROTOCOL;
@@ -77,6 +79,16 @@ public class TransportProperties {
      */
     private boolean enableTcServerBatchSendResponse = DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_RESPONSE;
 
+    /**
+     * enable TC server batch send request
+     */
+    private boolean enableTcServerBatchSendRequest = DEFAULT_ENABLE_TC_SERVER_BATCH_SEND_REQUEST;
+
+    /**
+     * the channels of the client to one TC server
+     */
+    private int clientChannelsPerServer = DEFAULT_CLIENT_CHANNELS_PER_SERVER;
+
     /**
      * rpcRmRequestTimeout
      */
@@ -173,6 +185,22 @@ public class TransportProperties {
         this.enableTcServerBatchSendResponse = enableTcServerBatchSendResponse;
     }
 
+    public boolean isEnableTcServerBatchSendRequest() {
+        return enableTcServerBatchSendRequest;
+    }
+
+    public void setEnableTcServerBatchSendRequest(boolean enableTcServerBatchSendRequest) {
+        this.enableTcServerBatchSendRequest = enableTcServerBatchSendRequest;
+    }
+
+    public int getClientChannelsPerServer() {
+        return clientChannelsPerServer;
+    }
+
+    public void setClientChannelsPerServer(int clientChannelsPerServer) {
+        this.clientChannelsPerServer = clientChannelsPerServer;
+    }
+
     public long getRpcRmRequestTimeout() {
         return rpcRmRequestTimeout;
     }
@@ -33,6 +33,8 @@ public class TransportPropertiesTest {
         transportProperties.setEnableRmClientBatchSendRequest(true);
         transportProperties.setEnableTmClientBatchSendRequest(true);
         transportProperties.setEnableTcServerBatchSendResponse(true);
+        transportProperties.setEnableTcServerBatchSendRequest(true);
+        transportProperties.setClientChannelsPerServer(2);
         transportProperties.setRpcRmRequestTimeout(1);
         transportProperties.setRpcTmRequestTimeout(1);
         transportProperties.setRpcTcRequestTimeout(1);
@@ -46,6 +48,8 @@ public class TransportPropertiesTest {
         Assertions.assertTrue(transportProperties.isEnableRmClientBatchSendRequest());
         Assertions.assertTrue(transportProperties.isEnableTmClientBatchSendRequest());
         Assertions.assertTrue(transportProperties.isEnableTcServerBatchSendResponse());
+        Assertions.assertTrue(transportProperties.isEnableTcServerBatchSendRequest());
+        Assertions.assertEquals(2, transportProperties.getClientChannelsPerServer());
         Assertions.assertEquals(1, transportProperties.getRpcRmRequestTimeout());
         Assertions.assertEquals(1, transportProperties.getRpcTmRequestTimeout());
         Assertions.assertEquals(1, transportProperties.getRpcTcRequestTimeout());
@@ -27,10 +27,12 @@ import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.SERVER
 public class ServerProperties {
     private long maxCommitRetryTimeout = -1L;
     private long maxRollbackRetryTimeout = -1L;
+    private long lockWaitTimeout = 0L;
     private Boolean rollbackRetryTimeoutUnlockEnable = false;
     private Boolean enableCheckAuth = true;
     private Boolean enableParallelRequestHandle = true;
     private Boolean enableParallelHandleBranch = false;
+    private Boolean enableAsyncHandleBranch = false;
     private Integer retryDeadThreshold = 130000;
     private Integer servicePort;
     private Integer xaerNotaRetryTimeout = 60000;
@@ -56,6 +58,15 @@ public class ServerProperties {
         return this;
     }
 
+    public long getLockWaitTimeout() {
+        return lockWaitTimeout;
+    }
+
+    public ServerProperties setLockWaitTimeout(long lockWaitTimeout) {
+        this.lockWaitTimeout = lockWaitTimeout;
+        return this;
+    }
+
     public Boolean getRollbackRetryTimeoutUnlockEnable() {
         return rollbackRetryTimeoutUnlockEnable;
     }
@@ -116,6 +127,14 @@ public class ServerProperties {
         this.enableParallelHandleBranch = enableParallelHandleBranch;
     }
 
+    public Boolean getEnableAsyncHandleBranch() {
+        return enableAsyncHandleBranch;
+    }
+
+    public void setEnableAsyncHandleBranch(Boolean enableAsyncHandleBranch) {
+        this.enableAsyncHandleBranch = enableAsyncHandleBranch;
+    }
+
     public Boolean getApplicationDataLimitCheck() {
         return applicationDataLimitCheck;
     }
@@ -21,6 +21,9 @@ import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERIOD;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_LANES;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.SERVER_RECOVERY_PREFIX;
@@ -34,6 +37,9 @@ public class ServerRecoveryProperties {
     private long asyncCommittingRetryPeriod = DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
     private long rollbackingRetryPeriod = DEFAULT_ROLLBACKING_RETRY_PERIOD;
     private long timeoutRetryPeriod = DEFAULT_TIMEOUT_RETRY_PERIOD;
+    private int phaseTwoLanes = DEFAULT_PHASE_TWO_LANES;
+    private int phaseTwoLaneQueueSize = DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE;
+    private int phaseTwoMaxInFlightPerResource = DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE;
 
     public long getCommittingRetryPeriod() {
         return committingRetryPeriod;
@@ -70,4 +76,31 @@ public class ServerRecoveryProperties {
         this.timeoutRetryPeriod = timeoutRetryPeriod;
         return this;
     }
+
+    public int getPhaseTwoLanes() {
+        return phaseTwoLanes;
+    }
+
+    public ServerRecoveryProperties setPhaseTwoLanes(int phaseTwoLanes) {
+        this.phaseTwoLanes = phaseTwoLanes;
+        return this;
+    }
+
+    public int getPhaseTwoLaneQueueSize() {
+        return phaseTwoLaneQueueSize;
+    }
+
+    public ServerRecoveryProperties setPhaseTwoLaneQueueSize(int phaseTwoLaneQueueSize) {
+        this.phaseTwoLaneQueueSize = phaseTwoLaneQueueSize;
+        return this;
+    }
+
+    public int getPhaseTwoMaxInFlightPerResource() {
+        return phaseTwoMaxInFlightPerResource;
+    }
+
+    public ServerRecoveryProperties setPhaseTwoMaxInFlightPerResource(int phaseTwoMaxInFlightPerResource) {
+        this.phaseTwoMaxInFlightPerResource = phaseTwoMaxInFlightPerResource;
+        return this;
+    }
 }
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Component;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MAX_CONN;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MIN_CONN;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_WRITE_BATCH_SIZE;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_DB_PREFIX;
 
 
@@ -43,6 +44,7 @@ public class StoreDBProperties {
     private String vgroupTable = "vgroup_table";
     private Integer queryLimit = DEFAULT_QUERY_LIMIT;
     private Long maxWait = 5000L;
+    private Integer writeBatchSize = DEFAULT_STORE_DB_WRITE_BATCH_SIZE;
 
     public String getDatasource() {
         return datasource;
@@ -169,6 +171,15 @@ public class StoreDBProperties {
         return this;
     }
 
+    public Integer getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public StoreDBProperties setWriteBatchSize(Integer writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+        return this;
+    }
+
     public String getVgroupTable() {
         return vgroupTable;
     }
@@ -19,6 +19,9 @@ package org.apache.seata.spring.boot.autoconfigure.properties.server.store;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_MODE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_SIZE;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_SESSION_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_LOCK_PREFIX;
@@ -58,6 +61,15 @@ public class StoreProperties {
     public static class Session {
         private String mode;
 
+        /**
+         * none, owner, exclusive
+         */
+        private String cacheMode = DEFAULT_STORE_SESSION_CACHE_MODE;
+
+        private int cacheSize = DEFAULT_STORE_SESSION_CACHE_SIZE;
+
+        private long cacheExpirePeriod = DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD;
+
         public String getMode() {
             return mode;
         }
@@ -66,6 +78,33 @@ public class StoreProperties {
             this.mode = mode;
             return this;
         }
+
+        public String getCacheMode() {
+            return cacheMode;
+        }
+
+        public StoreProperties.Session setCacheMode(String cacheMode) {
+            this.cacheMode = cacheMode;
+            return this;
+        }
+
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
+        public StoreProperties.Session setCacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        public long getCacheExpirePeriod() {
+            return cacheExpirePeriod;
+        }
+
+        public StoreProperties.Session setCacheExpirePeriod(long cacheExpirePeriod) {
+            this.cacheExpirePeriod = cacheExpirePeriod;
+            return this;
+        }
     }
 
 
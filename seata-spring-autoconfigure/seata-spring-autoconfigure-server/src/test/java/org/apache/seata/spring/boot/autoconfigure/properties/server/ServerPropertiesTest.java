@@ -31,18 +31,22 @@ public class ServerPropertiesTest {
         serverProperties.setEnableCheckAuth(true);
         serverProperties.setApplicationDataLimitCheck(true);
         serverProperties.setEnableParallelHandleBranch(true);
+        serverProperties.setEnableAsyncHandleBranch(true);
         serverProperties.setEnableParallelRequestHandle(true);
         serverProperties.setRollbackRetryTimeoutUnlockEnable(true);
         serverProperties.setMaxCommitRetryTimeout(1L);
         serverProperties.setMaxRollbackRetryTimeout(1L);
+        serverProperties.setLockWaitTimeout(1L);
 
         Assertions.assertEquals(1, serverProperties.getXaerNotaRetryTimeout());
+        Assertions.assertEquals(1L, serverProperties.getLockWaitTimeout());
         Assertions.assertEquals(1, serverProperties.getRetryDeadThreshold());
         Assertions.assertEquals(1, serverProperties.getApplicationDataLimit());
         Assertions.assertEquals(1, serverProperties.getServicePort());
         Assertions.assertTrue(serverProperties.getEnableCheckAuth());
         Assertions.assertTrue(serverProperties.getApplicationDataLimitCheck());
         Assertions.assertTrue(serverProperties.getEnableParallelHandleBranch());
+        Assertions.assertTrue(serverProperties.getEnableAsyncHandleBranch());
         Assertions.assertTrue(serverProperties.getEnableParallelRequestHandle());
         Assertions.assertTrue(serverProperties.getRollbackRetryTimeoutUnlockEnable());
         Assertions.assertEquals(1L, serverProperties.getMaxCommitRetryTimeout());
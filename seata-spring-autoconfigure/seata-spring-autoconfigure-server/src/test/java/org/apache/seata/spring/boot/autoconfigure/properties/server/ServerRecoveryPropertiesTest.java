@@ -28,10 +28,16 @@ public class ServerRecoveryPropertiesTest {
         serverRecoveryProperties.setCommittingRetryPeriod(1L);
         serverRecoveryProperties.setRollbackingRetryPeriod(1L);
         serverRecoveryProperties.setTimeoutRetryPeriod(1L);
+        serverRecoveryProperties.setPhaseTwoLanes(4);
+        serverRecoveryProperties.setPhaseTwoLaneQueueSize(100);
+        serverRecoveryProperties.setPhaseTwoMaxInFlightPerResource(2);
 
         Assertions.assertEquals(1L, serverRecoveryProperties.getAsyncCommittingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getCommittingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getRollbackingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getTimeoutRetryPeriod());
+        Assertions.assertEquals(4, serverRecoveryProperties.getPhaseTwoLanes());
+        Assertions.assertEquals(100, serverRecoveryProperties.getPhaseTwoLaneQueueSize());
+        Assertions.assertEquals(2, serverRecoveryProperties.getPhaseTwoMaxInFlightPerResource());
     }
 }
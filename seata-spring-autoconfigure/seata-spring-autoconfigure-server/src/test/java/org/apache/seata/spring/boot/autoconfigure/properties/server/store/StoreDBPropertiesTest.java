@@ -38,6 +38,7 @@ public class StoreDBPropertiesTest {
         storeDBProperties.setMaxConn(1);
         storeDBProperties.setQueryLimit(1);
         storeDBProperties.setMaxWait(1L);
+        storeDBProperties.setWriteBatchSize(1);
 
         Assertions.assertEquals("url", storeDBProperties.getUrl());
         Assertions.assertEquals("user", storeDBProperties.getUser());
@@ -53,5 +54,6 @@ public class StoreDBPropertiesTest {
         Assertions.assertEquals(1, storeDBProperties.getMaxConn());
         Assertions.assertEquals(1, storeDBProperties.getQueryLimit());
         Assertions.assertEquals(1L, storeDBProperties.getMaxWait());
+        Assertions.assertEquals(1, storeDBProperties.getWriteBatchSize());
     }
 }
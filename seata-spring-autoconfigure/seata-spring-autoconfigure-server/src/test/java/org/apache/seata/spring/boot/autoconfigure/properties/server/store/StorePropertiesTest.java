@@ -29,6 +29,9 @@ public class StorePropertiesTest {
 
         StoreProperties.Session session = new StoreProperties.Session();
         session.setMode("mode");
+        session.setCacheMode("owner");
+        session.setCacheSize(100);
+        session.setCacheExpirePeriod(1000L);
 
         StoreProperties.Lock lock = new StoreProperties.Lock();
         lock.setMode("mode");
@@ -36,6 +39,9 @@ public class StorePropertiesTest {
         Assertions.assertEquals("mode", storeProperties.getMode());
         Assertions.assertEquals("public", storeProperties.getPublicKey());
         Assertions.assertEquals("mode", session.getMode());
+        Assertions.assertEquals("owner", session.getCacheMode());
+        Assertions.assertEquals(100, session.getCacheSize());
+        Assertions.assertEquals(1000L, session.getCacheExpirePeriod());
         Assertions.assertEquals("mode", lock.getMode());
     }
 }
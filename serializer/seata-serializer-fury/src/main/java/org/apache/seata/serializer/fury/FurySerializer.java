@@ -16,6 +16,9 @@
  */
 package org.apache.seata.serializer.fury;
 
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
 import org.apache.fury.ThreadSafeFury;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.core.protocol.AbstractMessage;
@@ -40,4 +43,15 @@ public class FurySerializer implements Serializer {
         ThreadSafeFury threadSafeFury = FurySerializerFactory.getInstance().get();
         return  (T) threadSafeFury.deserialize(bytes);
     }
+
+    @Override
+    public <T> T deserialize(ByteBuf in, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("bytes is null");
+        }
+        ByteBuffer byteBuffer = in.nioBuffer(in.readerIndex(), length);
+        in.skipBytes(length);
+        ThreadSafeFury threadSafeFury = FurySerializerFactory.getInstance().get();
+        return (T) threadSafeFury.deserialize(byteBuffer);
+    }
 }
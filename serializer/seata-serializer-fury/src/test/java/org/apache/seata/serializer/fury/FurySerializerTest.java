@@ -16,6 +16,9 @@
  */
 package org.apache.seata.serializer.fury;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
@@ -57,6 +60,32 @@ public class FurySerializerTest {
 
     }
 
+    @Test
+    public void testBranchCommitRequestByteBuf() {
+
+        BranchCommitRequest branchCommitRequest = new BranchCommitRequest();
+        branchCommitRequest.setBranchType(BranchType.AT);
+        branchCommitRequest.setXid("xid");
+        branchCommitRequest.setResourceId("resourceId");
+        branchCommitRequest.setBranchId(20190809);
+        branchCommitRequest.setApplicationData("app");
+
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try {
+            furySerializer.serialize(branchCommitRequest, buf);
+            assertThat(ByteBufUtil.getBytes(buf)).isEqualTo(furySerializer.serialize(branchCommitRequest));
+            BranchCommitRequest t = furySerializer.deserialize(buf, buf.readableBytes());
+
+            assertThat(buf.isReadable()).isFalse();
+            assertThat(t.getXid()).isEqualTo(branchCommitRequest.getXid());
+            assertThat(t.getResourceId()).isEqualTo(branchCommitRequest.getResourceId());
+            assertThat(t.getBranchId()).isEqualTo(branchCommitRequest.getBranchId());
+            assertThat(t.getApplicationData()).isEqualTo(branchCommitRequest.getApplicationData());
+        } finally {
+            buf.release();
+        }
+    }
+
     @Test
     public void testBranchCommitResponse() {
 
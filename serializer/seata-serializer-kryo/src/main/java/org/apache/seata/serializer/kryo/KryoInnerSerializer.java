@@ -23,6 +23,9 @@ import java.util.Objects;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 
 
 public class KryoInnerSerializer implements AutoCloseable {
@@ -52,6 +55,22 @@ public class KryoInnerSerializer implements AutoCloseable {
         return (T) kryo.readClassAndObject(input);
     }
 
+    public <T> void serialize(T t, ByteBuf out) {
+        Output output = new Output(new ByteBufOutputStream(out));
+        kryo.writeClassAndObject(output, t);
+        output.close();
+    }
+
+    public <T> T deserialize(ByteBuf in, int length) {
+        int readerIndex = in.readerIndex();
+        Input input = new Input(new ByteBufInputStream(in, length));
+        try {
+            return (T) kryo.readClassAndObject(input);
+        } finally {
+            in.readerIndex(readerIndex + length);
+        }
+    }
+
     @Override
     public void close() {
         KryoSerializerFactory.getInstance().returnKryo(this);
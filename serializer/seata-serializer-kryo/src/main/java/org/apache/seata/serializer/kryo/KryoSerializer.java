@@ -16,6 +16,7 @@
  */
 package org.apache.seata.serializer.kryo;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.serializer.Serializer;
@@ -52,4 +53,30 @@ public class KryoSerializer implements Serializer {
 
     }
 
+    @Override
+    public <T> void serialize(T t, ByteBuf out) {
+        if (!(t instanceof AbstractMessage)) {
+            throw new IllegalArgumentException("message is illegal");
+        }
+        KryoInnerSerializer kryoSerializer = KryoSerializerFactory.getInstance().get();
+        try {
+            kryoSerializer.serialize(t, out);
+        } finally {
+            KryoSerializerFactory.getInstance().returnKryo(kryoSerializer);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(ByteBuf in, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("bytes is null");
+        }
+        KryoInnerSerializer kryoSerializer = KryoSerializerFactory.getInstance().get();
+        try {
+            return kryoSerializer.deserialize(in, length);
+        } finally {
+            KryoSerializerFactory.getInstance().returnKryo(kryoSerializer);
+        }
+    }
+
 }
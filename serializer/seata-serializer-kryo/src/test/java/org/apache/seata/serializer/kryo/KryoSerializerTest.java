@@ -24,6 +24,9 @@ import java.util.Map;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
@@ -79,6 +82,35 @@ public class KryoSerializerTest {
 
     }
 
+    @Test
+    public void testBranchCommitRequestByteBuf() {
+
+        BranchCommitRequest branchCommitRequest = new BranchCommitRequest();
+        branchCommitRequest.setBranchType(BranchType.AT);
+        branchCommitRequest.setXid("xid");
+        branchCommitRequest.setResourceId("resourceId");
+        branchCommitRequest.setBranchId(20190809);
+        branchCommitRequest.setApplicationData("app");
+
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try {
+            // the frame head is already in the buffer when the body is serialized
+            buf.writeLong(0L);
+            kryoCodec.serialize(branchCommitRequest, buf);
+            buf.skipBytes(8);
+            assertThat(ByteBufUtil.getBytes(buf)).isEqualTo(kryoCodec.serialize(branchCommitRequest));
+            BranchCommitRequest t = kryoCodec.deserialize(buf, buf.readableBytes());
+
+            assertThat(buf.isReadable()).isFalse();
+            assertThat(t.getXid()).isEqualTo(branchCommitRequest.getXid());
+            assertThat(t.getResourceId()).isEqualTo(branchCommitRequest.getResourceId());
+            assertThat(t.getBranchId()).isEqualTo(branchCommitRequest.getBranchId());
+            assertThat(t.getApplicationData()).isEqualTo(branchCommitRequest.getApplicationData());
+        } finally {
+            buf.release();
+        }
+    }
+
     @Test
     public void testBranchCommitResponse() {
 
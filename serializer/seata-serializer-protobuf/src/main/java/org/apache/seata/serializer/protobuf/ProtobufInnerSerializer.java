@@ -16,11 +16,16 @@
  */
 package org.apache.seata.serializer.protobuf;
 
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import org.apache.seata.common.exception.ShouldNeverHappenException;
 import org.apache.seata.common.util.CollectionUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 
 
 public class ProtobufInnerSerializer {
@@ -83,4 +88,51 @@ public class ProtobufInnerSerializer {
             throw new ShouldNeverHappenException("Error when invoke " + clazz.getName() + ".parseFrom(byte[]).", e);
         }
     }
+
+    public static void serializeContent(MessageLite request, ByteBuf out) {
+        int size = request.getSerializedSize();
+        out.ensureWritable(size);
+        try {
+            if (out.nioBufferCount() == 1) {
+                // write straight into the memory of the buffer
+                CodedOutputStream output = CodedOutputStream.newInstance(out.nioBuffer(out.writerIndex(), size));
+                request.writeTo(output);
+                output.flush();
+                output.checkNoSpaceLeft();
+                out.writerIndex(out.writerIndex() + size);
+            } else {
+                request.writeTo(new ByteBufOutputStream(out));
+            }
+        } catch (Exception e) {
+            throw new ShouldNeverHappenException("serialize occurs exception", e);
+        }
+    }
+
+    public static <T> T deserializeContent(String responseClazz, ByteBuffer content) {
+        if (content == null || !content.hasRemaining()) {
+            return null;
+        }
+        Class clazz = PROTOBUF_HELPER.getPbClass(responseClazz);
+
+        Method method = CollectionUtils.computeIfAbsent(PROTOBUF_HELPER.parseFromBufferMethodMap, clazz, key -> {
+            try {
+                Method m = clazz.getMethod(METHOD_PARSEFROM, ByteBuffer.class);
+                if (!Modifier.isStatic(m.getModifiers())) {
+                    throw new ShouldNeverHappenException("Cannot found static method " + clazz.getName()
+                        + ".parseFrom(ByteBuffer), please check the generated code");
+                }
+                m.setAccessible(true);
+                return m;
+            } catch (NoSuchMethodException e) {
+                throw new ShouldNeverHappenException("Cannot found method " + clazz.getName()
+                    + ".parseFrom(ByteBuffer), please check the generated code", e);
+            }
+        });
+
+        try {
+            return (T)method.invoke(null, content);
+        } catch (Exception e) {
+            throw new ShouldNeverHappenException("Error when invoke " + clazz.getName() + ".parseFrom(ByteBuffer).", e);
+        }
+    }
 }
@@ -22,6 +22,8 @@ import java.nio.charset.StandardCharsets;
 
 import com.google.protobuf.GeneratedMessageV3;
 
+import io.netty.buffer.ByteBuf;
+
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.common.util.BufferUtils;
 import org.apache.seata.core.serializer.Serializer;
@@ -81,4 +83,37 @@ public class ProtobufSerializer implements Serializer {
         return (T)newBody;
     }
 
+    @Override
+    public <T> void serialize(T t, ByteBuf out) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+
+        //translate to pb
+        final PbConvertor pbConvertor = ProtobufConvertManager.getInstance().fetchConvertor(
+            t.getClass().getName());
+        //for cross language,write FullName to data,which defines in proto file
+        GeneratedMessageV3 newBody = (GeneratedMessageV3)pbConvertor.convert2Proto(t);
+        final String name = newBody.getDescriptorForType().getFullName();
+        final byte[] nameBytes = name.getBytes(UTF8);
+        out.writeInt(nameBytes.length);
+        out.writeBytes(nameBytes);
+        ProtobufInnerSerializer.serializeContent(newBody, out);
+    }
+
+    @Override
+    public <T> T deserialize(ByteBuf in, int length) {
+        int clazzNameLength = in.readInt();
+        final String descriptorName = in.readCharSequence(clazzNameLength, UTF8).toString();
+        int bodyLength = length - clazzNameLength - 4;
+        ByteBuffer body = in.nioBuffer(in.readerIndex(), bodyLength);
+        in.skipBytes(bodyLength);
+        Class protobufClazz = ProtobufConvertManager.getInstance().fetchProtoClass(descriptorName);
+        Object protobufObject = ProtobufInnerSerializer.deserializeContent(protobufClazz.getName(), body);
+        //translate back to core model
+        final PbConvertor pbConvertor = ProtobufConvertManager.getInstance().fetchReversedConvertor(protobufClazz.getName());
+        Object newBody = pbConvertor.convert2Model(protobufObject);
+        return (T)newBody;
+    }
+
 }
@@ -55,6 +55,16 @@ public class SeataSerializer implements Serializer {
         return versionSeataSerializer.deserialize(bytes);
     }
 
+    @Override
+    public <T> void serialize(T t, ByteBuf out) {
+        versionSeataSerializer.serialize(t, out);
+    }
+
+    @Override
+    public <T> T deserialize(ByteBuf in, int length) {
+        return versionSeataSerializer.deserialize(in, length);
+    }
+
 
     static class SeataSerializerV1 implements Serializer {
 
@@ -108,6 +118,26 @@ public class SeataSerializer implements Serializer {
         public <T> T deserialize(byte[] bytes) {
             return deserializeByVersion(bytes, ProtocolConstants.VERSION_1);
         }
+
+        @Override
+        public <T> void serialize(T t, ByteBuf out) {
+            if (!(t instanceof AbstractMessage)) {
+                throw new IllegalArgumentException("AbstractMessage isn't available.");
+            }
+            AbstractMessage abstractMessage = (AbstractMessage) t;
+            //type code
+            short typecode = abstractMessage.getTypeCode();
+            //msg codec
+            MessageSeataCodec messageCodec = MessageCodecFactory.getMessageCodec(typecode, ProtocolConstants.VERSION_1);
+            //typecode + body
+            out.writeShort(typecode);
+            messageCodec.encode(t, out);
+        }
+
+        @Override
+        public <T> T deserialize(ByteBuf in, int length) {
+            return deserializeByVersion(readBuffer(in, length), ProtocolConstants.VERSION_1);
+        }
     }
     static class SeataSerializerV0 implements Serializer {
 
@@ -160,16 +190,41 @@ public class SeataSerializer implements Serializer {
             return deserializeByVersion(bytes, ProtocolConstants.VERSION_0);
         }
 
+        @Override
+        public <T> void serialize(T t, ByteBuf out) {
+            if (!(t instanceof AbstractMessage)) {
+                throw new IllegalArgumentException("AbstractMessage isn't available.");
+            }
+            AbstractMessage abstractMessage = (AbstractMessage) t;
+            //type code
+            short typecode = abstractMessage.getTypeCode();
+            //msg codec
+            MessageSeataCodec messageCodec = MessageCodecFactory.getMessageCodec(typecode, ProtocolConstants.VERSION_0);
+            //msg encode
+            messageCodec.encode(t, out);
+        }
+
+        @Override
+        public <T> T deserialize(ByteBuf in, int length) {
+            return deserializeByVersion(readBuffer(in, length), ProtocolConstants.VERSION_0);
+        }
+
     }
 
     private static <T> T deserializeByVersion(byte[] bytes, byte version) {
         if (bytes == null || bytes.length == 0) {
             throw new IllegalArgumentException("Nothing to decode.");
         }
-        if (bytes.length < 2) {
+        return deserializeByVersion(ByteBuffer.wrap(bytes), version);
+    }
+
+    private static <T> T deserializeByVersion(ByteBuffer byteBuffer, byte version) {
+        if (!byteBuffer.hasRemaining()) {
+            throw new IllegalArgumentException("Nothing to decode.");
+        }
+        if (byteBuffer.remaining() < 2) {
             throw new IllegalArgumentException("The byte[] isn't available for decode.");
         }
-        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         //typecode
         short typecode = byteBuffer.getShort();
         ByteBuffer in = byteBuffer.slice();
@@ -181,4 +236,13 @@ public class SeataSerializer implements Serializer {
         messageCodec.decode(abstractMessage, in);
         return (T) abstractMessage;
     }
+
+    /**
+     * View the next length readable bytes of the buffer without copying them, the bytes are consumed.
+     */
+    private static ByteBuffer readBuffer(ByteBuf in, int length) {
+        ByteBuffer byteBuffer = in.nioBuffer(in.readerIndex(), length);
+        in.skipBytes(length);
+        return byteBuffer;
+    }
 }
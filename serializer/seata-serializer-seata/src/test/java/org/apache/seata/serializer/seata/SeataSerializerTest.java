@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata;
+
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.seata.core.model.BranchStatus;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.protocol.AbstractMessage;
+import org.apache.seata.core.protocol.AbstractResultMessage;
+import org.apache.seata.core.protocol.BatchResultMessage;
+import org.apache.seata.core.protocol.MergeResultMessage;
+import org.apache.seata.core.protocol.MergedWarpMessage;
+import org.apache.seata.core.protocol.MessageType;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.AbstractBranchEndRequest;
+import org.apache.seata.core.protocol.transaction.AbstractBranchEndResponse;
+import org.apache.seata.core.protocol.transaction.AbstractGlobalEndResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
+import org.apache.seata.core.protocol.transaction.BranchReportRequest;
+import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalBeginResponse;
+import org.apache.seata.core.protocol.transaction.GlobalReportRequest;
+import org.apache.seata.core.protocol.transaction.UndoLogDeleteRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialize into a buffer that already holds bytes, as the protocol encoder does.
+ */
+public class SeataSerializerTest {
+
+    private static final short[] TYPE_CODES = {MessageType.TYPE_SEATA_MERGE, MessageType.TYPE_SEATA_MERGE_RESULT,
+        MessageType.TYPE_REG_CLT, MessageType.TYPE_REG_CLT_RESULT, MessageType.TYPE_REG_RM,
+        MessageType.TYPE_REG_RM_RESULT, MessageType.TYPE_BRANCH_COMMIT, MessageType.TYPE_BRANCH_ROLLBACK,
+        MessageType.TYPE_RM_DELETE_UNDOLOG, MessageType.TYPE_GLOBAL_REPORT, MessageType.TYPE_GLOBAL_REPORT_RESULT,
+        MessageType.TYPE_BATCH_RESULT_MSG, MessageType.TYPE_GLOBAL_BEGIN, MessageType.TYPE_GLOBAL_COMMIT,
+        MessageType.TYPE_GLOBAL_ROLLBACK, MessageType.TYPE_GLOBAL_STATUS, MessageType.TYPE_GLOBAL_LOCK_QUERY,
+        MessageType.TYPE_BRANCH_REGISTER, MessageType.TYPE_BRANCH_STATUS_REPORT, MessageType.TYPE_GLOBAL_BEGIN_RESULT,
+        MessageType.TYPE_GLOBAL_COMMIT_RESULT, MessageType.TYPE_GLOBAL_ROLLBACK_RESULT,
+        MessageType.TYPE_GLOBAL_STATUS_RESULT, MessageType.TYPE_GLOBAL_LOCK_QUERY_RESULT,
+        MessageType.TYPE_BRANCH_REGISTER_RESULT, MessageType.TYPE_BRANCH_STATUS_REPORT_RESULT,
+        MessageType.TYPE_BRANCH_COMMIT_RESULT, MessageType.TYPE_BRANCH_ROLLBACK_RESULT};
+
+    private static final byte[] FRAME_HEAD = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17};
+
+    @Test
+    public void testSerializeIntoNonEmptyBuffer() {
+        for (byte version : new byte[] {ProtocolConstants.VERSION_0, ProtocolConstants.VERSION_1}) {
+            SeataSerializer seataSerializer = new SeataSerializer(version);
+            for (short typeCode : TYPE_CODES) {
+                AbstractMessage message = buildMessage(typeCode);
+                byte[] expected = seataSerializer.serialize(message);
+
+                ByteBuf out = Unpooled.buffer(16);
+                out.writeBytes(FRAME_HEAD);
+                seataSerializer.serialize(message, out);
+                byte[] written = ByteBufUtil.getBytes(out, FRAME_HEAD.length, out.writerIndex() - FRAME_HEAD.length);
+                assertThat(written).as("type code %s, version %s", typeCode, version).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testMergeResultMessageInFrame() {
+        SeataSerializer seataSerializer = new SeataSerializer(ProtocolConstants.VERSION_1);
+        MergeResultMessage mergeResultMessage = (MergeResultMessage) buildMessage(MessageType.TYPE_SEATA_MERGE_RESULT);
+
+        ByteBuf out = Unpooled.buffer(16);
+        out.writeBytes(FRAME_HEAD);
+        seataSerializer.serialize(mergeResultMessage, out);
+        out.skipBytes(FRAME_HEAD.length);
+        MergeResultMessage decoded = seataSerializer.deserialize(out, out.readableBytes());
+
+        assertThat(out.readableBytes()).isZero();
+        assertThat(decoded.getMsgs()).hasSize(2);
+        assertThat(((GlobalBeginResponse) decoded.getMsgs()[0]).getXid()).isEqualTo("xid1");
+        assertThat(((BranchRegisterResponse) decoded.getMsgs()[1]).getBranchId()).isEqualTo(2L);
+    }
+
+    private static AbstractMessage buildMessage(short typeCode) {
+        AbstractMessage message = MessageCodecFactory.getMessage(typeCode);
+        if (message instanceof AbstractResultMessage) {
+            ((AbstractResultMessage) message).setResultCode(ResultCode.Success);
+        }
+        if (message instanceof AbstractBranchEndRequest) {
+            ((AbstractBranchEndRequest) message).setBranchType(BranchType.AT);
+        }
+        if (message instanceof AbstractBranchEndResponse) {
+            ((AbstractBranchEndResponse) message).setBranchStatus(BranchStatus.PhaseTwo_Committed);
+        }
+        if (message instanceof AbstractGlobalEndResponse) {
+            ((AbstractGlobalEndResponse) message).setGlobalStatus(GlobalStatus.Committed);
+        }
+        if (message instanceof GlobalReportRequest) {
+            ((GlobalReportRequest) message).setGlobalStatus(GlobalStatus.Committed);
+        }
+        if (message instanceof BranchReportRequest) {
+            ((BranchReportRequest) message).setStatus(BranchStatus.PhaseOne_Done);
+        }
+        if (message instanceof UndoLogDeleteRequest) {
+            ((UndoLogDeleteRequest) message).setBranchType(BranchType.AT);
+        }
+        if (message instanceof MergedWarpMessage) {
+            GlobalBeginRequest globalBeginRequest = new GlobalBeginRequest();
+            globalBeginRequest.setTransactionName("tx");
+            ((MergedWarpMessage) message).msgs.add(globalBeginRequest);
+            ((MergedWarpMessage) message).msgIds.add(1);
+        }
+        if (message instanceof MergeResultMessage) {
+            GlobalBeginResponse globalBeginResponse = new GlobalBeginResponse();
+            globalBeginResponse.setResultCode(ResultCode.Success);
+            globalBeginResponse.setXid("xid1");
+            BranchRegisterResponse branchRegisterResponse = new BranchRegisterResponse();
+            branchRegisterResponse.setResultCode(ResultCode.Success);
+            branchRegisterResponse.setBranchId(2L);
+            ((MergeResultMessage) message).setMsgs(new AbstractResultMessage[] {globalBeginResponse,
+                branchRegisterResponse});
+        }
+        if (message instanceof BatchResultMessage) {
+            GlobalBeginResponse globalBeginResponse = new GlobalBeginResponse();
+            globalBeginResponse.setResultCode(ResultCode.Success);
+            ((BatchResultMessage) message).setResultMessages(Arrays.asList(globalBeginResponse));
+            ((BatchResultMessage) message).setMsgIds(Arrays.asList(1));
+        }
+        return message;
+    }
+}
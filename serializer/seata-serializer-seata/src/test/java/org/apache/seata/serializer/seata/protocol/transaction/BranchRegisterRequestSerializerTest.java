@@ -16,6 +16,7 @@
  */
 package org.apache.seata.serializer.seata.protocol.transaction;
 
+import org.apache.seata.core.lock.LockKeyCodec;
 import org.apache.seata.core.protocol.ProtocolConstants;
 import org.apache.seata.serializer.seata.SeataSerializer;
 import org.apache.seata.core.model.BranchType;
@@ -59,4 +60,26 @@ public class BranchRegisterRequestSerializerTest {
 
     }
 
+    /**
+     * Test codec with the binary lock key.
+     */
+    @Test
+    public void test_codec_binaryLockKey() {
+        BranchRegisterRequest branchRegisterRequest = new BranchRegisterRequest();
+        branchRegisterRequest.setBranchType(BranchType.AT);
+        branchRegisterRequest.setApplicationData("abc");
+        branchRegisterRequest.setLockKey("t_order:1,2,3;t_stock:a_1,b_2");
+        branchRegisterRequest.setBinaryLockKey(LockKeyCodec.encode(branchRegisterRequest.getLockKey()));
+        branchRegisterRequest.setResourceId("124");
+        branchRegisterRequest.setXid("abc134");
+
+        byte[] bytes = seataSerializer.serialize(branchRegisterRequest);
+
+        BranchRegisterRequest branchRegisterRequest2 = seataSerializer.deserialize(bytes);
+
+        assertThat(branchRegisterRequest2.getBinaryLockKey()).isEqualTo(branchRegisterRequest.getBinaryLockKey());
+        assertThat(branchRegisterRequest2.getLockKey()).isEqualTo(branchRegisterRequest.getLockKey());
+        assertThat(branchRegisterRequest2.getApplicationData()).isEqualTo(branchRegisterRequest.getApplicationData());
+        assertThat(branchRegisterRequest2.getXid()).isEqualTo(branchRegisterRequest.getXid());
+    }
 }
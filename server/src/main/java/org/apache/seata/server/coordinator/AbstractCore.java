@@ -17,6 +17,8 @@
 package org.apache.seata.server.coordinator;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.seata.common.ConfigurationKeys;
@@ -39,6 +41,8 @@ import org.apache.seata.core.protocol.transaction.BranchRollbackResponse;
 import org.apache.seata.core.rpc.RemotingServer;
 import org.apache.seata.server.lock.LockManager;
 import org.apache.seata.server.lock.LockerManagerFactory;
+import org.apache.seata.server.metrics.MeterIdConstants;
+import org.apache.seata.server.metrics.MetricsManager;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionHelper;
@@ -173,6 +177,7 @@ public abstract class AbstractCore implements Core {
 
     @Override
     public BranchStatus branchCommit(GlobalSession globalSession, BranchSession branchSession) throws TransactionException {
+        long start = System.nanoTime();
         try {
             BranchCommitRequest request = new BranchCommitRequest();
             request.setXid(branchSession.getXid());
@@ -185,6 +190,8 @@ public abstract class AbstractCore implements Core {
             throw new BranchTransactionException(FailedToSendBranchCommitRequest,
                     String.format("Send branch commit failed, xid = %s branchId = %s", branchSession.getXid(),
                             branchSession.getBranchId()), e);
+        } finally {
+            MetricsManager.get().recordLatency(MeterIdConstants.HISTOGRAM_BRANCH_COMMIT, start);
         }
     }
 
@@ -196,8 +203,52 @@ public abstract class AbstractCore implements Core {
         return response.getBranchStatus();
     }
 
+    /**
+     * Commit a branch transaction without waiting for the RM.
+     *
+     * @param globalSession the global session
+     * @param branchSession the branch session
+     * @return the future of the branch status after committing, completed exceptionally with a
+     * {@link BranchTransactionException} when the request fails
+     */
+    public CompletableFuture<BranchStatus> branchCommitAsync(GlobalSession globalSession,
+                                                             BranchSession branchSession) {
+        BranchCommitRequest request = new BranchCommitRequest();
+        request.setXid(branchSession.getXid());
+        request.setBranchId(branchSession.getBranchId());
+        request.setResourceId(branchSession.getResourceId());
+        request.setApplicationData(branchSession.getApplicationData());
+        request.setBranchType(branchSession.getBranchType());
+        long start = System.nanoTime();
+        CompletableFuture<BranchStatus> future;
+        try {
+            future = branchCommitSendAsync(request, globalSession, branchSession);
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        return future.handle((branchStatus, cause) -> {
+            MetricsManager.get().recordLatency(MeterIdConstants.HISTOGRAM_BRANCH_COMMIT, start);
+            if (cause == null) {
+                return branchStatus;
+            }
+            throw new CompletionException(new BranchTransactionException(FailedToSendBranchCommitRequest,
+                String.format("Send branch commit failed, xid = %s branchId = %s", branchSession.getXid(),
+                    branchSession.getBranchId()), unwrap(cause)));
+        });
+    }
+
+    protected CompletableFuture<BranchStatus> branchCommitSendAsync(BranchCommitRequest request,
+                                                                    GlobalSession globalSession,
+                                                                    BranchSession branchSession) {
+        return remotingServer.sendSyncRequestAsync(branchSession.getResourceId(), branchSession.getClientId(),
+            request, branchSession.isAT())
+            .thenApply(response -> ((BranchCommitResponse)response).getBranchStatus());
+    }
+
     @Override
     public BranchStatus branchRollback(GlobalSession globalSession, BranchSession branchSession) throws TransactionException {
+        long start = System.nanoTime();
         try {
             BranchRollbackRequest request = new BranchRollbackRequest();
             request.setXid(branchSession.getXid());
@@ -210,6 +261,8 @@ public abstract class AbstractCore implements Core {
             throw new BranchTransactionException(FailedToSendBranchRollbackRequest,
                     String.format("Send branch rollback failed, xid = %s branchId = %s",
                             branchSession.getXid(), branchSession.getBranchId()), e);
+        } finally {
+            MetricsManager.get().recordLatency(MeterIdConstants.HISTOGRAM_BRANCH_ROLLBACK, start);
         }
     }
 
@@ -221,6 +274,53 @@ public abstract class AbstractCore implements Core {
         return response.getBranchStatus();
     }
 
+    /**
+     * Rollback a branch transaction without waiting for the RM.
+     *
+     * @param globalSession the global session
+     * @param branchSession the branch session
+     * @return the future of the branch status after rollbacking, completed exceptionally with a
+     * {@link BranchTransactionException} when the request fails
+     */
+    public CompletableFuture<BranchStatus> branchRollbackAsync(GlobalSession globalSession,
+                                                               BranchSession branchSession) {
+        BranchRollbackRequest request = new BranchRollbackRequest();
+        request.setXid(branchSession.getXid());
+        request.setBranchId(branchSession.getBranchId());
+        request.setResourceId(branchSession.getResourceId());
+        request.setApplicationData(branchSession.getApplicationData());
+        request.setBranchType(branchSession.getBranchType());
+        long start = System.nanoTime();
+        CompletableFuture<BranchStatus> future;
+        try {
+            future = branchRollbackSendAsync(request, globalSession, branchSession);
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        return future.handle((branchStatus, cause) -> {
+            MetricsManager.get().recordLatency(MeterIdConstants.HISTOGRAM_BRANCH_ROLLBACK, start);
+            if (cause == null) {
+                return branchStatus;
+            }
+            throw new CompletionException(new BranchTransactionException(FailedToSendBranchRollbackRequest,
+                String.format("Send branch rollback failed, xid = %s branchId = %s", branchSession.getXid(),
+                    branchSession.getBranchId()), unwrap(cause)));
+        });
+    }
+
+    protected CompletableFuture<BranchStatus> branchRollbackSendAsync(BranchRollbackRequest request,
+                                                                      GlobalSession globalSession,
+                                                                      BranchSession branchSession) {
+        return remotingServer.sendSyncRequestAsync(branchSession.getResourceId(), branchSession.getClientId(),
+            request, branchSession.isAT())
+            .thenApply(response -> ((BranchRollbackResponse)response).getBranchStatus());
+    }
+
+    private static Throwable unwrap(Throwable cause) {
+        return cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+    }
+
     @Override
     public String begin(String applicationId, String transactionServiceGroup, String name, int timeout)
             throws TransactionException {
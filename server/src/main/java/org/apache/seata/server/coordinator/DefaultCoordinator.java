@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -66,9 +67,12 @@ import org.apache.seata.core.rpc.TransactionMessageHandler;
 import org.apache.seata.core.rpc.netty.ChannelManager;
 import org.apache.seata.core.rpc.netty.NettyRemotingServer;
 import org.apache.seata.server.AbstractTCInboundHandler;
+import org.apache.seata.server.metrics.MeterIdConstants;
+import org.apache.seata.server.metrics.MetricsManager;
 import org.apache.seata.server.metrics.MetricsPublisher;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.GlobalSessionHandler;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.session.SessionHelper;
 import org.apache.seata.server.session.SessionHolder;
@@ -90,8 +94,12 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERI
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_BRANCH_ASYNC_REMOVE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_COMMIT_RETRY_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_ROLLBACK_RETRY_TIMEOUT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_LANES;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACK_FAILED_UNLOCK_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_LOCK_WAIT_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_UNDO_LOG_DELETE_PERIOD;
 
@@ -197,6 +205,10 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
 
     private final ThreadPoolExecutor branchRemoveExecutor;
 
+    private final PhaseTwoScheduler phaseTwoScheduler;
+
+    private final LockWaitScheduler lockWaitScheduler;
+
     private RemotingServer remotingServer;
 
     private final DefaultCore core;
@@ -227,6 +239,19 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         } else {
             branchRemoveExecutor = null;
         }
+        int phaseTwoLanes = CONFIG.getInt(ConfigurationKeys.PHASE_TWO_LANES, DEFAULT_PHASE_TWO_LANES);
+        if (phaseTwoLanes > 0) {
+            phaseTwoScheduler = new PhaseTwoScheduler(phaseTwoLanes,
+                CONFIG.getInt(ConfigurationKeys.PHASE_TWO_LANE_QUEUE_SIZE, DEFAULT_PHASE_TWO_LANE_QUEUE_SIZE),
+                CONFIG.getInt(ConfigurationKeys.PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE,
+                    DEFAULT_PHASE_TWO_MAX_IN_FLIGHT_PER_RESOURCE));
+        } else {
+            phaseTwoScheduler = null;
+        }
+        long lockWaitTimeout = CONFIG.getLong(ConfigurationKeys.SERVER_LOCK_WAIT_TIMEOUT,
+            DEFAULT_SERVER_LOCK_WAIT_TIMEOUT);
+        lockWaitScheduler = lockWaitTimeout > 0 ? new LockWaitScheduler(lockWaitTimeout, BRANCH_ASYNC_POOL_SIZE)
+            : null;
     }
 
     public static DefaultCoordinator getInstance(RemotingServer remotingServer) {
@@ -317,9 +342,14 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     protected void doBranchRegister(BranchRegisterRequest request, BranchRegisterResponse response,
                                     RpcContext rpcContext) throws TransactionException {
         MDC.put(RootContext.MDC_KEY_XID, request.getXid());
-        response.setBranchId(
-                core.branchRegister(request.getBranchType(), request.getResourceId(), rpcContext.getClientId(),
-                        request.getXid(), request.getApplicationData(), request.getLockKey()));
+        long start = System.nanoTime();
+        try {
+            response.setBranchId(
+                    core.branchRegister(request.getBranchType(), request.getResourceId(), rpcContext.getClientId(),
+                            request.getXid(), request.getApplicationData(), request.getLockKey()));
+        } finally {
+            MetricsManager.get().recordLatency(MeterIdConstants.HISTOGRAM_BRANCH_REGISTER, start);
+        }
     }
 
     @Override
@@ -343,10 +373,8 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Timeout check.
      */
     protected void timeoutCheck() {
-        SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
-        sessionCondition.setLazyLoadBranch(true);
         Collection<GlobalSession> beginGlobalSessions =
-            SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
+            SessionHolder.getRootSessionManager().findTimeoutGlobalSessions();
         if (CollectionUtils.isEmpty(beginGlobalSessions)) {
             return;
         }
@@ -395,7 +423,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             return;
         }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(rollbackingSessions, rollbackingSession -> {
+        phaseTwoForEach(rollbackingSessions, rollbackingSession -> {
             try {
                 if (isRetryTimeout(now, MAX_ROLLBACK_RETRY_TIMEOUT, rollbackingSession.getBeginTime())) {
                     if (ROLLBACK_RETRY_TIMEOUT_UNLOCK_ENABLE || ROLLBACK_FAILED_UNLOCK_ENABLE) {
@@ -426,7 +454,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             return;
         }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(committingSessions, committingSession -> {
+        phaseTwoForEach(committingSessions, committingSession -> {
             try {
                 if (isRetryTimeout(now, MAX_COMMIT_RETRY_TIMEOUT, committingSession.getBeginTime())) {
 
@@ -457,7 +485,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         if (CollectionUtils.isEmpty(asyncCommittingSessions)) {
             return;
         }
-        SessionHelper.forEach(asyncCommittingSessions, asyncCommittingSession -> {
+        phaseTwoForEach(asyncCommittingSessions, asyncCommittingSession -> {
             try {
                 core.doGlobalCommit(asyncCommittingSession, true);
             } catch (TransactionException ex) {
@@ -492,6 +520,14 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         }
     }
 
+    private void phaseTwoForEach(Collection<GlobalSession> sessions, GlobalSessionHandler handler) {
+        if (phaseTwoScheduler != null) {
+            phaseTwoScheduler.forEach(sessions, handler);
+        } else {
+            SessionHelper.forEach(sessions, handler);
+        }
+    }
+
     private boolean isRetryTimeout(long now, long timeout, long beginTime) {
         return timeout >= ALWAYS_RETRY_BOUNDARY && now - beginTime > timeout;
     }
@@ -521,7 +557,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             }
         }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(needDoRollbackingSessions, rollbackingSession -> {
+        phaseTwoForEach(needDoRollbackingSessions, rollbackingSession -> {
             try {
                 if (isRetryTimeout(now, MAX_ROLLBACK_RETRY_TIMEOUT, rollbackingSession.getBeginTime())) {
                     if (ROLLBACK_RETRY_TIMEOUT_UNLOCK_ENABLE || ROLLBACK_FAILED_UNLOCK_ENABLE) {
@@ -577,7 +613,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             }
         }
         long now = System.currentTimeMillis();
-        SessionHelper.forEach(needDoCommittingSessions, committingSession -> {
+        phaseTwoForEach(needDoCommittingSessions, committingSession -> {
             try {
                 if (isRetryTimeout(now, MAX_COMMIT_RETRY_TIMEOUT, committingSession.getBeginTime())) {
 
@@ -646,6 +682,15 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         return transactionRequest.handle(context);
     }
 
+    @Override
+    public CompletableFuture<AbstractResultMessage> onRequestAsync(AbstractMessage request, RpcContext context) {
+        AbstractResultMessage result = onRequest(request, context);
+        if (lockWaitScheduler == null) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return lockWaitScheduler.waitOnConflict(request, result, () -> onRequest(request, context));
+    }
+
     @Override
     public void onResponse(AbstractResultMessage response, RpcContext context) {
         if (!(response instanceof AbstractTransactionResponse)) {
@@ -665,6 +710,12 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         if (branchRemoveExecutor != null) {
             branchRemoveExecutor.shutdown();
         }
+        if (phaseTwoScheduler != null) {
+            phaseTwoScheduler.destroy();
+        }
+        if (lockWaitScheduler != null) {
+            lockWaitScheduler.destroy();
+        }
         try {
             retryRollbacking.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
             retryCommitting.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
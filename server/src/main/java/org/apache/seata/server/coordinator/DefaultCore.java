@@ -16,13 +16,25 @@
  */
 package org.apache.seata.server.coordinator;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
 import org.apache.seata.common.DefaultValues;
 import org.apache.seata.common.exception.NotSupportYetException;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.context.RootContext;
@@ -42,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import static org.apache.seata.common.ConfigurationKeys.ENABLE_ASYNC_HANDLE_BRANCH_KEY;
 import static org.apache.seata.common.ConfigurationKeys.ENABLE_PARALLEL_HANDLE_BRANCH_KEY;
 import static org.apache.seata.common.ConfigurationKeys.XAER_NOTA_RETRY_TIMEOUT;
 import static org.apache.seata.server.session.BranchSessionHandler.CONTINUE;
@@ -62,6 +75,20 @@ public class DefaultCore implements Core {
     private static final boolean PARALLEL_HANDLE_BRANCH =
             ConfigurationFactory.getInstance().getBoolean(ENABLE_PARALLEL_HANDLE_BRANCH_KEY, false);
 
+    private static final boolean ASYNC_HANDLE_BRANCH = ConfigurationFactory.getInstance().getBoolean(
+            ENABLE_ASYNC_HANDLE_BRANCH_KEY, DefaultValues.DEFAULT_ENABLE_ASYNC_HANDLE_BRANCH);
+
+    private static final int PHASE_TWO_DISPATCH_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * sends the queued requests of a resource, instead of the netty thread that completed the previous one
+     */
+    private static final Executor PHASE_TWO_DISPATCH_EXECUTOR = ASYNC_HANDLE_BRANCH
+            ? new ThreadPoolExecutor(PHASE_TWO_DISPATCH_POOL_SIZE, PHASE_TWO_DISPATCH_POOL_SIZE, Integer.MAX_VALUE,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("phaseTwoDispatch", PHASE_TWO_DISPATCH_POOL_SIZE, true))
+            : null;
+
     /**
      * get the Default core.
      *
@@ -201,6 +228,14 @@ public class DefaultCore implements Core {
             success = getCore(BranchType.SAGA).doGlobalCommit(globalSession, retrying);
         } else {
             List<BranchSession> branchSessions = globalSession.getSortedBranches();
+            boolean async = ASYNC_HANDLE_BRANCH && branchSessions.size() >= 2;
+            AtomicBoolean stopped = new AtomicBoolean();
+            Map<Long, CompletableFuture<BranchStatus>> dispatched = async
+                ? dispatchPhaseTwo(globalSession, branchSessions, stopped,
+                    branchSession -> shouldSendBranchCommit(branchSession, retrying),
+                    (core, branchSession) -> core.branchCommitAsync(globalSession, branchSession),
+                    BranchStatus.PhaseTwo_Committed)
+                : Collections.emptyMap();
             Boolean result = SessionHelper.forEach(branchSessions, branchSession -> {
                 // if not retrying, skip the canBeCommittedAsync branches
                 if (!retrying && branchSession.canBeCommittedAsync()) {
@@ -221,7 +256,10 @@ public class DefaultCore implements Core {
                     return CONTINUE;
                 }
                 try {
-                    BranchStatus branchStatus = getCore(branchSession.getBranchType()).branchCommit(globalSession, branchSession);
+                    BranchStatus branchStatus = awaitPhaseTwo(dispatched, branchSession);
+                    if (branchStatus == null) {
+                        branchStatus = getCore(branchSession.getBranchType()).branchCommit(globalSession, branchSession);
+                    }
                     if (isXaerNotaTimeout(globalSession,branchStatus)) {
                         LOGGER.info("Commit branch XAER_NOTA retry timeout, xid = {} branchId = {}", globalSession.getXid(), branchSession.getBranchId());
                         branchStatus = BranchStatus.PhaseTwo_Committed;
@@ -258,11 +296,14 @@ public class DefaultCore implements Core {
                         new String[] {String.valueOf(retrying), branchSession.toString(), commitInfo});
                     if (!retrying) {
                         globalSession.queueToRetryCommit();
+                        stopped.set(true);
                         throw new TransactionException(ex);
                     }
                 }
                 return CONTINUE;
-            }, PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            }, !async && PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            // the walk is over, a request still queued behind a branch of the same resource must not go out
+            stopped.set(true);
             // Return if the result is not null
             if (result != null) {
                 return result;
@@ -316,6 +357,14 @@ public class DefaultCore implements Core {
             success = getCore(BranchType.SAGA).doGlobalRollback(globalSession, retrying);
         } else {
             List<BranchSession> branchSessions = globalSession.getReverseSortedBranches();
+            boolean async = ASYNC_HANDLE_BRANCH && branchSessions.size() >= 2;
+            AtomicBoolean stopped = new AtomicBoolean();
+            Map<Long, CompletableFuture<BranchStatus>> dispatched = async
+                ? dispatchPhaseTwo(globalSession, branchSessions, stopped,
+                    branchSession -> branchSession.getStatus() != BranchStatus.PhaseOne_Failed,
+                    (core, branchSession) -> core.branchRollbackAsync(globalSession, branchSession),
+                    BranchStatus.PhaseTwo_Rollbacked)
+                : Collections.emptyMap();
             Boolean result = SessionHelper.forEach(branchSessions, branchSession -> {
                 BranchStatus currentBranchStatus = branchSession.getStatus();
                 if (currentBranchStatus == BranchStatus.PhaseOne_Failed) {
@@ -323,7 +372,10 @@ public class DefaultCore implements Core {
                     return CONTINUE;
                 }
                 try {
-                    BranchStatus branchStatus = branchRollback(globalSession, branchSession);
+                    BranchStatus branchStatus = awaitPhaseTwo(dispatched, branchSession);
+                    if (branchStatus == null) {
+                        branchStatus = branchRollback(globalSession, branchSession);
+                    }
                     if (isXaerNotaTimeout(globalSession, branchStatus)) {
                         LOGGER.info("Rollback branch XAER_NOTA retry timeout, xid = {} branchId = {}", globalSession.getXid(), branchSession.getBranchId());
                         branchStatus = BranchStatus.PhaseTwo_Rollbacked;
@@ -351,9 +403,12 @@ public class DefaultCore implements Core {
                     if (!retrying) {
                         globalSession.queueToRetryRollback();
                     }
+                    stopped.set(true);
                     throw new TransactionException(ex);
                 }
-            }, PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            }, !async && PARALLEL_HANDLE_BRANCH && branchSessions.size() >= 2);
+            // the walk is over, a request still queued behind a branch of the same resource must not go out
+            stopped.set(true);
             // Return if the result is not null
             if (result != null) {
                 return result;
@@ -396,6 +451,90 @@ public class DefaultCore implements Core {
         }
     }
 
+    /**
+     * Send the phase two requests of the branches without waiting for the RMs.
+     * Branches of different resources are sent at once, branches of the same resource keep their order: the next one
+     * is sent from the completion callback of the previous one, and only when that one reached the expected status.
+     * A branch that is not sent completes with null and is handled synchronously by the caller, as are the SAGA
+     * branches, whose send looks the channel up by the saga resource and blocks.
+     * <p>
+     * Unlike the sequential walk, a failed branch does not hold back the branches of other resources, their requests
+     * are already out, as with parallel branch handling. Their results are dropped when the walk stops at the failure,
+     * the branches stay in the session and are sent again on retry, phase two is idempotent on the RM. Requests still
+     * queued behind a branch of the same resource are not sent once the walk is stopped.
+     *
+     * @param globalSession  the global session
+     * @param branchSessions the branch sessions in phase two order
+     * @param stopped        set when the caller stopped walking the branches
+     * @param filter         the branches to send
+     * @param sender         send the request of a branch
+     * @param expectedStatus the branch status that lets the next branch of the same resource go
+     * @return the futures of the branch status by branch id
+     */
+    private Map<Long, CompletableFuture<BranchStatus>> dispatchPhaseTwo(GlobalSession globalSession,
+        List<BranchSession> branchSessions, AtomicBoolean stopped, Predicate<BranchSession> filter,
+        BiFunction<AbstractCore, BranchSession, CompletableFuture<BranchStatus>> sender,
+        BranchStatus expectedStatus) {
+        Map<String, CompletableFuture<BranchStatus>> lastOfResource = new HashMap<>(4);
+        Map<Long, CompletableFuture<BranchStatus>> dispatched = new HashMap<>(branchSessions.size());
+        for (BranchSession branchSession : branchSessions) {
+            if (branchSession.getBranchType() == BranchType.SAGA || !filter.test(branchSession)) {
+                continue;
+            }
+            AbstractCore core = getCore(branchSession.getBranchType());
+            CompletableFuture<BranchStatus> previous = lastOfResource.get(branchSession.getResourceId());
+            CompletableFuture<BranchStatus> future = previous == null ? sender.apply(core, branchSession)
+                : previous.handle((branchStatus, cause) -> branchStatus == expectedStatus && !stopped.get())
+                    .thenComposeAsync(send -> send ? sender.apply(core, branchSession)
+                        : CompletableFuture.completedFuture(null), PHASE_TWO_DISPATCH_EXECUTOR);
+            lastOfResource.put(branchSession.getResourceId(), future);
+            dispatched.put(branchSession.getBranchId(), future);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Dispatched {} phase two requests of {} resources, xid = {}", dispatched.size(),
+                lastOfResource.size(), globalSession.getXid());
+        }
+        return dispatched;
+    }
+
+    private boolean shouldSendBranchCommit(BranchSession branchSession, boolean retrying) {
+        // the same branches that doGlobalCommit skips or removes without a request
+        if (!retrying && branchSession.canBeCommittedAsync()) {
+            return false;
+        }
+        BranchStatus currentStatus = branchSession.getStatus();
+        return currentStatus != BranchStatus.PhaseOne_Failed
+            && !(currentStatus == BranchStatus.PhaseOne_RDONLY && branchSession.getBranchType() == BranchType.XA);
+    }
+
+    /**
+     * Wait for the dispatched phase two request of the branch.
+     *
+     * @param dispatched    the dispatched requests
+     * @param branchSession the branch session
+     * @return the branch status, or null if the request of the branch was not sent
+     * @throws TransactionException the request failed
+     */
+    private BranchStatus awaitPhaseTwo(Map<Long, CompletableFuture<BranchStatus>> dispatched,
+                                       BranchSession branchSession) throws TransactionException {
+        CompletableFuture<BranchStatus> future = dispatched.get(branchSession.getBranchId());
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                throw (TransactionException)cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
     private boolean isXaerNotaTimeout(GlobalSession globalSession, BranchStatus branchStatus) {
         if (BranchStatus.PhaseTwo_CommitFailed_XAER_NOTA_Retryable.equals(branchStatus) ||
                 BranchStatus.PhaseTwo_RollbackFailed_XAER_NOTA_Retryable.equals(branchStatus)) {
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.AbstractMessage;
+import org.apache.seata.core.protocol.AbstractResultMessage;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
+import org.apache.seata.core.rpc.Disposable;
+import org.apache.seata.server.lock.LockWaitQueue;
+import org.apache.seata.server.lock.LockerManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The lock wait of the AT branch registers and lock queries which hit a lock conflict.
+ * Instead of answering the conflict at once, the request is parked in the lock wait queue of its rows
+ * and handled again when one of them is released. The response is completed from there, so no thread
+ * is held while waiting. When the lock wait timeout passes the conflict is answered as before.
+ * Lock managers which do not see every release, like the db and redis ones shared by several
+ * server nodes, do not park the request and the client lock retry applies.
+ *
+ */
+public class LockWaitScheduler implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LockWaitScheduler.class);
+
+    private static final String LOCK_WAIT_THREAD_PREFIX = "lockWait";
+
+    private static final int SHUTDOWN_MAX_WAIT_MILLS = 5000;
+
+    private final long lockWaitTimeout;
+
+    /**
+     * Runs the retries of the woken requests and the timeouts, never the releasing thread.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new Lock wait scheduler.
+     *
+     * @param lockWaitTimeout the max mills a conflicting request waits
+     * @param threads         the threads retrying the woken requests
+     */
+    public LockWaitScheduler(long lockWaitTimeout, int threads) {
+        if (lockWaitTimeout <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("lockWaitTimeout and threads must be positive");
+        }
+        this.lockWaitTimeout = lockWaitTimeout;
+        this.executor = new ScheduledThreadPoolExecutor(threads, new NamedThreadFactory(LOCK_WAIT_THREAD_PREFIX,
+            threads));
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Wait on the lock conflict answered to the request, if any.
+     *
+     * @param request the request
+     * @param result  the result of the first handling
+     * @param handler handles the request again
+     * @return the future of the final result, completed at once if there is nothing to wait on
+     */
+    public CompletableFuture<AbstractResultMessage> waitOnConflict(AbstractMessage request,
+                                                                   AbstractResultMessage result,
+                                                                   Supplier<AbstractResultMessage> handler) {
+        if (!isLockConflict(request, result)) {
+            return CompletableFuture.completedFuture(result);
+        }
+        LockWaitQueue.Waiter waiter = newLockWaiter((BranchRegisterRequest)request);
+        if (waiter == null) {
+            return CompletableFuture.completedFuture(result);
+        }
+        LockWait lockWait = new LockWait(request, result, handler, waiter);
+        lockWait.start();
+        return lockWait.future;
+    }
+
+    /**
+     * Park a waiter on the rows of the request.
+     *
+     * @param request the branch register or lock query request
+     * @return the waiter, null if the lock manager does not park
+     */
+    protected LockWaitQueue.Waiter newLockWaiter(BranchRegisterRequest request) {
+        return LockerManagerFactory.getLockManager().newLockWaiter(request.getXid(), request.getResourceId(),
+            request.getLockKey());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static boolean isLockConflict(AbstractMessage request, AbstractResultMessage result) {
+        if (request instanceof GlobalLockQueryRequest) {
+            return ((GlobalLockQueryRequest)request).getBranchType() == BranchType.AT
+                && result instanceof GlobalLockQueryResponse && result.getResultCode() == ResultCode.Success
+                && !((GlobalLockQueryResponse)result).isLockable();
+        }
+        if (request instanceof BranchRegisterRequest) {
+            return ((BranchRegisterRequest)request).getBranchType() == BranchType.AT
+                && result instanceof BranchRegisterResponse && result.getResultCode() == ResultCode.Failed
+                && ((BranchRegisterResponse)result).getTransactionExceptionCode()
+                    == TransactionExceptionCode.LockKeyConflict;
+        }
+        return false;
+    }
+
+    /**
+     * A request waiting on its rows.
+     */
+    private final class LockWait {
+
+        private final AbstractMessage request;
+
+        private final Supplier<AbstractResultMessage> handler;
+
+        private final LockWaitQueue.Waiter waiter;
+
+        private final long deadline = System.currentTimeMillis() + lockWaitTimeout;
+
+        private final CompletableFuture<AbstractResultMessage> future = new CompletableFuture<>();
+
+        private volatile AbstractResultMessage lastResult;
+
+        private volatile ScheduledFuture<?> timeout;
+
+        private LockWait(AbstractMessage request, AbstractResultMessage result,
+                         Supplier<AbstractResultMessage> handler, LockWaitQueue.Waiter waiter) {
+            this.request = request;
+            this.lastResult = result;
+            this.handler = handler;
+            this.waiter = waiter;
+        }
+
+        private void start() {
+            try {
+                timeout = executor.schedule(this::expire, lockWaitTimeout, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                finish(lastResult, false);
+                return;
+            }
+            // handle once more right after parking, so a release in between is not missed
+            retry();
+        }
+
+        private void retry() {
+            AbstractResultMessage result;
+            try {
+                result = handler.get();
+            } catch (RuntimeException e) {
+                LOGGER.error("retry of the lock waiting request failed, request: {}", request, e);
+                fail(e);
+                return;
+            }
+            if (!isLockConflict(request, result)) {
+                // a lock query never takes the locks, let the next waiter try
+                finish(result, !(request instanceof GlobalLockQueryRequest)
+                    && result.getResultCode() == ResultCode.Success);
+                return;
+            }
+            lastResult = result;
+            waiter.onWake(this::wake);
+            // arm before checking, so a timeout fired during the retry is not lost
+            if (System.currentTimeMillis() >= deadline && waiter.disarm()) {
+                finish(result, false);
+            }
+        }
+
+        /**
+         * Run on the releasing thread, hand the retry over.
+         */
+        private void wake() {
+            try {
+                executor.execute(this::retry);
+            } catch (RejectedExecutionException e) {
+                finish(lastResult, false);
+            }
+        }
+
+        private void expire() {
+            if (waiter.disarm()) {
+                finish(lastResult, false);
+            }
+        }
+
+        private void finish(AbstractResultMessage result, boolean acquired) {
+            cancelTimeout();
+            waiter.cancel(acquired);
+            future.complete(result);
+        }
+
+        private void fail(Throwable cause) {
+            cancelTimeout();
+            waiter.cancel(false);
+            future.completeExceptionally(cause);
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
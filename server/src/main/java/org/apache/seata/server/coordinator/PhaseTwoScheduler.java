@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.rpc.Disposable;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.GlobalSessionHandler;
+import org.apache.seata.server.session.SessionHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The phase two scheduler of the retry and async commit jobs.
+ * Sessions are partitioned by xid hash into lanes, each lane is a single thread with a bounded queue,
+ * so one session is never handled by two threads at once.
+ * The number of sessions in flight per resource is capped, a session touching a resource at its cap
+ * is skipped and picked up again by the next scheduled pass, so a degraded RM can not occupy every lane.
+ * Each lane keeps the backoff of its sessions: a session still in phase two after its turn is skipped by the
+ * passes before its next attempt, with the delay doubling up to a maximum, so a failing session does not take
+ * its lane on every pass.
+ *
+ */
+public class PhaseTwoScheduler implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhaseTwoScheduler.class);
+
+    private static final int SHUTDOWN_MAX_WAIT_MILLS = 5000;
+
+    private static final long BACKOFF_BASE_MILLS = 1000;
+
+    private static final long BACKOFF_MAX_MILLS = 60000;
+
+    private final Lane[] lanes;
+
+    private final int maxInFlightPerResource;
+
+    private final long backoffBaseMills;
+
+    private final long backoffMaxMills;
+
+    private final Set<String> inFlightXids = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Semaphore> resourcePermits = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Phase two scheduler.
+     *
+     * @param laneCount              the lane count
+     * @param laneQueueSize          the queue size of each lane
+     * @param maxInFlightPerResource the max sessions in flight per resource
+     */
+    public PhaseTwoScheduler(int laneCount, int laneQueueSize, int maxInFlightPerResource) {
+        this(laneCount, laneQueueSize, maxInFlightPerResource, BACKOFF_BASE_MILLS, BACKOFF_MAX_MILLS);
+    }
+
+    PhaseTwoScheduler(int laneCount, int laneQueueSize, int maxInFlightPerResource, long backoffBaseMills,
+                      long backoffMaxMills) {
+        if (laneCount <= 0 || laneQueueSize <= 0 || maxInFlightPerResource <= 0) {
+            throw new IllegalArgumentException("laneCount, laneQueueSize and maxInFlightPerResource must be positive");
+        }
+        this.maxInFlightPerResource = maxInFlightPerResource;
+        this.backoffBaseMills = backoffBaseMills;
+        this.backoffMaxMills = backoffMaxMills;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(new ThreadPoolExecutor(1, 1, Integer.MAX_VALUE, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(laneQueueSize), new NamedThreadFactory("phaseTwoLane_" + i, 1),
+                new ThreadPoolExecutor.AbortPolicy()));
+        }
+    }
+
+    /**
+     * Handle the sessions in their lanes and wait until this pass is done,
+     * so the scheduled job keeps holding its distributed lock for the whole pass.
+     *
+     * @param sessions the global sessions
+     * @param handler  the handler
+     */
+    public void forEach(Collection<GlobalSession> sessions, GlobalSessionHandler handler) {
+        if (CollectionUtils.isEmpty(sessions)) {
+            return;
+        }
+        // a session that ended elsewhere is not attempted again, forget its backoff
+        long now = System.currentTimeMillis();
+        for (Lane lane : lanes) {
+            lane.backoffs.values().removeIf(backoff -> now - backoff.nextAttemptMills > backoffMaxMills);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(sessions.size());
+        for (GlobalSession session : sessions) {
+            CompletableFuture<Void> future = submit(session, handler);
+            if (future != null) {
+                futures.add(future);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Submit the session to its lane.
+     *
+     * @param session the global session
+     * @param handler the handler
+     * @return the future completed when the session is handled, null if it is already in flight, backing off or
+     * the lane is full
+     */
+    public CompletableFuture<Void> submit(GlobalSession session, GlobalSessionHandler handler) {
+        String xid = session.getXid();
+        Lane lane = lanes[laneIndex(xid)];
+        Backoff backoff = lane.backoffs.get(xid);
+        if (backoff != null && backoff.nextAttemptMills > System.currentTimeMillis()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("xid: {} backs off after {} failed attempts, skip it in this pass", xid,
+                    backoff.failures);
+            }
+            return null;
+        }
+        if (!inFlightXids.add(xid)) {
+            return null;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            lane.executor.execute(() -> {
+                try {
+                    handle(lane, session, handler);
+                } finally {
+                    inFlightXids.remove(xid);
+                    future.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightXids.remove(xid);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("phase two lane is full, skip xid: {} in this pass", xid);
+            }
+            return null;
+        }
+        return future;
+    }
+
+    private void handle(Lane lane, GlobalSession session, GlobalSessionHandler handler) {
+        List<Semaphore> acquired = acquireResourcePermits(session);
+        if (acquired == null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("resource in flight limit reached, skip xid: {} in this pass", session.getXid());
+            }
+            return;
+        }
+        try {
+            SessionHelper.singleForEach(Collections.singletonList(session), handler);
+        } finally {
+            acquired.forEach(Semaphore::release);
+        }
+        if (isPhaseTwoPending(session.getStatus())) {
+            long now = System.currentTimeMillis();
+            lane.backoffs.compute(session.getXid(), (xid, backoff) -> {
+                int failures = backoff == null ? 1 : backoff.failures + 1;
+                long delay = Math.min(backoffBaseMills << Math.min(failures - 1, 20), backoffMaxMills);
+                return new Backoff(failures, now + delay);
+            });
+        } else {
+            lane.backoffs.remove(session.getXid());
+        }
+    }
+
+    private static boolean isPhaseTwoPending(GlobalStatus status) {
+        return status == GlobalStatus.Committing || status == GlobalStatus.CommitRetrying
+            || status == GlobalStatus.AsyncCommitting || status == GlobalStatus.Rollbacking
+            || status == GlobalStatus.RollbackRetrying || status == GlobalStatus.TimeoutRollbacking
+            || status == GlobalStatus.TimeoutRollbackRetrying;
+    }
+
+    private List<Semaphore> acquireResourcePermits(GlobalSession session) {
+        Set<String> resourceIds = new LinkedHashSet<>();
+        // the jobs find the sessions without their branches in db and redis mode, load them first so they count
+        session.loadBranchs();
+        List<BranchSession> branchSessions = session.getBranchSessions();
+        if (branchSessions != null) {
+            for (BranchSession branchSession : branchSessions) {
+                if (branchSession.getResourceId() != null) {
+                    resourceIds.add(branchSession.getResourceId());
+                }
+            }
+        }
+        List<Semaphore> acquired = new ArrayList<>(resourceIds.size());
+        for (String resourceId : resourceIds) {
+            Semaphore permits = resourcePermits.computeIfAbsent(resourceId,
+                k -> new Semaphore(maxInFlightPerResource));
+            if (!permits.tryAcquire()) {
+                acquired.forEach(Semaphore::release);
+                return null;
+            }
+            acquired.add(permits);
+        }
+        return acquired;
+    }
+
+    private int laneIndex(String xid) {
+        return (xid.hashCode() & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    @Override
+    public void destroy() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        try {
+            for (Lane lane : lanes) {
+                lane.executor.awaitTermination(SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ignore) {
+        }
+    }
+
+    private static final class Lane {
+
+        private final ThreadPoolExecutor executor;
+
+        private final Map<String, Backoff> backoffs = new ConcurrentHashMap<>();
+
+        private Lane(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+    }
+
+    private static final class Backoff {
+
+        private final int failures;
+
+        private final long nextAttemptMills;
+
+        private Backoff(int failures, long nextAttemptMills) {
+            this.failures = failures;
+            this.nextAttemptMills = nextAttemptMills;
+        }
+    }
+}
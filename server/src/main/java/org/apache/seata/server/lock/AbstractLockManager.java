@@ -19,9 +19,12 @@ package org.apache.seata.server.lock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+
+import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.core.lock.RowLock;
@@ -30,6 +33,8 @@ import org.apache.seata.server.session.BranchSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_SERVER_LOCK_WAIT_TIMEOUT;
+
 /**
  * The type Abstract lock manager.
  *
@@ -41,6 +46,12 @@ public abstract class AbstractLockManager implements LockManager {
      */
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractLockManager.class);
 
+    /**
+     * The lock wait queue, null unless server.lockWaitTimeout is positive.
+     */
+    protected final LockWaitQueue lockWaitQueue = ConfigurationFactory.getInstance().getLong(
+        ConfigurationKeys.SERVER_LOCK_WAIT_TIMEOUT, DEFAULT_SERVER_LOCK_WAIT_TIMEOUT) > 0 ? new LockWaitQueue() : null;
+
     @Override
     public boolean acquireLock(BranchSession branchSession) throws TransactionException {
         return acquireLock(branchSession, true, false);
@@ -157,41 +168,82 @@ public abstract class AbstractLockManager implements LockManager {
     protected List<RowLock> collectRowLocks(String lockKey, String resourceId, String xid, Long transactionId,
         Long branchID) {
         List<RowLock> locks = new ArrayList<>();
-
-        String[] tableGroupedLockKeys = lockKey.split(";");
-        for (String tableGroupedLockKey : tableGroupedLockKeys) {
-            int idx = tableGroupedLockKey.indexOf(":");
-            if (idx < 0) {
-                return locks;
-            }
-            String tableName = tableGroupedLockKey.substring(0, idx);
-            String mergedPKs = tableGroupedLockKey.substring(idx + 1);
-            if (StringUtils.isBlank(mergedPKs)) {
+        // scan "table1:pk1,pk2;table2:pk3" in place, a bulk update can produce megabytes of lock key
+        int length = lockKey.length();
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(lockKey, ';', start, length);
+            int idx = indexOf(lockKey, ':', start, end);
+            if (idx == end || isBlank(lockKey, idx + 1, end) || isPkSplitsOnly(lockKey, idx + 1, end)) {
                 return locks;
             }
-            String[] pks = mergedPKs.split(",");
-            if (pks == null || pks.length == 0) {
-                return locks;
-            }
-            for (String pk : pks) {
-                if (StringUtils.isNotBlank(pk)) {
+            String tableName = lockKey.substring(start, idx);
+            int pkStart = idx + 1;
+            while (pkStart < end) {
+                int pkEnd = indexOf(lockKey, ',', pkStart, end);
+                if (!isBlank(lockKey, pkStart, pkEnd)) {
                     RowLock rowLock = new RowLock();
                     rowLock.setXid(xid);
                     rowLock.setTransactionId(transactionId);
                     rowLock.setBranchId(branchID);
                     rowLock.setTableName(tableName);
-                    rowLock.setPk(pk);
+                    rowLock.setPk(lockKey.substring(pkStart, pkEnd));
                     rowLock.setResourceId(resourceId);
                     locks.add(rowLock);
                 }
+                pkStart = pkEnd + 1;
             }
+            start = end + 1;
         }
         return locks;
     }
+
+    private static int indexOf(String lockKey, char ch, int from, int end) {
+        int idx = lockKey.indexOf(ch, from);
+        return idx < 0 || idx > end ? end : idx;
+    }
+
+    private static boolean isBlank(String lockKey, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (!Character.isWhitespace(lockKey.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPkSplitsOnly(String lockKey, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (lockKey.charAt(i) != ',') {
+                return false;
+            }
+        }
+        return true;
+    }
     
     @Override
     public void updateLockStatus(String xid, LockStatus lockStatus) {
         this.getLocker().updateLockStatus(xid, lockStatus);
     }
 
+    @Override
+    public LockWaitQueue.Waiter newLockWaiter(String xid, String resourceId, String lockKey) {
+        if (lockWaitQueue == null || StringUtils.isBlank(lockKey)) {
+            return null;
+        }
+        List<RowLock> locks = collectRowLocks(lockKey, resourceId, xid);
+        return CollectionUtils.isEmpty(locks) ? null : lockWaitQueue.enqueue(locks);
+    }
+
+    @Override
+    public void onLockReleased(BranchSession branchSession) {
+        if (lockWaitQueue == null || lockWaitQueue.size() == 0) {
+            return;
+        }
+        List<RowLock> locks = collectRowLocks(branchSession);
+        if (CollectionUtils.isNotEmpty(locks)) {
+            lockWaitQueue.signal(locks);
+        }
+    }
+
 }
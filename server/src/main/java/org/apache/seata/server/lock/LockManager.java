@@ -103,4 +103,21 @@ public interface LockManager {
      */
     void updateLockStatus(String xid, LockStatus lockStatus) throws TransactionException;
 
+    /**
+     * Park a waiter on the rows of the lock key, it is woken when any of the rows is released.
+     *
+     * @param xid        the xid
+     * @param resourceId the resource id
+     * @param lockKey    the lock key
+     * @return the waiter, null if the lock waiting is disabled or not every release is seen by this node
+     */
+    LockWaitQueue.Waiter newLockWaiter(String xid, String resourceId, String lockKey);
+
+    /**
+     * Wake the waiters parked on the rows of the branch session after its locks are released.
+     *
+     * @param branchSession the branch session
+     */
+    void onLockReleased(BranchSession branchSession);
+
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.core.lock.RowLock;
+
+/**
+ * The per row FIFO wait queues of the branch registers which failed on a lock conflict.
+ * When rows are released only the head waiter of each row is woken, so a hot row is handed over
+ * in arrival order instead of being raced for by every client retry.
+ * A woken waiter which still fails to get its locks stays at its position and passes the wake on
+ * to the waiters behind it.
+ *
+ */
+public class LockWaitQueue {
+
+    private static final String ROW_KEY_SPLIT_CHAR = "^^^";
+
+    private final Map<String, Deque<Waiter>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Park a waiter at the tail of the queue of each row.
+     *
+     * @param rowLocks the row locks
+     * @return the waiter
+     */
+    public Waiter enqueue(List<RowLock> rowLocks) {
+        Set<String> rowKeys = new LinkedHashSet<>(rowLocks.size());
+        for (RowLock rowLock : rowLocks) {
+            rowKeys.add(rowKey(rowLock));
+        }
+        Waiter waiter = new Waiter(new ArrayList<>(rowKeys));
+        for (String rowKey : waiter.rowKeys) {
+            queues.compute(rowKey, (k, queue) -> {
+                if (queue == null) {
+                    queue = new ArrayDeque<>();
+                }
+                queue.addLast(waiter);
+                return queue;
+            });
+        }
+        return waiter;
+    }
+
+    /**
+     * Wake the head waiter of each released row.
+     *
+     * @param rowLocks the released row locks
+     */
+    public void signal(List<RowLock> rowLocks) {
+        if (queues.isEmpty()) {
+            return;
+        }
+        Set<Waiter> heads = new LinkedHashSet<>();
+        for (RowLock rowLock : rowLocks) {
+            queues.computeIfPresent(rowKey(rowLock), (k, queue) -> {
+                heads.add(queue.peekFirst());
+                return queue;
+            });
+        }
+        heads.forEach(Waiter::wake);
+    }
+
+    /**
+     * Count of the rows waited on.
+     *
+     * @return the size
+     */
+    public int size() {
+        return queues.size();
+    }
+
+    private void remove(Waiter waiter) {
+        for (String rowKey : waiter.rowKeys) {
+            queues.computeIfPresent(rowKey, (k, queue) -> {
+                queue.remove(waiter);
+                return queue.isEmpty() ? null : queue;
+            });
+        }
+    }
+
+    private void passOn(Waiter waiter) {
+        Set<Waiter> next = new LinkedHashSet<>();
+        for (String rowKey : waiter.rowKeys) {
+            queues.computeIfPresent(rowKey, (k, queue) -> {
+                Iterator<Waiter> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next() == waiter) {
+                        if (iterator.hasNext()) {
+                            next.add(iterator.next());
+                        }
+                        break;
+                    }
+                }
+                return queue;
+            });
+        }
+        next.forEach(Waiter::wake);
+    }
+
+    private static String rowKey(RowLock rowLock) {
+        return rowLock.getResourceId() + ROW_KEY_SPLIT_CHAR + rowLock.getTableName() + ROW_KEY_SPLIT_CHAR
+            + rowLock.getPk();
+    }
+
+    /**
+     * A branch register or lock query parked on its rows.
+     * It holds no thread, the callback armed by {@link #onWake(Runnable)} is run when one of the rows is released.
+     */
+    public final class Waiter {
+
+        private final List<String> rowKeys;
+
+        private Runnable callback;
+
+        private boolean signaled;
+
+        private boolean woken;
+
+        private Waiter(List<String> rowKeys) {
+            this.rowKeys = rowKeys;
+        }
+
+        /**
+         * Arm the callback run once one of the rows is released, it is run at once if a row
+         * was released while the request was retried. The callback is run on the releasing thread
+         * and must not block.
+         *
+         * @param callback the callback
+         */
+        public void onWake(Runnable callback) {
+            boolean released;
+            boolean failedAfterWake = false;
+            synchronized (this) {
+                released = signaled;
+                if (released) {
+                    // released again while retrying
+                    signaled = false;
+                    woken = true;
+                } else {
+                    failedAfterWake = woken;
+                    woken = false;
+                    this.callback = callback;
+                }
+            }
+            if (released) {
+                callback.run();
+            } else if (failedAfterWake) {
+                // the last wake did not get the locks, let the waiters behind try
+                passOn(this);
+            }
+        }
+
+        /**
+         * Drop the armed callback, used when the wait times out.
+         *
+         * @return true if the callback was armed and has not run
+         */
+        public synchronized boolean disarm() {
+            boolean armed = callback != null;
+            callback = null;
+            return armed;
+        }
+
+        /**
+         * Leave the queues.
+         *
+         * @param acquired whether the locks are acquired
+         */
+        public void cancel(boolean acquired) {
+            if (!acquired && takeWoken()) {
+                passOn(this);
+            }
+            remove(this);
+        }
+
+        private synchronized boolean takeWoken() {
+            boolean previous = woken || signaled;
+            callback = null;
+            woken = false;
+            signaled = false;
+            return previous;
+        }
+
+        private void wake() {
+            Runnable armed;
+            synchronized (this) {
+                armed = callback;
+                callback = null;
+                if (armed == null) {
+                    signaled = true;
+                    return;
+                }
+                woken = true;
+            }
+            armed.run();
+        }
+    }
+}
@@ -105,6 +105,20 @@ public interface MeterIdConstants {
         .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_TIMER)
         .withTag(IdConstants.STATUS_KEY, IdConstants.STATUS_VALUE_AFTER_COMMITTED_KEY);
 
+    Id HISTOGRAM_BRANCH_REGISTER = new Id(IdConstants.SEATA_BRANCH)
+        .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+        .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_HISTOGRAM)
+        .withTag(IdConstants.ACTION_KEY, IdConstants.ACTION_VALUE_REGISTER);
+
+    Id HISTOGRAM_BRANCH_COMMIT = new Id(IdConstants.SEATA_BRANCH)
+        .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+        .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_HISTOGRAM)
+        .withTag(IdConstants.ACTION_KEY, IdConstants.ACTION_VALUE_COMMIT);
+
+    Id HISTOGRAM_BRANCH_ROLLBACK = new Id(IdConstants.SEATA_BRANCH)
+        .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+        .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_HISTOGRAM)
+        .withTag(IdConstants.ACTION_KEY, IdConstants.ACTION_VALUE_ROLLBACK);
 
     Id SUMMARY_EXP =  new Id(IdConstants.SEATA_EXCEPTION)
             .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
@@ -17,9 +17,11 @@
 package org.apache.seata.server.metrics;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.metrics.Id;
 import org.apache.seata.metrics.exporter.Exporter;
 import org.apache.seata.metrics.exporter.ExporterFactory;
 import org.apache.seata.metrics.registry.Registry;
@@ -47,6 +49,19 @@ public class MetricsManager {
         return registry;
     }
 
+    /**
+     * Record the latency since the start into the histogram, does nothing when metrics is disabled.
+     *
+     * @param histogramId the histogram id
+     * @param startNanos  the start time from System.nanoTime()
+     */
+    public void recordLatency(Id histogramId, long startNanos) {
+        Registry registry = this.registry;
+        if (registry != null) {
+            registry.getHistogram(histogramId).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     public void init() {
         boolean enabled = ConfigurationFactory.getInstance().getBoolean(
             ConfigurationKeys.METRICS_PREFIX + ConfigurationKeys.METRICS_ENABLED, DEFAULT_METRICS_ENABLED);
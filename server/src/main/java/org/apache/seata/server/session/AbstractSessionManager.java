@@ -55,6 +55,11 @@ public abstract class AbstractSessionManager implements SessionManager {
      */
     protected String name;
 
+    /**
+     * The per status buckets, only set by the session managers keeping every session in memory.
+     */
+    protected GlobalSessionStatusIndex statusIndex;
+
     /**
      * Instantiates a new Abstract session manager.
      */
@@ -87,6 +92,7 @@ public abstract class AbstractSessionManager implements SessionManager {
             session.getBranchSessions().forEach(i -> i.setLockStatus(LockStatus.Rollbacking));
         }
         session.setStatus(status);
+        reindexStatus(session);
         writeSession(LogOperation.GLOBAL_UPDATE, session);
     }
 
@@ -171,6 +177,18 @@ public abstract class AbstractSessionManager implements SessionManager {
         LOGGER.info("xid:{} fail end, transaction:{}", globalSession.getXid(), globalSession);
     }
 
+    /**
+     * Move the global session to the bucket of its current status.
+     *
+     * @param globalSession the global session
+     */
+    @Override
+    public void reindexStatus(GlobalSession globalSession) {
+        if (statusIndex != null) {
+            statusIndex.reindex(globalSession);
+        }
+    }
+
     private void writeSession(LogOperation logOperation, SessionStorable sessionStorable) throws TransactionException {
         if (!transactionStoreManager.writeSession(logOperation, sessionStorable)) {
             if (LogOperation.GLOBAL_ADD.equals(logOperation)) {
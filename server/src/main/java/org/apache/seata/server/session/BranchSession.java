@@ -32,6 +32,7 @@ import org.apache.seata.core.model.LockStatus;
 import org.apache.seata.server.lock.LockManager;
 import org.apache.seata.server.lock.LockerManagerFactory;
 import org.apache.seata.server.storage.file.lock.FileLocker;
+import org.apache.seata.server.storage.file.lock.RowLockHolder;
 import org.apache.seata.server.store.SessionStorable;
 import org.apache.seata.server.store.StoreConfig;
 import org.slf4j.Logger;
@@ -76,6 +77,8 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
 
     private final Map<FileLocker.BucketLockMap, Set<String>> lockHolder;
 
+    private final RowLockHolder rowLockHolder = new RowLockHolder();
+
     private final LockManager lockManager = LockerManagerFactory.getLockManager();
 
     public BranchSession() {
@@ -290,6 +293,10 @@ public class BranchSession implements Lockable, Comparable<BranchSession>, Sessi
         return lockHolder;
     }
 
+    public RowLockHolder getRowLockHolder() {
+        return rowLockHolder;
+    }
+
     @Override
     public boolean lock() throws TransactionException {
         return this.lock(true, false);
@@ -351,6 +351,7 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
                 throw new TransactionException(
                     "Unlock branch lock failed, xid = " + this.xid + ", branchId = " + branchSession.getBranchId());
             }
+            LockerManagerFactory.getLockManager().onLockReleased(branchSession);
         }
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.core.model.GlobalStatus;
+
+/**
+ * The per status buckets of the global sessions kept in memory.
+ * A scheduled job looking for some statuses only iterates the matching buckets instead of all sessions.
+ * The sessions are checked against their current status when read, so a bucket lagging behind
+ * a status change never returns a wrong session.
+ *
+ */
+public class GlobalSessionStatusIndex {
+
+    private final Map<GlobalStatus, Map<String, GlobalSession>> buckets = new EnumMap<>(GlobalStatus.class);
+
+    private final Map<String, GlobalStatus> indexedStatuses = new ConcurrentHashMap<>();
+
+    public GlobalSessionStatusIndex() {
+        for (GlobalStatus status : GlobalStatus.values()) {
+            buckets.put(status, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Put the global session into the bucket of its current status.
+     *
+     * @param globalSession the global session
+     */
+    public void index(GlobalSession globalSession) {
+        GlobalStatus status = globalSession.getStatus();
+        if (status == null) {
+            return;
+        }
+        indexedStatuses.compute(globalSession.getXid(), (xid, previous) -> {
+            if (previous != null && previous != status) {
+                buckets.get(previous).remove(xid);
+            }
+            buckets.get(status).put(xid, globalSession);
+            return status;
+        });
+    }
+
+    /**
+     * Move an indexed global session to the bucket of its current status. A session removed meanwhile
+     * stays out of the index, so a status change racing with the removal can not put it back.
+     *
+     * @param globalSession the global session
+     */
+    public void reindex(GlobalSession globalSession) {
+        GlobalStatus status = globalSession.getStatus();
+        if (status == null) {
+            return;
+        }
+        indexedStatuses.computeIfPresent(globalSession.getXid(), (xid, previous) -> {
+            if (previous != status) {
+                buckets.get(previous).remove(xid);
+            }
+            buckets.get(status).put(xid, globalSession);
+            return status;
+        });
+    }
+
+    /**
+     * Remove the global session from the index.
+     *
+     * @param xid the xid
+     */
+    public void remove(String xid) {
+        indexedStatuses.computeIfPresent(xid, (k, previous) -> {
+            buckets.get(previous).remove(k);
+            return null;
+        });
+    }
+
+    /**
+     * Find the global sessions in the given statuses.
+     *
+     * @param statuses the statuses
+     * @return the global sessions
+     */
+    public List<GlobalSession> find(GlobalStatus... statuses) {
+        List<GlobalSession> globalSessions = new ArrayList<>();
+        for (GlobalStatus status : statuses) {
+            if (status == null) {
+                continue;
+            }
+            for (GlobalSession globalSession : buckets.get(status).values()) {
+                if (globalSession.getStatus() == status) {
+                    globalSessions.add(globalSession);
+                }
+            }
+        }
+        return globalSessions;
+    }
+
+    /**
+     * Rebuild the index from the given sessions.
+     *
+     * @param globalSessions the global sessions
+     */
+    public void rebuild(Collection<GlobalSession> globalSessions) {
+        clear();
+        globalSessions.forEach(this::index);
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        indexedStatuses.clear();
+        buckets.values().forEach(Map::clear);
+    }
+
+    /**
+     * Size of the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return indexedStatuses.size();
+    }
+}
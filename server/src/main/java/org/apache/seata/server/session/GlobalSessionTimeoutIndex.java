@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.seata.core.model.GlobalStatus;
+
+/**
+ * The deadline ordered index of the global sessions in Begin status.
+ * The timeout checker only walks the head of the index, which holds the sessions that have expired,
+ * instead of scanning every session in memory.
+ * Sessions which left the Begin status are dropped lazily when they reach the head.
+ *
+ */
+public class GlobalSessionTimeoutIndex {
+
+    private final ConcurrentSkipListSet<Deadline> deadlines = new ConcurrentSkipListSet<>();
+
+    private final Map<String, Deadline> deadlineMap = new ConcurrentHashMap<>();
+
+    /**
+     * Index the global session if it is in Begin status.
+     *
+     * @param globalSession the global session
+     */
+    public void add(GlobalSession globalSession) {
+        if (globalSession.getStatus() != GlobalStatus.Begin) {
+            return;
+        }
+        Deadline deadline = new Deadline(globalSession);
+        Deadline previous = deadlineMap.put(globalSession.getXid(), deadline);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+        deadlines.add(deadline);
+    }
+
+    /**
+     * Remove the global session from the index.
+     *
+     * @param xid the xid
+     */
+    public void remove(String xid) {
+        Deadline deadline = deadlineMap.remove(xid);
+        if (deadline != null) {
+            deadlines.remove(deadline);
+        }
+    }
+
+    /**
+     * Rebuild the index from the given sessions.
+     *
+     * @param globalSessions the global sessions
+     */
+    public void rebuild(Collection<GlobalSession> globalSessions) {
+        clear();
+        globalSessions.forEach(this::add);
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        deadlineMap.clear();
+        deadlines.clear();
+    }
+
+    /**
+     * Find the global sessions still in Begin status whose deadline is before now.
+     *
+     * @param now the current time mills
+     * @return the timeout global sessions
+     */
+    public List<GlobalSession> findTimeout(long now) {
+        List<GlobalSession> timeoutSessions = new ArrayList<>();
+        Iterator<Deadline> iterator = deadlines.iterator();
+        while (iterator.hasNext()) {
+            Deadline deadline = iterator.next();
+            // same as GlobalSession#isTimeout
+            if (deadline.deadlineMills >= now) {
+                break;
+            }
+            GlobalSession globalSession = deadline.globalSession;
+            if (deadlineMap.get(globalSession.getXid()) != deadline) {
+                // removed or re-indexed concurrently
+                iterator.remove();
+            } else if (globalSession.getStatus() == GlobalStatus.Begin) {
+                timeoutSessions.add(globalSession);
+            } else {
+                deadlineMap.remove(globalSession.getXid(), deadline);
+                iterator.remove();
+            }
+        }
+        return timeoutSessions;
+    }
+
+    /**
+     * Size of the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return deadlineMap.size();
+    }
+
+    private static final class Deadline implements Comparable<Deadline> {
+
+        private final long deadlineMills;
+
+        private final String xid;
+
+        private final GlobalSession globalSession;
+
+        Deadline(GlobalSession globalSession) {
+            this.deadlineMills = globalSession.getBeginTime() + globalSession.getTimeout();
+            this.xid = globalSession.getXid();
+            this.globalSession = globalSession;
+        }
+
+        @Override
+        public int compareTo(Deadline o) {
+            int result = Long.compare(deadlineMills, o.deadlineMills);
+            return result != 0 ? result : xid.compareTo(o.xid);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Deadline)) {
+                return false;
+            }
+            Deadline deadline = (Deadline)o;
+            return deadlineMills == deadline.deadlineMills && xid.equals(deadline.xid);
+        }
+
+        @Override
+        public int hashCode() {
+            return xid.hashCode();
+        }
+    }
+}
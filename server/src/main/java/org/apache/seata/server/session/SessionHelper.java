@@ -153,6 +153,7 @@ public class SessionHelper {
                 beginTime, retryBranch);
         } else {
             globalSession.setStatus(GlobalStatus.Committed);
+            SessionHolder.getRootSessionManager().reindexStatus(globalSession);
             if (globalSession.isSaga()) {
                 globalSession.end();
             }
@@ -226,6 +227,7 @@ public class SessionHelper {
         } else {
             if (globalSession.isSaga()) {
                 globalSession.setStatus(GlobalStatus.Rollbacked);
+                SessionHolder.getRootSessionManager().reindexStatus(globalSession);
                 globalSession.end();
             }
             MetricsPublisher.postSessionDoneEvent(globalSession, GlobalStatus.Rollbacked, false, false);
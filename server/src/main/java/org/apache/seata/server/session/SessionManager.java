@@ -113,6 +113,26 @@ public interface SessionManager extends Disposable {
      */
     List<GlobalSession> findGlobalSessions(SessionCondition condition);
 
+    /**
+     * Find the global sessions in Begin status which may have been timeout,
+     * the caller still has to check GlobalSession#isTimeout under the session lock.
+     *
+     * @return the list
+     */
+    default List<GlobalSession> findTimeoutGlobalSessions() {
+        SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
+        sessionCondition.setLazyLoadBranch(true);
+        return findGlobalSessions(sessionCondition);
+    }
+
+    /**
+     * Move the global session to the bucket of its current status after the status was only changed in memory.
+     *
+     * @param globalSession the global session
+     */
+    default void reindexStatus(GlobalSession globalSession) {
+    }
+
     /**
      * lock and execute
      *
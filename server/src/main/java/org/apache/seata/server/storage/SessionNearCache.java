@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.seata.common.XID;
+import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.config.Configuration;
+import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.store.BranchTransactionDO;
+import org.apache.seata.core.store.GlobalTransactionDO;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.store.SessionStorable;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_MODE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_SESSION_CACHE_SIZE;
+
+/**
+ * The read-through near cache of the global sessions of the db and redis store.
+ * <p>
+ * The cache keeps the stored rows, not the session objects, so every read still gets its own
+ * {@link GlobalSession}. It is kept coherent by the writes of this TC, a status change of the global session
+ * invalidates it, and every entry expires after the expire period which bounds how stale a write of another TC
+ * can be seen.
+ * </p>
+ * <p>
+ * In owner mode a session in Begin is never cached. Another TC can still move it out of Begin, e.g. the timeout
+ * check of any TC rolls it back, and a cached Begin would let a branch register in. A session never goes back
+ * to Begin, so a cached later status can be stale but never admits a branch.
+ * </p>
+ *
+ */
+public class SessionNearCache {
+
+    /**
+     * The consistency mode of the cache.
+     */
+    public enum CacheMode {
+        /**
+         * No cache.
+         */
+        NONE,
+        /**
+         * Cache the global row of the sessions begun by this TC once they left Begin, reads with branch sessions
+         * go to the store. For a cluster where the requests of one transaction are routed to the TC that began it.
+         */
+        OWNER,
+        /**
+         * Cache the global row and the branch rows of every session.
+         * Only for a single TC, or a cluster where no transaction is touched by two TCs.
+         */
+        EXCLUSIVE
+    }
+
+    private final CacheMode cacheMode;
+
+    private final Cache<String, CachedSession> cache;
+
+    /**
+     * Changed by every write, a read of the store is only cached when no write happened while it was read.
+     */
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    /**
+     * Instantiates a new session near cache.
+     *
+     * @param cacheMode    the cache mode, not none
+     * @param maximumSize  the maximum cached sessions
+     * @param expirePeriod the expire period in milliseconds
+     */
+    public SessionNearCache(CacheMode cacheMode, long maximumSize, long expirePeriod) {
+        this.cacheMode = cacheMode;
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize)
+            .expireAfterWrite(expirePeriod, TimeUnit.MILLISECONDS).build();
+    }
+
+    /**
+     * Create the session near cache from the configuration.
+     *
+     * @param config the config
+     * @return the session near cache, null if the cache mode is none
+     */
+    public static SessionNearCache create(Configuration config) {
+        String mode = config.getConfig(ConfigurationKeys.STORE_SESSION_CACHE_MODE, DEFAULT_STORE_SESSION_CACHE_MODE);
+        CacheMode cacheMode = CacheMode.valueOf(StringUtils.isBlank(mode) ? CacheMode.NONE.name()
+            : mode.trim().toUpperCase());
+        if (cacheMode == CacheMode.NONE) {
+            return null;
+        }
+        return new SessionNearCache(cacheMode,
+            config.getInt(ConfigurationKeys.STORE_SESSION_CACHE_SIZE, DEFAULT_STORE_SESSION_CACHE_SIZE),
+            config.getLong(ConfigurationKeys.STORE_SESSION_CACHE_EXPIRE_PERIOD,
+                DEFAULT_STORE_SESSION_CACHE_EXPIRE_PERIOD));
+    }
+
+    /**
+     * Get the cached session.
+     *
+     * @param xid                the xid
+     * @param withBranchSessions the withBranchSessions
+     * @param lazyLoadBranch     the lazyLoadBranch of the session, the same as the store sets it
+     * @return the global session, null if it is not cached
+     */
+    public GlobalSession get(String xid, boolean withBranchSessions, boolean lazyLoadBranch) {
+        if (withBranchSessions && cacheMode != CacheMode.EXCLUSIVE) {
+            return null;
+        }
+        CachedSession cachedSession = cache.getIfPresent(xid);
+        if (cachedSession == null || (withBranchSessions && cachedSession.branches == null)) {
+            return null;
+        }
+        GlobalSession globalSession = SessionConverter.convertGlobalSession(cachedSession.global, lazyLoadBranch);
+        if (withBranchSessions) {
+            for (BranchTransactionDO branchTransactionDO : cachedSession.branches.values()) {
+                globalSession.add(SessionConverter.convertBranchSession(branchTransactionDO));
+            }
+        }
+        return globalSession;
+    }
+
+    /**
+     * Get the version to pass to {@link #put} before reading the store.
+     *
+     * @return the write version
+     */
+    public long getWriteVersion() {
+        return writeVersion.get();
+    }
+
+    /**
+     * Put the session read from the store.
+     *
+     * @param globalTransactionDO  the global transaction
+     * @param branchTransactionDOs the branch transactions, null if they are not read
+     * @param readVersion          the write version got before reading the store
+     */
+    public void put(GlobalTransactionDO globalTransactionDO, List<BranchTransactionDO> branchTransactionDOs,
+        long readVersion) {
+        if (globalTransactionDO == null || !isCacheable(globalTransactionDO.getXid())
+            || (cacheMode == CacheMode.OWNER && isBegin(globalTransactionDO))) {
+            return;
+        }
+        Map<Long, BranchTransactionDO> branches = null;
+        if (cacheMode == CacheMode.EXCLUSIVE && branchTransactionDOs != null) {
+            branches = new LinkedHashMap<>();
+            for (BranchTransactionDO branchTransactionDO : branchTransactionDOs) {
+                branches.put(branchTransactionDO.getBranchId(), branchTransactionDO);
+            }
+        }
+        CachedSession readSession = new CachedSession(globalTransactionDO, branches);
+        // the write that changes the version applies itself to the cache after this compute, or is seen by it
+        cache.asMap().compute(globalTransactionDO.getXid(),
+            (xid, cachedSession) -> writeVersion.get() == readVersion ? readSession : cachedSession);
+    }
+
+    /**
+     * Apply a write of this TC.
+     *
+     * @param logOperation the log operation
+     * @param session      the session
+     * @param success      whether the write is successful
+     */
+    public void onWrite(LogOperation logOperation, SessionStorable session, boolean success) {
+        String xid = session instanceof GlobalSession ? ((GlobalSession)session).getXid()
+            : ((BranchSession)session).getXid();
+        writeVersion.incrementAndGet();
+        if (!success) {
+            // the store does not look like what this TC expects
+            cache.invalidate(xid);
+            return;
+        }
+        switch (logOperation) {
+            case GLOBAL_ADD:
+                // a new session is in Begin, only cached when no other TC touches it
+                if (cacheMode == CacheMode.EXCLUSIVE) {
+                    cache.put(xid, new CachedSession(SessionConverter.convertGlobalTransactionDO(session),
+                        Collections.emptyMap()));
+                }
+                break;
+            case GLOBAL_UPDATE:
+            case GLOBAL_REMOVE:
+                cache.invalidate(xid);
+                break;
+            case BRANCH_ADD:
+            case BRANCH_UPDATE:
+            case BRANCH_REMOVE:
+                if (cacheMode == CacheMode.EXCLUSIVE) {
+                    applyBranchWrite(logOperation, SessionConverter.convertBranchTransactionDO(session));
+                }
+                break;
+            default:
+                cache.invalidate(xid);
+                break;
+        }
+    }
+
+    /**
+     * Invalidate the session.
+     *
+     * @param xid the xid
+     */
+    public void invalidate(String xid) {
+        cache.invalidate(xid);
+    }
+
+    private void applyBranchWrite(LogOperation logOperation, BranchTransactionDO branchTransactionDO) {
+        cache.asMap().computeIfPresent(branchTransactionDO.getXid(), (xid, cachedSession) -> {
+            if (cachedSession.branches == null) {
+                return cachedSession;
+            }
+            Map<Long, BranchTransactionDO> branches = new LinkedHashMap<>(cachedSession.branches);
+            if (logOperation == LogOperation.BRANCH_REMOVE) {
+                branches.remove(branchTransactionDO.getBranchId());
+            } else {
+                branches.put(branchTransactionDO.getBranchId(), branchTransactionDO);
+            }
+            return new CachedSession(cachedSession.global, branches);
+        });
+    }
+
+    private static boolean isBegin(GlobalTransactionDO globalTransactionDO) {
+        Integer status = globalTransactionDO.getStatus();
+        return status == null || status == GlobalStatus.Begin.getCode();
+    }
+
+    private boolean isCacheable(String xid) {
+        return cacheMode == CacheMode.EXCLUSIVE
+            || (xid != null && xid.startsWith(XID.getIpAddressAndPort() + ":"));
+    }
+
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
+    /**
+     * The stored rows of one session, never changed once cached.
+     */
+    private static class CachedSession {
+
+        private final GlobalTransactionDO global;
+
+        private final Map<Long, BranchTransactionDO> branches;
+
+        CachedSession(GlobalTransactionDO global, Map<Long, BranchTransactionDO> branches) {
+            this.global = global;
+            this.branches = branches;
+        }
+    }
+}
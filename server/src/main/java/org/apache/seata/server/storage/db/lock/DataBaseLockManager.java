@@ -26,6 +26,7 @@ import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.core.store.db.DataSourceProvider;
 import org.apache.seata.server.lock.AbstractLockManager;
+import org.apache.seata.server.lock.LockWaitQueue;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 
@@ -74,4 +75,13 @@ public class DataBaseLockManager extends AbstractLockManager implements Initiali
         }
     }
 
+    /**
+     * The locks are shared by all server nodes and the releases done by other nodes are not seen here,
+     * so a conflict is answered at once and left to the client lock retry.
+     */
+    @Override
+    public LockWaitQueue.Waiter newLockWaiter(String xid, String resourceId, String lockKey) {
+        return null;
+    }
+
 }
@@ -37,14 +37,18 @@ import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
 import org.apache.seata.core.store.LogStore;
 import org.apache.seata.core.store.db.DataSourceProvider;
+import org.apache.seata.server.ServerRunner;
+import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.storage.SessionConverter;
+import org.apache.seata.server.storage.SessionNearCache;
 import org.apache.seata.server.store.AbstractTransactionStoreManager;
 import org.apache.seata.server.store.SessionStorable;
 import org.apache.seata.server.store.TransactionStoreManager;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_WRITE_BATCH_SIZE;
 
 /**
  * The type Database transaction store manager.
@@ -70,6 +74,16 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     protected int logQueryLimit;
 
+    /**
+     * The batch writer of the session writes, null when batching is disabled.
+     */
+    protected LogStoreBatchWriter batchWriter;
+
+    /**
+     * The near cache of the global sessions, null when it is disabled.
+     */
+    protected SessionNearCache sessionCache;
+
     /**
      * Get the instance.
      */
@@ -92,11 +106,35 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         String datasourceType = CONFIG.getConfig(ConfigurationKeys.STORE_DB_DATASOURCE_TYPE);
         //init dataSource
         DataSource logStoreDataSource = EnhancedServiceLoader.load(DataSourceProvider.class, datasourceType).provide();
-        logStore = new LogStoreDataBaseDAO(logStoreDataSource);
+        LogStoreDataBaseDAO logStoreDataBaseDAO = new LogStoreDataBaseDAO(logStoreDataSource);
+        logStore = logStoreDataBaseDAO;
+        int writeBatchSize = CONFIG.getInt(ConfigurationKeys.STORE_DB_WRITE_BATCH_SIZE,
+            DEFAULT_STORE_DB_WRITE_BATCH_SIZE);
+        if (writeBatchSize > 1) {
+            batchWriter = new LogStoreBatchWriter(logStoreDataBaseDAO, writeBatchSize);
+            ServerRunner.addDisposable(batchWriter);
+        }
+        sessionCache = SessionNearCache.create(CONFIG);
     }
 
     @Override
     public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        if (sessionCache == null) {
+            return writeSessionToStore(logOperation, session);
+        }
+        boolean ret = false;
+        try {
+            ret = writeSessionToStore(logOperation, session);
+            return ret;
+        } finally {
+            sessionCache.onWrite(logOperation, session, ret);
+        }
+    }
+
+    private boolean writeSessionToStore(LogOperation logOperation, SessionStorable session) {
+        if (batchWriter != null) {
+            return batchWriter.write(toLogStoreWrite(logOperation, session));
+        }
         if (LogOperation.GLOBAL_ADD.equals(logOperation)) {
             return logStore.insertGlobalTransactionDO(SessionConverter.convertGlobalTransactionDO(session));
         } else if (LogOperation.GLOBAL_UPDATE.equals(logOperation)) {
@@ -120,6 +158,19 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         }
     }
 
+    private LogStoreWrite toLogStoreWrite(LogOperation logOperation, SessionStorable session) {
+        if (session instanceof GlobalSession) {
+            GlobalSession globalSession = (GlobalSession)session;
+            Integer expectedStatus = LogOperation.GLOBAL_UPDATE.equals(logOperation)
+                && globalSession.getExpectedStatus() != null ? globalSession.getExpectedStatus().getCode() : null;
+            return LogStoreWrite.global(logOperation, SessionConverter.convertGlobalTransactionDO(session),
+                expectedStatus);
+        } else if (session instanceof BranchSession) {
+            return LogStoreWrite.branch(logOperation, SessionConverter.convertBranchTransactionDO(session));
+        }
+        throw new StoreException("Unknown LogOperation:" + logOperation.name());
+    }
+
     /**
      * Read session global session.
      *
@@ -158,6 +209,14 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     @Override
     public GlobalSession readSession(String xid, boolean withBranchSessions) {
+        long readVersion = 0;
+        if (sessionCache != null) {
+            GlobalSession globalSession = sessionCache.get(xid, withBranchSessions, false);
+            if (globalSession != null) {
+                return globalSession;
+            }
+            readVersion = sessionCache.getWriteVersion();
+        }
         //global transaction
         GlobalTransactionDO globalTransactionDO = logStore.queryGlobalTransactionDO(xid);
         if (globalTransactionDO == null) {
@@ -169,6 +228,9 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         if (withBranchSessions) {
             branchTransactionDOs = logStore.queryBranchTransactionDO(globalTransactionDO.getXid());
         }
+        if (sessionCache != null) {
+            sessionCache.put(globalTransactionDO, branchTransactionDOs, readVersion);
+        }
         return getGlobalSession(globalTransactionDO, branchTransactionDOs);
     }
 
@@ -254,6 +316,18 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     public void setLogStore(LogStore logStore) {
         this.logStore = logStore;
+        // the batch writer is bound to the dao created by this manager
+        if (batchWriter != null) {
+            batchWriter.destroy();
+            batchWriter = null;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (batchWriter != null) {
+            batchWriter.destroy();
+        }
     }
 
     /**
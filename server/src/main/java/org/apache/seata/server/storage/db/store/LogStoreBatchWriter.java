@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.core.rpc.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Group commit of the session writes of the db store.
+ * <p>
+ * The callers still wait for their own write, so nothing is acknowledged before it is committed. While one batch
+ * is written, the writes of the other threads queue up and go to the database together as the next batch, with
+ * one jdbc batch per sql and a single commit. When a batch fails, its writes are retried one by one, so every
+ * caller gets the same result or exception as without batching.
+ * </p>
+ *
+ */
+public class LogStoreBatchWriter implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogStoreBatchWriter.class);
+
+    private final LogStoreDataBaseDAO logStore;
+
+    private final int maxBatchSize;
+
+    private final BlockingQueue<LogStoreWrite> queue = new LinkedBlockingQueue<>();
+
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new log store batch writer.
+     *
+     * @param logStore     the log store
+     * @param maxBatchSize the max writes of one batch
+     */
+    public LogStoreBatchWriter(LogStoreDataBaseDAO logStore, int maxBatchSize) {
+        this.logStore = logStore;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.writerThread = new NamedThreadFactory("dbSessionBatchWriter", 1, true).newThread(this::writeLoop);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queue the write and wait until its batch is committed.
+     *
+     * @param write the write
+     * @return the result of the write
+     */
+    public boolean write(LogStoreWrite write) {
+        if (!running) {
+            return logStore.write(write);
+        }
+        queue.add(write);
+        if (!running && queue.remove(write)) {
+            // the writer stopped before it could see this write
+            return logStore.write(write);
+        }
+        try {
+            return write.getFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoreException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof StoreException) {
+                throw (StoreException)cause;
+            }
+            throw new StoreException(cause);
+        }
+    }
+
+    private void writeLoop() {
+        List<LogStoreWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable t) {
+                LOGGER.error("db session batch writer failed: {}", t.getMessage(), t);
+                batch.forEach(write -> write.getFuture().completeExceptionally(t));
+            } finally {
+                batch.clear();
+            }
+        }
+        // the callers that came in while stopping
+        queue.drainTo(batch);
+        batch.forEach(this::writeOne);
+    }
+
+    private void flush(List<LogStoreWrite> batch) {
+        if (batch.size() == 1) {
+            writeOne(batch.get(0));
+            return;
+        }
+        boolean[] results;
+        try {
+            results = logStore.batchWrite(batch);
+        } catch (Exception e) {
+            LOGGER.warn("write {} sessions in batch failed, write them one by one: {}", batch.size(),
+                e.getMessage());
+            batch.forEach(this::writeOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).getFuture().complete(results[i]);
+        }
+    }
+
+    private void writeOne(LogStoreWrite write) {
+        try {
+            write.getFuture().complete(logStore.write(write));
+        } catch (Throwable t) {
+            write.getFuture().completeExceptionally(t);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        writerThread.interrupt();
+    }
+}
@@ -21,6 +21,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import javax.sql.DataSource;
@@ -36,6 +37,7 @@ import org.apache.seata.core.constants.ServerTableColumnsName;
 import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
 import org.apache.seata.core.store.LogStore;
+import org.apache.seata.core.store.db.sql.log.LogStoreSqls;
 import org.apache.seata.core.store.db.sql.log.LogStoreSqlsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -197,23 +199,10 @@ public class LogStoreDataBaseDAO implements LogStore {
         Connection conn = null;
         PreparedStatement ps = null;
         try {
-            int index = 1;
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
             ps = conn.prepareStatement(sql);
-            ps.setString(index++, globalTransactionDO.getXid());
-            ps.setLong(index++, globalTransactionDO.getTransactionId());
-            ps.setInt(index++, globalTransactionDO.getStatus());
-            ps.setString(index++, globalTransactionDO.getApplicationId());
-            ps.setString(index++, globalTransactionDO.getTransactionServiceGroup());
-            String transactionName = globalTransactionDO.getTransactionName();
-            transactionName = transactionName.length() > transactionNameColumnSize ?
-                transactionName.substring(0, transactionNameColumnSize) :
-                transactionName;
-            ps.setString(index++, transactionName);
-            ps.setInt(index++, globalTransactionDO.getTimeout());
-            ps.setLong(index++, globalTransactionDO.getBeginTime());
-            ps.setString(index++, globalTransactionDO.getApplicationData());
+            setInsertGlobalTransactionParams(ps, globalTransactionDO);
             return ps.executeUpdate() > 0;
         } catch (SQLException e) {
             throw new StoreException(e);
@@ -228,12 +217,10 @@ public class LogStoreDataBaseDAO implements LogStore {
         Connection conn = null;
         PreparedStatement ps = null;
         try {
-            int index = 1;
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
             ps = conn.prepareStatement(sql);
-            ps.setInt(index++, globalTransactionDO.getStatus());
-            ps.setString(index++, globalTransactionDO.getXid());
+            setUpdateGlobalTransactionParams(ps, globalTransactionDO, null);
             return ps.executeUpdate() > 0;
         } catch (SQLException e) {
             throw new StoreException(e);
@@ -252,9 +239,7 @@ public class LogStoreDataBaseDAO implements LogStore {
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
             ps = conn.prepareStatement(sql);
-            ps.setInt(1, globalTransactionDO.getStatus());
-            ps.setString(2, globalTransactionDO.getXid());
-            ps.setInt(3, expectedStatus);
+            setUpdateGlobalTransactionParams(ps, globalTransactionDO, expectedStatus);
             return ps.executeUpdate() > 0;
         } catch (SQLException e) {
             throw new StoreException(e);
@@ -342,19 +327,10 @@ public class LogStoreDataBaseDAO implements LogStore {
         Connection conn = null;
         PreparedStatement ps = null;
         try {
-            int index = 1;
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
             ps = conn.prepareStatement(sql);
-            ps.setString(index++, branchTransactionDO.getXid());
-            ps.setLong(index++, branchTransactionDO.getTransactionId());
-            ps.setLong(index++, branchTransactionDO.getBranchId());
-            ps.setString(index++, branchTransactionDO.getResourceGroupId());
-            ps.setString(index++, branchTransactionDO.getResourceId());
-            ps.setString(index++, branchTransactionDO.getBranchType());
-            ps.setInt(index++, branchTransactionDO.getStatus());
-            ps.setString(index++, branchTransactionDO.getClientId());
-            ps.setString(index++, branchTransactionDO.getApplicationData());
+            setInsertBranchTransactionParams(ps, branchTransactionDO);
             return ps.executeUpdate() > 0;
         } catch (SQLException e) {
             throw new StoreException(e);
@@ -372,16 +348,10 @@ public class LogStoreDataBaseDAO implements LogStore {
         Connection conn = null;
         PreparedStatement ps = null;
         try {
-            int index = 1;
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
             ps = conn.prepareStatement(sql);
-            ps.setInt(index++, branchTransactionDO.getStatus());
-            if (shouldUpdateAppData) {
-                ps.setString(index++, branchTransactionDO.getApplicationData());
-            }
-            ps.setString(index++, branchTransactionDO.getXid());
-            ps.setLong(index++, branchTransactionDO.getBranchId());
+            setUpdateBranchTransactionParams(ps, branchTransactionDO, shouldUpdateAppData);
             return ps.executeUpdate() > 0;
         } catch (SQLException e) {
             throw new StoreException(e);
@@ -410,6 +380,195 @@ public class LogStoreDataBaseDAO implements LogStore {
         return true;
     }
 
+    /**
+     * Write the operations in one local transaction and in their order, consecutive operations of the same sql
+     * share one jdbc batch. A global status update with an expected status is executed on its own, a jdbc batch
+     * may answer {@link Statement#SUCCESS_NO_INFO} which tells nothing about whether the status matched.
+     *
+     * @param writes the writes
+     * @return the result of each write, in the order of the writes
+     * @throws SQLException the sql exception, nothing of the writes is committed then
+     */
+    public boolean[] batchWrite(List<LogStoreWrite> writes) throws SQLException {
+        boolean[] results = new boolean[writes.size()];
+        Connection conn = null;
+        try {
+            conn = logStoreDataSource.getConnection();
+            conn.setAutoCommit(false);
+            try {
+                int start = 0;
+                while (start < writes.size()) {
+                    LogStoreWrite first = writes.get(start);
+                    String sql = getWriteSql(first);
+                    int end = start + 1;
+                    if (first.getExpectedStatus() == null) {
+                        while (end < writes.size() && writes.get(end).getExpectedStatus() == null
+                            && sql.equals(getWriteSql(writes.get(end)))) {
+                            end++;
+                        }
+                    }
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        if (first.getExpectedStatus() != null) {
+                            setWriteParams(ps, first);
+                            results[start] = ps.executeUpdate() > 0;
+                        } else {
+                            for (int i = start; i < end; i++) {
+                                setWriteParams(ps, writes.get(i));
+                                ps.addBatch();
+                            }
+                            int[] counts = ps.executeBatch();
+                            for (int i = start; i < end; i++) {
+                                // delete is always successful, the same as the single statement methods
+                                results[i] = writes.get(i).isDelete() || counts[i - start] > 0
+                                    || counts[i - start] == Statement.SUCCESS_NO_INFO;
+                            }
+                        }
+                    }
+                    start = end;
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } finally {
+            IOUtil.close(conn);
+        }
+        return results;
+    }
+
+    /**
+     * Write one operation with the single statement methods.
+     *
+     * @param write the write
+     * @return the result
+     */
+    public boolean write(LogStoreWrite write) {
+        switch (write.getLogOperation()) {
+            case GLOBAL_ADD:
+                return insertGlobalTransactionDO(write.getGlobalTransactionDO());
+            case GLOBAL_UPDATE:
+                return write.getExpectedStatus() != null
+                    ? updateGlobalTransactionDO(write.getGlobalTransactionDO(), write.getExpectedStatus())
+                    : updateGlobalTransactionDO(write.getGlobalTransactionDO());
+            case GLOBAL_REMOVE:
+                return deleteGlobalTransactionDO(write.getGlobalTransactionDO());
+            case BRANCH_ADD:
+                return insertBranchTransactionDO(write.getBranchTransactionDO());
+            case BRANCH_UPDATE:
+                return updateBranchTransactionDO(write.getBranchTransactionDO());
+            case BRANCH_REMOVE:
+                return deleteBranchTransactionDO(write.getBranchTransactionDO());
+            default:
+                throw new StoreException("Unknown LogOperation:" + write.getLogOperation().name());
+        }
+    }
+
+    private String getWriteSql(LogStoreWrite write) {
+        LogStoreSqls logStoreSqls = LogStoreSqlsFactory.getLogStoreSqls(dbType);
+        switch (write.getLogOperation()) {
+            case GLOBAL_ADD:
+                return logStoreSqls.getInsertGlobalTransactionSQL(globalTable);
+            case GLOBAL_UPDATE:
+                return write.getExpectedStatus() != null
+                    ? logStoreSqls.getUpdateGlobalTransactionStatusByStatusSQL(globalTable)
+                    : logStoreSqls.getUpdateGlobalTransactionStatusSQL(globalTable);
+            case GLOBAL_REMOVE:
+                return logStoreSqls.getDeleteGlobalTransactionSQL(globalTable);
+            case BRANCH_ADD:
+                return logStoreSqls.getInsertBranchTransactionSQL(branchTable);
+            case BRANCH_UPDATE:
+                return StringUtils.isNotBlank(write.getBranchTransactionDO().getApplicationData())
+                    ? logStoreSqls.getUpdateBranchTransactionStatusAppDataSQL(branchTable)
+                    : logStoreSqls.getUpdateBranchTransactionStatusSQL(branchTable);
+            case BRANCH_REMOVE:
+                return logStoreSqls.getDeleteBranchTransactionByBranchIdSQL(branchTable);
+            default:
+                throw new StoreException("Unknown LogOperation:" + write.getLogOperation().name());
+        }
+    }
+
+    private void setWriteParams(PreparedStatement ps, LogStoreWrite write) throws SQLException {
+        switch (write.getLogOperation()) {
+            case GLOBAL_ADD:
+                setInsertGlobalTransactionParams(ps, write.getGlobalTransactionDO());
+                break;
+            case GLOBAL_UPDATE:
+                setUpdateGlobalTransactionParams(ps, write.getGlobalTransactionDO(), write.getExpectedStatus());
+                break;
+            case GLOBAL_REMOVE:
+                ps.setString(1, write.getGlobalTransactionDO().getXid());
+                break;
+            case BRANCH_ADD:
+                setInsertBranchTransactionParams(ps, write.getBranchTransactionDO());
+                break;
+            case BRANCH_UPDATE:
+                setUpdateBranchTransactionParams(ps, write.getBranchTransactionDO(),
+                    StringUtils.isNotBlank(write.getBranchTransactionDO().getApplicationData()));
+                break;
+            case BRANCH_REMOVE:
+                ps.setString(1, write.getBranchTransactionDO().getXid());
+                ps.setLong(2, write.getBranchTransactionDO().getBranchId());
+                break;
+            default:
+                throw new StoreException("Unknown LogOperation:" + write.getLogOperation().name());
+        }
+    }
+
+    private void setInsertGlobalTransactionParams(PreparedStatement ps, GlobalTransactionDO globalTransactionDO)
+        throws SQLException {
+        int index = 1;
+        ps.setString(index++, globalTransactionDO.getXid());
+        ps.setLong(index++, globalTransactionDO.getTransactionId());
+        ps.setInt(index++, globalTransactionDO.getStatus());
+        ps.setString(index++, globalTransactionDO.getApplicationId());
+        ps.setString(index++, globalTransactionDO.getTransactionServiceGroup());
+        String transactionName = globalTransactionDO.getTransactionName();
+        transactionName = transactionName.length() > transactionNameColumnSize ?
+            transactionName.substring(0, transactionNameColumnSize) :
+            transactionName;
+        ps.setString(index++, transactionName);
+        ps.setInt(index++, globalTransactionDO.getTimeout());
+        ps.setLong(index++, globalTransactionDO.getBeginTime());
+        ps.setString(index, globalTransactionDO.getApplicationData());
+    }
+
+    private void setUpdateGlobalTransactionParams(PreparedStatement ps, GlobalTransactionDO globalTransactionDO,
+        Integer expectedStatus) throws SQLException {
+        ps.setInt(1, globalTransactionDO.getStatus());
+        ps.setString(2, globalTransactionDO.getXid());
+        if (expectedStatus != null) {
+            ps.setInt(3, expectedStatus);
+        }
+    }
+
+    private void setInsertBranchTransactionParams(PreparedStatement ps, BranchTransactionDO branchTransactionDO)
+        throws SQLException {
+        int index = 1;
+        ps.setString(index++, branchTransactionDO.getXid());
+        ps.setLong(index++, branchTransactionDO.getTransactionId());
+        ps.setLong(index++, branchTransactionDO.getBranchId());
+        ps.setString(index++, branchTransactionDO.getResourceGroupId());
+        ps.setString(index++, branchTransactionDO.getResourceId());
+        ps.setString(index++, branchTransactionDO.getBranchType());
+        ps.setInt(index++, branchTransactionDO.getStatus());
+        ps.setString(index++, branchTransactionDO.getClientId());
+        ps.setString(index, branchTransactionDO.getApplicationData());
+    }
+
+    private void setUpdateBranchTransactionParams(PreparedStatement ps, BranchTransactionDO branchTransactionDO,
+        boolean shouldUpdateAppData) throws SQLException {
+        int index = 1;
+        ps.setInt(index++, branchTransactionDO.getStatus());
+        if (shouldUpdateAppData) {
+            ps.setString(index++, branchTransactionDO.getApplicationData());
+        }
+        ps.setString(index++, branchTransactionDO.getXid());
+        ps.setLong(index, branchTransactionDO.getBranchId());
+    }
+
     @Override
     public long getCurrentMaxSessionId(long high, long low) {
         String transMaxSql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getQueryGlobalMax(globalTable);
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.store;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.seata.core.store.BranchTransactionDO;
+import org.apache.seata.core.store.GlobalTransactionDO;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+
+/**
+ * One session write of the db store, waiting in the {@link LogStoreBatchWriter}.
+ *
+ */
+public class LogStoreWrite {
+
+    private final LogOperation logOperation;
+
+    private final GlobalTransactionDO globalTransactionDO;
+
+    private final BranchTransactionDO branchTransactionDO;
+
+    private final Integer expectedStatus;
+
+    private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+    private LogStoreWrite(LogOperation logOperation, GlobalTransactionDO globalTransactionDO,
+        BranchTransactionDO branchTransactionDO, Integer expectedStatus) {
+        this.logOperation = logOperation;
+        this.globalTransactionDO = globalTransactionDO;
+        this.branchTransactionDO = branchTransactionDO;
+        this.expectedStatus = expectedStatus;
+    }
+
+    /**
+     * New global write.
+     *
+     * @param logOperation        the log operation
+     * @param globalTransactionDO the global transaction
+     * @param expectedStatus      the expected status of the update, null for no expected status
+     * @return the log store write
+     */
+    public static LogStoreWrite global(LogOperation logOperation, GlobalTransactionDO globalTransactionDO,
+        Integer expectedStatus) {
+        return new LogStoreWrite(logOperation, globalTransactionDO, null, expectedStatus);
+    }
+
+    /**
+     * New branch write.
+     *
+     * @param logOperation        the log operation
+     * @param branchTransactionDO the branch transaction
+     * @return the log store write
+     */
+    public static LogStoreWrite branch(LogOperation logOperation, BranchTransactionDO branchTransactionDO) {
+        return new LogStoreWrite(logOperation, null, branchTransactionDO, null);
+    }
+
+    public LogOperation getLogOperation() {
+        return logOperation;
+    }
+
+    public GlobalTransactionDO getGlobalTransactionDO() {
+        return globalTransactionDO;
+    }
+
+    public BranchTransactionDO getBranchTransactionDO() {
+        return branchTransactionDO;
+    }
+
+    public Integer getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public boolean isDelete() {
+        return logOperation == LogOperation.GLOBAL_REMOVE || logOperation == LogOperation.BRANCH_REMOVE;
+    }
+
+    public CompletableFuture<Boolean> getFuture() {
+        return future;
+    }
+}
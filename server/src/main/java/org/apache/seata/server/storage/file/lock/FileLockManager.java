@@ -18,7 +18,9 @@ package org.apache.seata.server.storage.file.lock;
 
 import java.util.List;
 
+import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.loader.LoadLevel;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.server.lock.AbstractLockManager;
@@ -27,6 +29,7 @@ import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.storage.raft.lock.RaftLockManager;
 import org.slf4j.MDC;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_FILE_LOCK_TABLE_STRIPES;
 import static org.apache.seata.core.context.RootContext.MDC_KEY_BRANCH_ID;
 
 /**
@@ -36,11 +39,25 @@ import static org.apache.seata.core.context.RootContext.MDC_KEY_BRANCH_ID;
 @LoadLevel(name = "file")
 public class FileLockManager extends AbstractLockManager {
 
+    /**
+     * The striped lock table, null unless store.file.lockTableStripes is positive.
+     */
+    private static final StripedLockTable STRIPED_LOCK_TABLE = createStripedLockTable();
+
     @Override
     public Locker getLocker(BranchSession branchSession) {
+        if (STRIPED_LOCK_TABLE != null) {
+            return new StripedFileLocker(branchSession, STRIPED_LOCK_TABLE);
+        }
         return new FileLocker(branchSession);
     }
 
+    private static StripedLockTable createStripedLockTable() {
+        int stripes = ConfigurationFactory.getInstance().getInt(ConfigurationKeys.STORE_FILE_LOCK_TABLE_STRIPES,
+            DEFAULT_STORE_FILE_LOCK_TABLE_STRIPES);
+        return stripes > 0 ? new StripedLockTable(stripes) : null;
+    }
+
     @Override
     public boolean releaseGlobalSessionLock(GlobalSession globalSession) throws TransactionException {
         List<BranchSession> branchSessions = globalSession.getBranchSessions();
@@ -50,6 +67,7 @@ public class FileLockManager extends AbstractLockManager {
                 MDC.put(MDC_KEY_BRANCH_ID, String.valueOf(branchSession.getBranchId()));
                 releaseLockResult = this instanceof RaftLockManager ? super.releaseLock(branchSession)
                     : this.releaseLock(branchSession);
+                onLockReleased(branchSession);
             } finally {
                 MDC.remove(MDC_KEY_BRANCH_ID);
             }
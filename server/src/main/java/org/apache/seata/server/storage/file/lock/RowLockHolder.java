@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.lock;
+
+import java.util.Arrays;
+
+/**
+ * The row keys held by a branch in the {@link StripedLockTable}, kept as a compact long array.
+ *
+ */
+public class RowLockHolder {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] rowKeys = EMPTY;
+
+    private int size;
+
+    /**
+     * Add a row key locked by the branch.
+     *
+     * @param rowKey the row key
+     */
+    public synchronized void add(long rowKey) {
+        if (size == rowKeys.length) {
+            rowKeys = Arrays.copyOf(rowKeys, Math.max(8, size << 1));
+        }
+        rowKeys[size++] = rowKey;
+    }
+
+    /**
+     * Take all the row keys and clear the holder.
+     *
+     * @return the row keys
+     */
+    public synchronized long[] drain() {
+        if (size == 0) {
+            return EMPTY;
+        }
+        long[] drained = Arrays.copyOf(rowKeys, size);
+        rowKeys = EMPTY;
+        size = 0;
+        return drained;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
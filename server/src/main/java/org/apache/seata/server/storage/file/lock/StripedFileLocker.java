@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.lock;
+
+import java.util.List;
+
+import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.core.exception.BranchTransactionException;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.AbstractLocker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.LockStatus;
+import org.apache.seata.server.session.BranchSession;
+
+import static org.apache.seata.core.exception.TransactionExceptionCode.LockKeyConflictFailFast;
+
+/**
+ * The file locker backed by the {@link StripedLockTable}.
+ * The rows locked by a branch are kept in its {@link RowLockHolder} instead of the lock holder map.
+ *
+ */
+public class StripedFileLocker extends AbstractLocker {
+
+    private final StripedLockTable lockTable;
+
+    /**
+     * The Branch session.
+     */
+    protected BranchSession branchSession;
+
+    /**
+     * Instantiates a new Striped file locker.
+     *
+     * @param branchSession the branch session
+     * @param lockTable     the lock table
+     */
+    public StripedFileLocker(BranchSession branchSession, StripedLockTable lockTable) {
+        this.branchSession = branchSession;
+        this.lockTable = lockTable;
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLocks) {
+        return acquireLock(rowLocks, true, false);
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLocks, boolean autoCommit, boolean skipCheckLock) {
+        if (CollectionUtils.isEmpty(rowLocks)) {
+            // no lock
+            return true;
+        }
+        String resourceId = branchSession.getResourceId();
+        long transactionId = branchSession.getTransactionId();
+        RowLockHolder rowLockHolder = branchSession.getRowLockHolder();
+        for (RowLock lock : rowLocks) {
+            long rowKey = lockTable.rowKey(resourceId, lock.getTableName(), lock.getPk());
+            BranchSession previousLockBranchSession = lockTable.putIfAbsent(rowKey, branchSession);
+            if (previousLockBranchSession == null) {
+                // No existing lock, and now locked by myself
+                rowLockHolder.add(rowKey);
+            } else if (previousLockBranchSession.getTransactionId() != transactionId) {
+                LOGGER.info("Global lock on [{}:{}] is holding by xid {} branchId {}", lock.getTableName(),
+                    lock.getPk(), previousLockBranchSession.getXid(), previousLockBranchSession.getBranchId());
+                try {
+                    // Release all acquired locks.
+                    branchSession.unlock();
+                } catch (TransactionException e) {
+                    throw new FrameworkException(e);
+                }
+                if (!autoCommit && previousLockBranchSession.getLockStatus() == LockStatus.Rollbacking) {
+                    throw new StoreException(new BranchTransactionException(LockKeyConflictFailFast));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean releaseLock(List<RowLock> rowLock) {
+        if (CollectionUtils.isEmpty(rowLock)) {
+            //no lock
+            return true;
+        }
+        for (long rowKey : branchSession.getRowLockHolder().drain()) {
+            // remove lock only if it locked by myself
+            lockTable.remove(rowKey, branchSession);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isLockable(List<RowLock> rowLocks) {
+        if (CollectionUtils.isEmpty(rowLocks)) {
+            //no lock
+            return true;
+        }
+        long transactionId = rowLocks.get(0).getTransactionId();
+        String resourceId = rowLocks.get(0).getResourceId();
+        for (RowLock rowLock : rowLocks) {
+            BranchSession lockBranchSession = lockTable.get(
+                lockTable.existingRowKey(resourceId, rowLock.getTableName(), rowLock.getPk()));
+            if (lockBranchSession != null && lockBranchSession.getTransactionId() != transactionId) {
+                LOGGER.info("Global lock on [{}:{}] is holding by {}", rowLock.getTableName(), rowLock.getPk(),
+                    lockBranchSession.getTransactionId());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void updateLockStatus(String xid, LockStatus lockStatus) {
+    }
+
+    @Override
+    public void cleanAllLocks() {
+        lockTable.clear();
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.server.session.BranchSession;
+
+/**
+ * The striped row lock table of the file locker.
+ * Resource ids and table names are interned to int ids, a row is keyed by a 64-bit hash of
+ * (resource id, table id, pk) and kept in open addressing long maps, striped by a power of two.
+ * Two rows whose keys collide are treated as the same row, which only leads to a lock conflict,
+ * never to a lost lock.
+ *
+ */
+public class StripedLockTable {
+
+    private static final long EMPTY_KEY = 0L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    private final Map<String, Integer> resourceIds = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> tableIds = new ConcurrentHashMap<>();
+
+    private final AtomicInteger idGenerator = new AtomicInteger();
+
+    /**
+     * Instantiates a new Striped lock table.
+     *
+     * @param stripes the stripes, rounded up to a power of two
+     */
+    public StripedLockTable(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        int size = Math.min(stripes, MAX_STRIPES);
+        if (Integer.bitCount(size) != 1) {
+            size = Integer.highestOneBit(size) << 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * Get the row key, the resource id and table name are interned on the first use.
+     *
+     * @param resourceId the resource id
+     * @param tableName  the table name
+     * @param pk         the pk
+     * @return the row key
+     */
+    public long rowKey(String resourceId, String tableName, String pk) {
+        int resource = resourceIds.computeIfAbsent(resourceId, k -> idGenerator.incrementAndGet());
+        int table = tableIds.computeIfAbsent(tableName, k -> idGenerator.incrementAndGet());
+        return rowKey(resource, table, pk);
+    }
+
+    /**
+     * Get the row key without interning.
+     *
+     * @param resourceId the resource id
+     * @param tableName  the table name
+     * @param pk         the pk
+     * @return the row key, or 0 if the resource or table never held a lock
+     */
+    public long existingRowKey(String resourceId, String tableName, String pk) {
+        Integer resource = resourceIds.get(resourceId);
+        Integer table = tableIds.get(tableName);
+        if (resource == null || table == null) {
+            return EMPTY_KEY;
+        }
+        return rowKey(resource, table, pk);
+    }
+
+    /**
+     * Lock the row if it is not locked yet.
+     *
+     * @param rowKey        the row key
+     * @param branchSession the branch session
+     * @return the branch session holding the row before, null if it is locked by the given branch now
+     */
+    public BranchSession putIfAbsent(long rowKey, BranchSession branchSession) {
+        return stripeOf(rowKey).putIfAbsent(rowKey, branchSession);
+    }
+
+    /**
+     * Get the branch session holding the row.
+     *
+     * @param rowKey the row key
+     * @return the branch session, null if the row is not locked
+     */
+    public BranchSession get(long rowKey) {
+        if (rowKey == EMPTY_KEY) {
+            return null;
+        }
+        return stripeOf(rowKey).get(rowKey);
+    }
+
+    /**
+     * Unlock the row only if it is held by the given branch.
+     *
+     * @param rowKey        the row key
+     * @param branchSession the branch session
+     */
+    public void remove(long rowKey, BranchSession branchSession) {
+        stripeOf(rowKey).remove(rowKey, branchSession);
+    }
+
+    /**
+     * Clear all the locks.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Count of the locked rows.
+     *
+     * @return the size
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    private Stripe stripeOf(long rowKey) {
+        return stripes[(int)(rowKey >>> 40) & stripeMask];
+    }
+
+    private static long rowKey(int resource, int table, String pk) {
+        long h = mix(((long)resource << 32) | (table & 0xFFFFFFFFL));
+        for (int i = 0; i < pk.length(); i++) {
+            h = (h ^ pk.charAt(i)) * FNV_PRIME;
+        }
+        h = mix(h ^ pk.length());
+        return h == EMPTY_KEY ? 1L : h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * An open addressing map of row key to the holding branch, with linear probing
+     * and backward shift deletion.
+     */
+    private static final class Stripe {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        private BranchSession[] holders = new BranchSession[INITIAL_CAPACITY];
+
+        private int size;
+
+        synchronized BranchSession putIfAbsent(long key, BranchSession branchSession) {
+            int mask = keys.length - 1;
+            int i = (int)key & mask;
+            while (keys[i] != EMPTY_KEY) {
+                if (keys[i] == key) {
+                    return holders[i];
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            holders[i] = branchSession;
+            // keep the load factor under 0.75
+            if (++size * 4 > keys.length * 3) {
+                resize(keys.length << 1);
+            }
+            return null;
+        }
+
+        synchronized BranchSession get(long key) {
+            int mask = keys.length - 1;
+            int i = (int)key & mask;
+            while (keys[i] != EMPTY_KEY) {
+                if (keys[i] == key) {
+                    return holders[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        synchronized void remove(long key, BranchSession branchSession) {
+            int mask = keys.length - 1;
+            int i = (int)key & mask;
+            while (keys[i] != EMPTY_KEY) {
+                if (keys[i] == key) {
+                    if (holders[i] == branchSession) {
+                        delete(i, mask);
+                        if (keys.length > INITIAL_CAPACITY && size * 8 < keys.length) {
+                            resize(keys.length >> 1);
+                        }
+                    }
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void delete(int slot, int mask) {
+            int gap = slot;
+            int i = slot;
+            while (true) {
+                i = (i + 1) & mask;
+                long key = keys[i];
+                if (key == EMPTY_KEY) {
+                    break;
+                }
+                int home = (int)key & mask;
+                // the entry can be shifted back if its home slot is not cyclically within (gap, i]
+                boolean shift = i > gap ? (home <= gap || home > i) : (home <= gap && home > i);
+                if (shift) {
+                    keys[gap] = key;
+                    holders[gap] = holders[i];
+                    gap = i;
+                }
+            }
+            keys[gap] = EMPTY_KEY;
+            holders[gap] = null;
+            size--;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            BranchSession[] oldHolders = holders;
+            keys = new long[capacity];
+            holders = new BranchSession[capacity];
+            int mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                long key = oldKeys[j];
+                if (key != EMPTY_KEY) {
+                    int i = (int)key & mask;
+                    while (keys[i] != EMPTY_KEY) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = key;
+                    holders[i] = oldHolders[j];
+                }
+            }
+        }
+
+        synchronized void clear() {
+            keys = new long[INITIAL_CAPACITY];
+            holders = new BranchSession[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
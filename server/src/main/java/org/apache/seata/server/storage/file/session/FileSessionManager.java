@@ -41,6 +41,8 @@ import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.server.session.AbstractSessionManager;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.GlobalSessionStatusIndex;
+import org.apache.seata.server.session.GlobalSessionTimeoutIndex;
 import org.apache.seata.server.session.Reloadable;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.storage.file.ReloadableStore;
@@ -68,6 +70,11 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
      */
     protected Map<String, GlobalSession> sessionMap = new ConcurrentHashMap<>(64);
 
+    /**
+     * The Begin sessions ordered by timeout deadline.
+     */
+    protected final GlobalSessionTimeoutIndex timeoutIndex = new GlobalSessionTimeoutIndex();
+
 
     /**
      * Instantiates a new File based session manager.
@@ -76,6 +83,7 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
      */
     public FileSessionManager(String name) {
         super(name);
+        statusIndex = new GlobalSessionStatusIndex();
         transactionStoreManager = new AbstractTransactionStoreManager() {
             @Override
             public boolean writeSession(LogOperation logOperation, SessionStorable session) {
@@ -93,6 +101,7 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
      */
     public FileSessionManager(String name, String sessionStoreFilePath) throws IOException {
         super(name);
+        statusIndex = new GlobalSessionStatusIndex();
         if (StringUtils.isNotBlank(sessionStoreFilePath)) {
             transactionStoreManager =
                 new FileTransactionStoreManager(sessionStoreFilePath + File.separator + name, this);
@@ -119,6 +128,8 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
             } catch (TransactionException e) {
                 LOGGER.error("addGlobalSession fail, msg: {}", e.getMessage());
             }
+            statusIndex.index(session);
+            timeoutIndex.add(session);
             return session;
         });
     }
@@ -137,6 +148,8 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
     @Override
     public void removeGlobalSession(GlobalSession session) throws TransactionException {
         if (sessionMap.remove(session.getXid()) != null) {
+            statusIndex.remove(session.getXid());
+            timeoutIndex.remove(session.getXid());
             super.removeGlobalSession(session);
         }
     }
@@ -152,7 +165,14 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
         if (null != condition.getStatuses() && condition.getStatuses().length > 0) {
             globalStatuses = Arrays.asList(condition.getStatuses());
         }
-        Collection<GlobalSession> list = sessionMap.values();
+        Collection<GlobalSession> list;
+        if (null != globalStatuses && StringUtils.isEmpty(condition.getXid())
+            && (null == condition.getTransactionId() || condition.getTransactionId() <= 0)) {
+            // only the buckets of the wanted statuses need to be walked
+            list = statusIndex.find(condition.getStatuses());
+        } else {
+            list = sessionMap.values();
+        }
         List<GlobalStatus> finalGlobalStatuses = globalStatuses;
         return list.parallelStream().filter(globalSession -> {
 
@@ -180,6 +200,20 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
         }).collect(Collectors.toList());
     }
 
+    @Override
+    public List<GlobalSession> findTimeoutGlobalSessions() {
+        return timeoutIndex.findTimeout(System.currentTimeMillis());
+    }
+
+    /**
+     * Rebuild the status and timeout indexes after the session map was replaced as a whole,
+     * e.g. by a snapshot load.
+     */
+    public void rebuildIndexes() {
+        statusIndex.rebuild(sessionMap.values());
+        timeoutIndex.rebuild(sessionMap.values());
+    }
+
     @Override
     public <T> T lockAndExecute(GlobalSession globalSession, GlobalSession.LockCallable<T> lockCallable)
         throws TransactionException {
@@ -197,6 +231,7 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
 
         restoreSessions(true, removedGlobalBuffer, unhandledBranchBuffer);
         restoreSessions(false, removedGlobalBuffer, unhandledBranchBuffer);
+        rebuildIndexes();
 
         if (!unhandledBranchBuffer.isEmpty()) {
             unhandledBranchBuffer.values().forEach(unhandledBranchSessions -> {
@@ -384,6 +419,7 @@ public class FileSessionManager extends AbstractSessionManager implements Reload
 
     public void setSessionMap(Map<String, GlobalSession> sessionMap) {
         this.sessionMap = sessionMap;
+        rebuildIndexes();
     }
 
     @Override
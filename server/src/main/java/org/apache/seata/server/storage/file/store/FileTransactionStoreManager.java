@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
@@ -32,6 +33,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import io.netty.util.internal.PlatformDependent;
 import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
@@ -82,6 +84,8 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     private static final int MARK_SIZE = 4;
 
+    private static final long MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
     private static final int MAX_WAIT_TIME_MILLS = 2 * 1000;
 
     private static final int MAX_FLUSH_TIME_MILLS = 2 * 1000;
@@ -104,6 +108,10 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     private long recoverHisOffset = 0;
 
+    private DataFileReader currFileReader;
+
+    private DataFileReader hisFileReader;
+
     private SessionManager sessionManager;
 
     private String currFullFileName;
@@ -114,6 +122,11 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     private ReentrantLock writeSessionLock = new ReentrantLock();
 
+    /**
+     * guards force and close of the data file channel, never acquired while waiting for writeSessionLock
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
     private volatile long lastModifiedTime;
 
     private static final int MAX_WRITE_BUFFER_SIZE = StoreConfig.getFileWriteBufferCacheSize();
@@ -124,7 +137,7 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     private static final int MAX_WAIT_FOR_FLUSH_TIME_MILLS = 2 * 1000;
 
-    private static final int MAX_WAIT_FOR_CLOSE_TIME_MILLS = 2 * 1000;
+    private final FlushDiskMode flushDiskMode;
 
     private static final int INT_BYTE_SIZE = 4;
 
@@ -136,6 +149,20 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
      * @throws IOException the io exception
      */
     public FileTransactionStoreManager(String fullFileName, SessionManager sessionManager) throws IOException {
+        this(fullFileName, sessionManager, FLUSH_DISK_MODE);
+    }
+
+    /**
+     * Instantiates a new File transaction store manager with the given flush disk mode.
+     *
+     * @param fullFileName   the dir path
+     * @param sessionManager the session manager
+     * @param flushDiskMode  the flush disk mode
+     * @throws IOException the io exception
+     */
+    FileTransactionStoreManager(String fullFileName, SessionManager sessionManager, FlushDiskMode flushDiskMode)
+        throws IOException {
+        this.flushDiskMode = flushDiskMode;
         initFile(fullFileName);
         fileWriteExecutor = new ThreadPoolExecutor(MAX_THREAD_WRITE, MAX_THREAD_WRITE, Integer.MAX_VALUE,
             TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
@@ -175,7 +202,11 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
         long curFileTrxNum;
         writeSessionLock.lock();
         try {
-            if (!writeDataFile(new TransactionWriteStore(session, logOperation).encode())) {
+            byte[] data = new TransactionWriteStore(session, logOperation).encode();
+            // in sync mode the frame stays in the staging buffer until the flusher commits the whole group
+            boolean written = flushDiskMode == FlushDiskMode.SYNC_MODEL ? writeStagingData(data)
+                : writeDataFile(data);
+            if (!written) {
                 return false;
             }
             lastModifiedTime = System.currentTimeMillis();
@@ -190,19 +221,22 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
         } finally {
             writeSessionLock.unlock();
         }
-        flushDisk(curFileTrxNum, currFileChannel);
-        return true;
+        return flushDisk(curFileTrxNum, currFileChannel);
     }
 
-    private void flushDisk(long curFileNum, FileChannel currFileChannel) {
+    /**
+     * @return false if the sync flush failed or timed out, the frame may not be on the disk
+     */
+    private boolean flushDisk(long curFileNum, FileChannel currFileChannel) {
 
-        if (FLUSH_DISK_MODE == FlushDiskMode.SYNC_MODEL) {
+        if (flushDiskMode == FlushDiskMode.SYNC_MODEL) {
             SyncFlushRequest syncFlushRequest = new SyncFlushRequest(curFileNum, currFileChannel);
+            // the flusher thread commits all pending requests with a single force
             writeDataFileRunnable.putRequest(syncFlushRequest);
-            syncFlushRequest.waitForFlush(MAX_WAIT_FOR_FLUSH_TIME_MILLS);
-        } else {
-            writeDataFileRunnable.putRequest(new AsyncFlushRequest(curFileNum, currFileChannel));
+            return syncFlushRequest.waitForFlush(MAX_WAIT_FOR_FLUSH_TIME_MILLS);
         }
+        writeDataFileRunnable.putRequest(new AsyncFlushRequest(curFileNum, currFileChannel));
+        return true;
     }
 
     /**
@@ -215,9 +249,7 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
         boolean result;
         try {
             result = findTimeoutAndSave();
-            CloseFileRequest request = new CloseFileRequest(currFileChannel, currRaf);
-            writeDataFileRunnable.putRequest(request);
-            request.waitForClose(MAX_WAIT_FOR_CLOSE_TIME_MILLS);
+            closeAndFlush(currFileChannel, currRaf);
             Files.move(currDataFile.toPath(), new File(hisFullFileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException exx) {
             LOGGER.error("save history data file error, {}", exx.getMessage(), exx);
@@ -335,6 +367,13 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
                 fileWriteExecutor.shutdownNow();
             }
         }
+        writeSessionLock.lock();
+        try {
+            // frames of the group still waiting for commit
+            flushWriteBuffer(writeBuffer);
+        } finally {
+            writeSessionLock.unlock();
+        }
         try {
             if (currFileChannel.isOpen()) {
                 currFileChannel.force(true);
@@ -343,6 +382,20 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
             LOGGER.error("fileChannel force error: {}", e.getMessage(), e);
         }
         closeFile(currRaf);
+        closeReader(true);
+        closeReader(false);
+    }
+
+    private void closeReader(boolean isHistory) {
+        DataFileReader reader = isHistory ? hisFileReader : currFileReader;
+        if (reader != null) {
+            reader.close();
+            if (isHistory) {
+                hisFileReader = null;
+            } else {
+                currFileReader = null;
+            }
+        }
     }
 
     @Override
@@ -365,7 +418,6 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
     @Override
     public boolean hasRemaining(boolean isHistory) {
         File file;
-        RandomAccessFile raf = null;
         long currentOffset;
         if (isHistory) {
             file = new File(hisFullFileName);
@@ -374,70 +426,146 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
             file = new File(currFullFileName);
             currentOffset = recoverCurrOffset;
         }
-        try {
-            raf = new RandomAccessFile(file, "r");
-            return currentOffset < raf.length();
-
-        } catch (IOException ignore) {
-        } finally {
-            closeFile(raf);
-        }
-        return false;
+        // length() returns 0 for a missing file
+        return currentOffset < file.length();
     }
 
     private List<TransactionWriteStore> parseDataFile(File file, int readSize, long currentOffset, boolean isHistory) {
-        List<TransactionWriteStore> transactionWriteStores = new ArrayList<>(readSize);
-        RandomAccessFile raf = null;
-        FileChannel fileChannel = null;
+        DataFileReader reader = isHistory ? hisFileReader : currFileReader;
+        long readOffset = currentOffset;
         try {
-            raf = new RandomAccessFile(file, "r");
-            raf.seek(currentOffset);
-            fileChannel = raf.getChannel();
-            fileChannel.position(currentOffset);
-            long size = raf.length();
-            ByteBuffer buffSize = ByteBuffer.allocate(MARK_SIZE);
-            while (fileChannel.position() < size) {
+            if (reader == null) {
+                reader = new DataFileReader(file, currentOffset);
+            }
+            List<TransactionWriteStore> transactionWriteStores = new ArrayList<>(readSize);
+            while (transactionWriteStores.size() < readSize) {
+                byte[] byBody = reader.nextFrame();
+                if (byBody == null) {
+                    break;
+                }
                 try {
-                    BufferUtils.clear(buffSize);
-                    int avilReadSize = fileChannel.read(buffSize);
-                    if (avilReadSize != MARK_SIZE) {
-                        break;
-                    }
-                    BufferUtils.flip(buffSize);
-                    int bodySize = buffSize.getInt();
-                    byte[] byBody = new byte[bodySize];
-                    ByteBuffer buffBody = ByteBuffer.wrap(byBody);
-                    avilReadSize = fileChannel.read(buffBody);
-                    if (avilReadSize != bodySize) {
-                        break;
-                    }
                     TransactionWriteStore writeStore = new TransactionWriteStore();
                     writeStore.decode(byBody);
                     transactionWriteStores.add(writeStore);
-                    if (transactionWriteStores.size() == readSize) {
-                        break;
-                    }
                 } catch (Exception ex) {
+                    // skip the broken frame and stop this batch, same as the sequential reader did
                     LOGGER.error("decode data file error:{}", ex.getMessage(), ex);
                     break;
                 }
             }
+            readOffset = reader.getOffset();
             return transactionWriteStores;
         } catch (IOException exx) {
             LOGGER.error("parse data file error:{},file:{}", exx.getMessage(), file.getName(), exx);
+            // the rest of the file can not be read, end the reload of it
+            readOffset = file.length();
             return null;
         } finally {
-            try {
-                if (fileChannel != null) {
-                    if (isHistory) {
-                        recoverHisOffset = fileChannel.position();
-                    } else {
-                        recoverCurrOffset = fileChannel.position();
-                    }
+            if (reader != null && readOffset >= reader.getFileSize()) {
+                reader.close();
+                reader = null;
+            }
+            if (isHistory) {
+                recoverHisOffset = readOffset;
+                hisFileReader = reader;
+            } else {
+                recoverCurrOffset = readOffset;
+                currFileReader = reader;
+            }
+        }
+    }
+
+    /**
+     * Reads the frames of a data file through a window of the file mapped into memory, the window slides forward
+     * with the read offset, so every part of the file is mapped once during a reload.
+     */
+    private static class DataFileReader {
+
+        private final RandomAccessFile raf;
+
+        private final FileChannel fileChannel;
+
+        private long fileSize;
+
+        private long offset;
+
+        private MappedByteBuffer window;
+
+        private long windowOffset;
+
+        DataFileReader(File file, long offset) throws IOException {
+            this.raf = new RandomAccessFile(file, "r");
+            this.fileChannel = raf.getChannel();
+            this.fileSize = fileChannel.size();
+            this.offset = offset;
+        }
+
+        /**
+         * read the body of the next frame and move the offset after it
+         *
+         * @return the frame body, null when the file is fully read
+         * @throws IOException the io exception
+         */
+        byte[] nextFrame() throws IOException {
+            if (!ensureReadable(MARK_SIZE)) {
+                // only a truncated mark is left at the end of the file, skip it
+                offset = fileSize;
+                return null;
+            }
+            int bodySize = window.getInt((int)(offset - windowOffset));
+            long frameSize = MARK_SIZE + (long)bodySize;
+            if (bodySize < 0 || frameSize > Integer.MAX_VALUE || !ensureReadable(frameSize)) {
+                // a truncated or broken frame, the frames after it can not be located, end the read here
+                LOGGER.warn("skip the broken frame at {} of the data file, size:{}", offset, bodySize);
+                offset = fileSize;
+                return null;
+            }
+            byte[] byBody = new byte[bodySize];
+            window.position((int)(offset - windowOffset) + MARK_SIZE);
+            window.get(byBody);
+            offset += frameSize;
+            return byBody;
+        }
+
+        private boolean ensureReadable(long size) throws IOException {
+            if (offset + size > fileSize) {
+                fileSize = fileChannel.size();
+                if (offset + size > fileSize) {
+                    return false;
                 }
-                closeFile(raf);
+            }
+            if (window != null && offset >= windowOffset && offset + size <= windowOffset + window.limit()) {
+                return true;
+            }
+            release();
+            long mapSize = Math.min(fileSize - offset, Math.max(size, MAP_WINDOW_SIZE));
+            window = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, mapSize);
+            windowOffset = offset;
+            return true;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        long getFileSize() {
+            return fileSize;
+        }
+
+        private void release() {
+            if (window != null) {
+                // unmap now instead of waiting for the gc to collect the buffer
+                PlatformDependent.freeDirectBuffer(window);
+                window = null;
+            }
+        }
+
+        void close() {
+            release();
+            try {
+                raf.close();
             } catch (IOException exx) {
-                LOGGER.error("file close error{}", exx.getMessage(), exx);
+                LOGGER.error("file close error,{}", exx.getMessage(), exx);
             }
         }
     }
@@ -463,6 +591,47 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
         return flushWriteBuffer(writeBuffer);
     }
 
+    /**
+     * append the frame to the staging buffer, the buffer is written to the data file by the group commit
+     *
+     * @param bs the frame data
+     * @return the boolean
+     */
+    private boolean writeStagingData(byte[] bs) {
+        if (bs == null || bs.length >= Integer.MAX_VALUE - 3) {
+            return false;
+        }
+        return writeDataFrame(bs);
+    }
+
+    /**
+     * force the data file and close it, holding the flushLock so that a concurrent group commit
+     * never forces a closed channel.
+     * the caller must hold the writeSessionLock.
+     */
+    private void closeAndFlush(FileChannel fileChannel, RandomAccessFile raf) {
+        flushWriteBuffer(writeBuffer);
+        flushLock.lock();
+        try {
+            long flushedTrxNum = FILE_TRX_NUM.get();
+            try {
+                if (fileChannel.isOpen()) {
+                    fileChannel.force(false);
+                }
+            } catch (IOException exx) {
+                LOGGER.error("flush error: {}", exx.getMessage(), exx);
+            }
+            markFlushed(flushedTrxNum);
+            closeFile(raf);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static void markFlushed(long flushedTrxNum) {
+        FILE_FLUSH_NUM.accumulateAndGet(flushedTrxNum, Math::max);
+    }
+
     private boolean writeDataFileByBuffer(ByteBuffer byteBuffer) {
         for (int retry = 0; retry < MAX_WRITE_RETRY; retry++) {
             try {
@@ -505,19 +674,26 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
         private final CountDownLatch countDownLatch = new CountDownLatch(1);
 
+        private volatile boolean flushed;
+
         public SyncFlushRequest(long curFileTrxNum, FileChannel curFileChannel) {
             super(curFileTrxNum, curFileChannel);
         }
 
-        public void wakeup() {
+        public void wakeup(boolean flushed) {
+            this.flushed = flushed;
             this.countDownLatch.countDown();
         }
 
-        public void waitForFlush(long timeout) {
+        /**
+         * @return true if the frame was written and forced to the disk within the timeout
+         */
+        public boolean waitForFlush(long timeout) {
             try {
-                this.countDownLatch.await(timeout, TimeUnit.MILLISECONDS);
+                return this.countDownLatch.await(timeout, TimeUnit.MILLISECONDS) && flushed;
             } catch (InterruptedException e) {
                 LOGGER.error("Interrupted", e);
+                return false;
             }
         }
     }
@@ -530,38 +706,6 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
     }
 
-    static class CloseFileRequest implements StoreRequest {
-        private final CountDownLatch countDownLatch = new CountDownLatch(1);
-        private FileChannel fileChannel;
-
-        private RandomAccessFile file;
-
-        public CloseFileRequest(FileChannel fileChannel, RandomAccessFile file) {
-            this.fileChannel = fileChannel;
-            this.file = file;
-        }
-
-        public FileChannel getFileChannel() {
-            return fileChannel;
-        }
-
-        public RandomAccessFile getFile() {
-            return file;
-        }
-
-        public void wakeup() {
-            this.countDownLatch.countDown();
-        }
-
-        public void waitForClose(long timeout) {
-            try {
-                this.countDownLatch.await(timeout, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException e) {
-                LOGGER.error("Interrupted", e);
-            }
-        }
-    }
-
     /**
      * The type Write data file runnable.
      */
@@ -575,12 +719,21 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
 
         @Override
         public void run() {
+            List<StoreRequest> requests = new ArrayList<>();
             while (!stopping) {
                 try {
                     StoreRequest storeRequest = storeRequests.poll(MAX_WAIT_TIME_MILLS, TimeUnit.MILLISECONDS);
-                    handleStoreRequest(storeRequest);
+                    if (storeRequest == null) {
+                        flushOnCondition(currFileChannel);
+                        continue;
+                    }
+                    requests.add(storeRequest);
+                    storeRequests.drainTo(requests);
+                    handleStoreRequests(requests);
                 } catch (Exception exx) {
                     LOGGER.error("write file error: {}", exx.getMessage(), exx);
+                } finally {
+                    requests.clear();
                 }
             }
             handleRestRequest();
@@ -590,49 +743,69 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
          * handle the rest requests when stopping is true
          */
         private void handleRestRequest() {
-            int remainNums = storeRequests.size();
-            for (int i = 0; i < remainNums; i++) {
-                handleStoreRequest(storeRequests.poll());
-            }
+            List<StoreRequest> requests = new ArrayList<>(storeRequests.size());
+            storeRequests.drainTo(requests);
+            handleStoreRequests(requests);
         }
 
-        private void handleStoreRequest(StoreRequest storeRequest) {
-            if (storeRequest == null) {
-                flushOnCondition(currFileChannel);
+        private void handleStoreRequests(List<StoreRequest> requests) {
+            List<SyncFlushRequest> syncFlushRequests = null;
+            for (StoreRequest storeRequest : requests) {
+                if (storeRequest instanceof SyncFlushRequest) {
+                    if (syncFlushRequests == null) {
+                        syncFlushRequests = new ArrayList<>(requests.size());
+                    }
+                    syncFlushRequests.add((SyncFlushRequest)storeRequest);
+                } else if (storeRequest instanceof AsyncFlushRequest) {
+                    async((AsyncFlushRequest)storeRequest);
+                }
             }
-            if (storeRequest instanceof SyncFlushRequest) {
-                syncFlush((SyncFlushRequest)storeRequest);
-            } else if (storeRequest instanceof AsyncFlushRequest) {
-                async((AsyncFlushRequest)storeRequest);
-            } else if (storeRequest instanceof CloseFileRequest) {
-                closeAndFlush((CloseFileRequest)storeRequest);
+            if (syncFlushRequests != null) {
+                groupCommit(syncFlushRequests);
             }
         }
 
-        private void closeAndFlush(CloseFileRequest req) {
-            long diff = FILE_TRX_NUM.get() - FILE_FLUSH_NUM.get();
-            flush(req.getFileChannel());
-            FILE_FLUSH_NUM.addAndGet(diff);
-            closeFile(req.getFile());
-            req.wakeup();
-        }
-
         private void async(AsyncFlushRequest req) {
             flushOnCondition(req.getCurFileChannel());
         }
 
-        private void syncFlush(SyncFlushRequest req) {
-            if (req.getCurFileTrxNum() > FILE_FLUSH_NUM.get()) {
-                long diff = FILE_TRX_NUM.get() - FILE_FLUSH_NUM.get();
-                flush(req.getCurFileChannel());
-                FILE_FLUSH_NUM.addAndGet(diff);
+        /**
+         * write the staging buffer and force the data file once for all the pending sync requests,
+         * then wake up every waiter of the group.
+         */
+        private void groupCommit(List<SyncFlushRequest> group) {
+            long maxTrxNum = 0;
+            for (SyncFlushRequest req : group) {
+                maxTrxNum = Math.max(maxTrxNum, req.getCurFileTrxNum());
+            }
+            // a group already covered by an earlier commit is on the disk
+            boolean flushed = true;
+            if (maxTrxNum > FILE_FLUSH_NUM.get()) {
+                FileChannel fileChannel;
+                long flushedTrxNum;
+                boolean written;
+                writeSessionLock.lock();
+                try {
+                    written = flushWriteBuffer(writeBuffer);
+                    fileChannel = currFileChannel;
+                    flushedTrxNum = FILE_TRX_NUM.get();
+                } finally {
+                    writeSessionLock.unlock();
+                }
+                // the writers keep appending to the staging buffer while the data file is forced
+                flushed = written && flush(fileChannel);
+                if (flushed) {
+                    markFlushed(flushedTrxNum);
+                }
             }
             // notify
-            req.wakeup();
+            for (SyncFlushRequest req : group) {
+                req.wakeup(flushed);
+            }
         }
 
         private void flushOnCondition(FileChannel fileChannel) {
-            if (FLUSH_DISK_MODE == FlushDiskMode.SYNC_MODEL) {
+            if (flushDiskMode == FlushDiskMode.SYNC_MODEL) {
                 return;
             }
             long diff = FILE_TRX_NUM.get() - FILE_FLUSH_NUM.get();
@@ -645,11 +818,19 @@ public class FileTransactionStoreManager extends AbstractTransactionStoreManager
             }
         }
 
-        private void flush(FileChannel fileChannel) {
+        private boolean flush(FileChannel fileChannel) {
+            flushLock.lock();
             try {
-                fileChannel.force(false);
+                // a rotated data file has already been forced before it was closed
+                if (fileChannel.isOpen()) {
+                    fileChannel.force(false);
+                }
+                return true;
             } catch (IOException exx) {
                 LOGGER.error("flush error: {}", exx.getMessage(), exx);
+                return false;
+            } finally {
+                flushLock.unlock();
             }
         }
     }
@@ -99,6 +99,8 @@ public class RaftSessionManager extends FileSessionManager {
     public void removeGlobalSession(GlobalSession session) throws TransactionException {
         GlobalSession globalSession = sessionMap.remove(session.getXid());
         if (globalSession != null) {
+            statusIndex.remove(globalSession.getXid());
+            timeoutIndex.remove(globalSession.getXid());
             List<BranchSession> branchSessionList = globalSession.getBranchSessions();
             // For the follower, the following code will not be executed because when the follower receives the remove global session
             // the branch session on the leader side has already been completely cleared.
@@ -118,6 +120,7 @@ public class RaftSessionManager extends FileSessionManager {
         Closure closure = closureStatus -> {
             if (closureStatus.isOk()) {
                 globalSession.setStatus(globalStatus);
+                reindexStatus(globalSession);
                 if (GlobalStatus.RollbackRetrying.equals(globalSession.getStatus())
                     || GlobalStatus.Rollbacking.equals(globalSession.getStatus())
                     || GlobalStatus.TimeoutRollbacking.equals(globalSession.getStatus())) {
@@ -21,6 +21,7 @@ import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.server.lock.AbstractLockManager;
+import org.apache.seata.server.lock.LockWaitQueue;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 
@@ -63,4 +64,14 @@ public class RedisLockManager extends AbstractLockManager implements Initialize
             return false;
         }
     }
+
+    /**
+     * The locks are shared by all server nodes and the releases done by other nodes are not seen here,
+     * so a conflict is answered at once and left to the client lock retry.
+     */
+    @Override
+    public LockWaitQueue.Waiter newLockWaiter(String xid, String resourceId, String lockKey) {
+        return null;
+    }
+
 }
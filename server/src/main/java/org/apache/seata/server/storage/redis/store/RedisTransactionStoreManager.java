@@ -48,6 +48,7 @@ import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.session.SessionStatusValidator;
 import org.apache.seata.server.storage.SessionConverter;
+import org.apache.seata.server.storage.SessionNearCache;
 import org.apache.seata.server.storage.redis.JedisPooledFactory;
 import org.apache.seata.server.store.AbstractTransactionStoreManager;
 import org.apache.seata.server.store.SessionStorable;
@@ -114,6 +115,11 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      */
     protected int logQueryLimit;
 
+    /**
+     * The near cache of the global sessions, null when it is disabled.
+     */
+    protected SessionNearCache sessionCache;
+
     /**
      * Get the instance.
      */
@@ -136,6 +142,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         initGlobalMap();
         initBranchMap();
         initLogQueryLimit();
+        sessionCache = SessionNearCache.create(CONFIG);
     }
 
     protected void initLogQueryLimit() {
@@ -180,6 +187,19 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
 
     @Override
     public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        if (sessionCache == null) {
+            return writeSessionToStore(logOperation, session);
+        }
+        boolean ret = false;
+        try {
+            ret = writeSessionToStore(logOperation, session);
+            return ret;
+        } finally {
+            sessionCache.onWrite(logOperation, session, ret);
+        }
+    }
+
+    private boolean writeSessionToStore(LogOperation logOperation, SessionStorable session) {
         if (globalMap.containsKey(logOperation) || branchMap.containsKey(logOperation)) {
             return globalMap.containsKey(logOperation) ?
                 globalMap.get(logOperation).apply(SessionConverter.convertGlobalTransactionDO(session)) :
@@ -415,6 +435,14 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      */
     @Override
     public GlobalSession readSession(String xid, boolean withBranchSessions) {
+        long readVersion = 0;
+        if (sessionCache != null) {
+            GlobalSession globalSession = sessionCache.get(xid, withBranchSessions, !withBranchSessions);
+            if (globalSession != null) {
+                return globalSession;
+            }
+            readVersion = sessionCache.getWriteVersion();
+        }
         String transactionId = String.valueOf(XID.getTransactionId(xid));
         String globalKey = buildGlobalKeyByTransactionId(transactionId);
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
@@ -427,6 +455,9 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             if (withBranchSessions) {
                 branchTransactionDOs = this.readBranchSessionByXid(jedis, xid);
             }
+            if (sessionCache != null) {
+                sessionCache.put(globalTransactionDO, branchTransactionDOs, readVersion);
+            }
             GlobalSession session = getGlobalSession(globalTransactionDO, branchTransactionDOs, withBranchSessions);
             return session;
         }
@@ -16,6 +16,8 @@
  */
 package org.apache.seata.server.transaction.saga;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
@@ -39,6 +41,12 @@ public class SagaAnnotationCore extends AbstractCore {
         return BranchStatus.PhaseTwo_Committed;
     }
 
+    @Override
+    public CompletableFuture<BranchStatus> branchCommitAsync(GlobalSession globalSession, BranchSession branchSession) {
+        //SAGA_ANNOTATION branch type, just mock commit, no request is sent
+        return CompletableFuture.completedFuture(BranchStatus.PhaseTwo_Committed);
+    }
+
     @Override
     public BranchType getHandleBranchType() {
         return BranchType.SAGA_ANNOTATION;
@@ -29,6 +29,7 @@ import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionHelper;
 import org.apache.seata.server.session.SessionHolder;
+import org.apache.seata.server.transaction.saga.SagaAnnotationCore;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 
@@ -160,6 +162,24 @@ public class DefaultCoreTest {
 
     }
 
+    /**
+     * Saga annotation branches are committed without a request, on the async path too.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void sagaAnnotationBranchCommitAsyncTest() throws Exception {
+        RemotingServer mockRemotingServer = Mockito.mock(RemotingServer.class);
+        SagaAnnotationCore sagaAnnotationCore = new SagaAnnotationCore(mockRemotingServer);
+        GlobalSession session = GlobalSession.createGlobalSession(applicationId, txServiceGroup, txName, timeout);
+        BranchSession branchSession = SessionHelper.newBranchByGlobal(session, BranchType.SAGA_ANNOTATION, resourceId,
+            applicationData, null, clientId);
+
+        Assertions.assertEquals(BranchStatus.PhaseTwo_Committed,
+            sagaAnnotationCore.branchCommitAsync(session, branchSession).get());
+        Mockito.verifyNoInteractions(mockRemotingServer);
+    }
+
     /**
      * Commit test.
      *
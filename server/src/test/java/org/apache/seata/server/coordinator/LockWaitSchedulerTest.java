@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.seata.core.exception.TransactionExceptionCode;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.protocol.AbstractResultMessage;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
+import org.apache.seata.server.lock.LockWaitQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Lock wait scheduler test.
+ */
+public class LockWaitSchedulerTest {
+
+    private final LockWaitQueue lockWaitQueue = new LockWaitQueue();
+
+    private final List<RowLock> rows = rowLocks();
+
+    private LockWaitScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        scheduler = new LockWaitScheduler(500, 2) {
+            @Override
+            protected LockWaitQueue.Waiter newLockWaiter(BranchRegisterRequest request) {
+                return lockWaitQueue.enqueue(rows);
+            }
+        };
+    }
+
+    @AfterEach
+    public void destroy() {
+        scheduler.destroy();
+    }
+
+    @Test
+    public void testNoConflict() {
+        BranchRegisterResponse success = registerResponse(true);
+        CompletableFuture<AbstractResultMessage> future = scheduler.waitOnConflict(new BranchRegisterRequest(),
+            success, () -> Assertions.fail("no retry expected"));
+        Assertions.assertSame(success, future.getNow(null));
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    @Test
+    public void testCompletedOnRelease() throws Exception {
+        AtomicBoolean released = new AtomicBoolean();
+        AtomicInteger handled = new AtomicInteger();
+        Supplier<AbstractResultMessage> handler = () -> {
+            handled.incrementAndGet();
+            return registerResponse(released.get());
+        };
+        CompletableFuture<AbstractResultMessage> future = scheduler.waitOnConflict(new BranchRegisterRequest(),
+            registerResponse(false), handler);
+        // handled once more right after parking, then waits without a thread
+        Assertions.assertEquals(1, handled.get());
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertEquals(1, lockWaitQueue.size());
+
+        released.set(true);
+        lockWaitQueue.signal(rows);
+        AbstractResultMessage result = future.get(1000, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(ResultCode.Success, result.getResultCode());
+        Assertions.assertEquals(2, handled.get());
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        BranchRegisterResponse conflict = registerResponse(false);
+        CompletableFuture<AbstractResultMessage> future = scheduler.waitOnConflict(new BranchRegisterRequest(),
+            conflict, () -> conflict);
+        AbstractResultMessage result = future.get(2000, TimeUnit.MILLISECONDS);
+        Assertions.assertEquals(TransactionExceptionCode.LockKeyConflict,
+            ((BranchRegisterResponse)result).getTransactionExceptionCode());
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    @Test
+    public void testLockQuery() throws Exception {
+        AtomicBoolean released = new AtomicBoolean();
+        CompletableFuture<AbstractResultMessage> future = scheduler.waitOnConflict(new GlobalLockQueryRequest(),
+            lockQueryResponse(false), () -> lockQueryResponse(released.get()));
+        Assertions.assertFalse(future.isDone());
+
+        released.set(true);
+        lockWaitQueue.signal(rows);
+        Assertions.assertTrue(((GlobalLockQueryResponse)future.get(1000, TimeUnit.MILLISECONDS)).isLockable());
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    private static BranchRegisterResponse registerResponse(boolean success) {
+        BranchRegisterResponse response = new BranchRegisterResponse();
+        if (success) {
+            response.setResultCode(ResultCode.Success);
+            response.setBranchId(1L);
+        } else {
+            response.setResultCode(ResultCode.Failed);
+            response.setTransactionExceptionCode(TransactionExceptionCode.LockKeyConflict);
+        }
+        return response;
+    }
+
+    private static GlobalLockQueryResponse lockQueryResponse(boolean lockable) {
+        GlobalLockQueryResponse response = new GlobalLockQueryResponse();
+        response.setResultCode(ResultCode.Success);
+        response.setLockable(lockable);
+        return response;
+    }
+
+    private static List<RowLock> rowLocks() {
+        RowLock rowLock = new RowLock();
+        rowLock.setResourceId("jdbc:mysql://127.0.0.1:3306/seata");
+        rowLock.setTableName("t");
+        rowLock.setPk("1");
+        return Collections.singletonList(rowLock);
+    }
+}
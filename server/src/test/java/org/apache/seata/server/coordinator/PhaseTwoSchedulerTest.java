@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Phase two scheduler test.
+ */
+@SpringBootTest
+public class PhaseTwoSchedulerTest {
+
+    @Test
+    public void testForEachHandlesEverySession() {
+        PhaseTwoScheduler scheduler = new PhaseTwoScheduler(4, 100, 100);
+        try {
+            List<GlobalSession> sessions = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                sessions.add(newSession("xid-" + i, "jdbc:mysql://db" + (i % 3)));
+            }
+            Set<String> handled = ConcurrentHashMap.newKeySet();
+            AtomicInteger count = new AtomicInteger();
+            scheduler.forEach(sessions, globalSession -> {
+                handled.add(globalSession.getXid());
+                count.incrementAndGet();
+            });
+            Assertions.assertEquals(50, handled.size());
+            Assertions.assertEquals(50, count.get());
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    public void testResourceInFlightLimit() throws Exception {
+        PhaseTwoScheduler scheduler = new PhaseTwoScheduler(2, 100, 1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            // "a" and "b" are hashed into different lanes
+            GlobalSession slow = newSession("a", "jdbc:mysql://slow");
+            GlobalSession other = newSession("b", "jdbc:mysql://slow");
+            CompletableFuture<Void> slowFuture = scheduler.submit(slow, globalSession -> {
+                started.countDown();
+                try {
+                    blocking.await();
+                } catch (InterruptedException ignore) {
+                }
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // the same session is not submitted twice while in flight
+            Assertions.assertNull(scheduler.submit(slow, globalSession -> { }));
+
+            AtomicInteger otherHandled = new AtomicInteger();
+            CompletableFuture<Void> otherFuture = scheduler.submit(other, globalSession -> otherHandled.incrementAndGet());
+            otherFuture.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(0, otherHandled.get());
+
+            blocking.countDown();
+            slowFuture.get(5, TimeUnit.SECONDS);
+            scheduler.submit(other, globalSession -> otherHandled.incrementAndGet()).get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(1, otherHandled.get());
+        } finally {
+            blocking.countDown();
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    public void testBackoffOfFailedSession() throws Exception {
+        PhaseTwoScheduler scheduler = new PhaseTwoScheduler(2, 100, 100, 200, 1000);
+        try {
+            GlobalSession session = newSession("xid-backoff", "jdbc:mysql://db");
+            session.setStatus(GlobalStatus.CommitRetrying);
+            AtomicInteger attempts = new AtomicInteger();
+            scheduler.submit(session, globalSession -> attempts.incrementAndGet()).get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(1, attempts.get());
+            // still committing, the next passes skip it until its backoff passed
+            Assertions.assertNull(scheduler.submit(session, globalSession -> attempts.incrementAndGet()));
+
+            Thread.sleep(300);
+            scheduler.submit(session, globalSession -> {
+                attempts.incrementAndGet();
+                globalSession.setStatus(GlobalStatus.Committed);
+            }).get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, attempts.get());
+            // the backoff is cleared once the session left phase two
+            session.setStatus(GlobalStatus.CommitRetrying);
+            Assertions.assertNotNull(scheduler.submit(session, globalSession -> attempts.incrementAndGet()));
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    private GlobalSession newSession(String xid, String resourceId) {
+        GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+        globalSession.setXid(xid);
+        BranchSession branchSession = new BranchSession();
+        branchSession.setXid(xid);
+        branchSession.setResourceId(resourceId);
+        globalSession.add(branchSession);
+        return globalSession;
+    }
+}
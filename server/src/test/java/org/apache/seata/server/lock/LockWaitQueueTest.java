@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.seata.core.lock.RowLock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Lock wait queue test.
+ */
+public class LockWaitQueueTest {
+
+    @Test
+    public void testWakeHeadInOrder() {
+        LockWaitQueue lockWaitQueue = new LockWaitQueue();
+        List<RowLock> rows = rowLocks("1");
+        LockWaitQueue.Waiter first = lockWaitQueue.enqueue(rows);
+        LockWaitQueue.Waiter second = lockWaitQueue.enqueue(rows);
+        Assertions.assertEquals(1, lockWaitQueue.size());
+
+        CompletableFuture<Boolean> firstWoken = onWake(first);
+        CompletableFuture<Boolean> secondWoken = onWake(second);
+        lockWaitQueue.signal(rows);
+        Assertions.assertTrue(firstWoken.isDone());
+        // only the head is woken
+        Assertions.assertFalse(secondWoken.isDone());
+
+        // the head got its locks and leaves, the next release goes to the second waiter
+        first.cancel(true);
+        lockWaitQueue.signal(rows);
+        Assertions.assertTrue(secondWoken.isDone());
+        second.cancel(true);
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    @Test
+    public void testPassOnAfterFailedWake() {
+        LockWaitQueue lockWaitQueue = new LockWaitQueue();
+        List<RowLock> rows = rowLocks("2");
+        LockWaitQueue.Waiter first = lockWaitQueue.enqueue(rows);
+        LockWaitQueue.Waiter second = lockWaitQueue.enqueue(rows);
+        CompletableFuture<Boolean> secondWoken = onWake(second);
+        onWake(first);
+        lockWaitQueue.signal(rows);
+        Assertions.assertFalse(secondWoken.isDone());
+
+        // the woken head failed to get the locks and waits again, the wake goes to the waiter behind it
+        CompletableFuture<Boolean> firstWokenAgain = onWake(first);
+        Assertions.assertTrue(secondWoken.isDone());
+        Assertions.assertFalse(firstWokenAgain.isDone());
+
+        // a head giving up after a wake passes it on as well
+        LockWaitQueue.Waiter third = lockWaitQueue.enqueue(rows);
+        CompletableFuture<Boolean> thirdWoken = onWake(third);
+        second.cancel(true);
+        lockWaitQueue.signal(rows);
+        first.cancel(false);
+        Assertions.assertTrue(thirdWoken.isDone());
+        third.cancel(true);
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    @Test
+    public void testReleasedWhileRetrying() {
+        LockWaitQueue lockWaitQueue = new LockWaitQueue();
+        List<RowLock> rows = rowLocks("3");
+        LockWaitQueue.Waiter waiter = lockWaitQueue.enqueue(rows);
+        // no callback armed yet, the release is kept and the callback runs as soon as it is armed
+        lockWaitQueue.signal(rows);
+        Assertions.assertTrue(onWake(waiter).isDone());
+        waiter.cancel(true);
+    }
+
+    @Test
+    public void testDisarm() {
+        LockWaitQueue lockWaitQueue = new LockWaitQueue();
+        LockWaitQueue.Waiter waiter = lockWaitQueue.enqueue(rowLocks("4"));
+        CompletableFuture<Boolean> woken = onWake(waiter);
+        lockWaitQueue.signal(rowLocks("5"));
+        Assertions.assertFalse(woken.isDone());
+        Assertions.assertTrue(waiter.disarm());
+        lockWaitQueue.signal(rowLocks("4"));
+        Assertions.assertFalse(woken.isDone());
+        Assertions.assertFalse(waiter.disarm());
+        waiter.cancel(false);
+        Assertions.assertEquals(0, lockWaitQueue.size());
+    }
+
+    private static CompletableFuture<Boolean> onWake(LockWaitQueue.Waiter waiter) {
+        CompletableFuture<Boolean> woken = new CompletableFuture<>();
+        waiter.onWake(() -> woken.complete(true));
+        return woken;
+    }
+
+    private static List<RowLock> rowLocks(String pk) {
+        RowLock rowLock = new RowLock();
+        rowLock.setResourceId("jdbc:mysql://127.0.0.1:3306/seata");
+        rowLock.setTableName("t");
+        rowLock.setPk(pk);
+        return Collections.singletonList(rowLock);
+    }
+}
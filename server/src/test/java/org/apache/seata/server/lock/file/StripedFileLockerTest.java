@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock.file;
+
+import org.apache.seata.common.util.UUIDGenerator;
+import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.lock.LockManager;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.storage.file.lock.FileLockManager;
+import org.apache.seata.server.storage.file.lock.StripedFileLocker;
+import org.apache.seata.server.storage.file.lock.StripedLockTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Striped file locker test.
+ */
+@SpringBootTest
+public class StripedFileLockerTest {
+
+    @Test
+    public void testStripes() {
+        Assertions.assertEquals(1, new StripedLockTable(1).getStripes());
+        Assertions.assertEquals(64, new StripedLockTable(64).getStripes());
+        Assertions.assertEquals(128, new StripedLockTable(100).getStripes());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedLockTable(0));
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        StripedLockTable lockTable = new StripedLockTable(2);
+        BranchSession owner = newBranchSession("t:1");
+        BranchSession other = newBranchSession("t:1");
+        long[] rowKeys = new long[1000];
+        for (int i = 0; i < rowKeys.length; i++) {
+            rowKeys[i] = lockTable.rowKey("jdbc:mysql://localhost/db", "t", String.valueOf(i));
+            Assertions.assertNull(lockTable.putIfAbsent(rowKeys[i], owner));
+        }
+        Assertions.assertEquals(rowKeys.length, lockTable.size());
+        Assertions.assertSame(owner, lockTable.putIfAbsent(rowKeys[10], other));
+        Assertions.assertEquals(0L, lockTable.existingRowKey("unknown", "t", "1"));
+        Assertions.assertEquals(rowKeys[1], lockTable.existingRowKey("jdbc:mysql://localhost/db", "t", "1"));
+
+        // only the holder can remove the lock
+        lockTable.remove(rowKeys[10], other);
+        Assertions.assertSame(owner, lockTable.get(rowKeys[10]));
+        for (int i = 0; i < rowKeys.length; i += 2) {
+            lockTable.remove(rowKeys[i], owner);
+        }
+        Assertions.assertEquals(rowKeys.length / 2, lockTable.size());
+        for (int i = 0; i < rowKeys.length; i++) {
+            if (i % 2 == 0) {
+                Assertions.assertNull(lockTable.get(rowKeys[i]));
+            } else {
+                Assertions.assertSame(owner, lockTable.get(rowKeys[i]));
+            }
+        }
+        lockTable.clear();
+        Assertions.assertEquals(0, lockTable.size());
+    }
+
+    @Test
+    public void testAcquireAndRelease() throws Exception {
+        LockManager lockManager = new StripedFileLockManagerForTest();
+        BranchSession branchSession1 = newBranchSession("t:1,2;t1:1");
+        BranchSession branchSession2 = newBranchSession("t:3;t1:1");
+        Assertions.assertTrue(lockManager.acquireLock(branchSession1));
+        Assertions.assertEquals(3, branchSession1.getRowLockHolder().size());
+        Assertions.assertTrue(branchSession1.getLockHolder().isEmpty());
+        Assertions.assertFalse(lockManager.isLockable(branchSession2.getXid(), branchSession2.getResourceId(),
+            branchSession2.getLockKey()));
+        Assertions.assertTrue(lockManager.isLockable(branchSession1.getXid(), branchSession1.getResourceId(),
+            branchSession1.getLockKey()));
+
+        Assertions.assertTrue(lockManager.releaseLock(branchSession1));
+        Assertions.assertTrue(branchSession1.getRowLockHolder().isEmpty());
+        Assertions.assertTrue(lockManager.acquireLock(branchSession2));
+        Assertions.assertEquals(2, branchSession2.getRowLockHolder().size());
+        Assertions.assertTrue(lockManager.releaseLock(branchSession2));
+    }
+
+    private static BranchSession newBranchSession(String lockKey) {
+        BranchSession branchSession = new BranchSession(BranchType.AT);
+        long transactionId = UUIDGenerator.generateUUID();
+        branchSession.setXid("127.0.0.1:8091:" + transactionId);
+        branchSession.setTransactionId(transactionId);
+        branchSession.setBranchId(UUIDGenerator.generateUUID());
+        branchSession.setResourceId("striped_tb");
+        branchSession.setLockKey(lockKey);
+        branchSession.setClientId("c1");
+        branchSession.setApplicationData("{\"data\":\"test\"}");
+        return branchSession;
+    }
+
+    private static class StripedFileLockManagerForTest extends FileLockManager {
+
+        private final StripedLockTable lockTable = new StripedLockTable(4);
+
+        @Override
+        public Locker getLocker(BranchSession branchSession) {
+            return new StripedFileLocker(branchSession, lockTable);
+        }
+    }
+}
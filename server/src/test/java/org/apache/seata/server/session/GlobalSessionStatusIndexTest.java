@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.seata.core.model.GlobalStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Global session status index test.
+ */
+@SpringBootTest
+public class GlobalSessionStatusIndexTest {
+
+    @Test
+    public void testIndexAndFind() {
+        GlobalSessionStatusIndex statusIndex = new GlobalSessionStatusIndex();
+        GlobalSession begin = newSession(GlobalStatus.Begin);
+        GlobalSession committing = newSession(GlobalStatus.CommitRetrying);
+        GlobalSession rollbacking = newSession(GlobalStatus.RollbackRetrying);
+        statusIndex.rebuild(Arrays.asList(begin, committing, rollbacking));
+        Assertions.assertEquals(3, statusIndex.size());
+
+        List<GlobalSession> found = statusIndex.find(GlobalStatus.CommitRetrying, GlobalStatus.Committed);
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertSame(committing, found.get(0));
+
+        begin.setStatus(GlobalStatus.Committed);
+        // not moved yet, the stale bucket must not return it
+        Assertions.assertTrue(statusIndex.find(GlobalStatus.Begin).isEmpty());
+        statusIndex.index(begin);
+        Assertions.assertEquals(2, statusIndex.find(GlobalStatus.CommitRetrying, GlobalStatus.Committed).size());
+
+        statusIndex.remove(committing.getXid());
+        Assertions.assertEquals(1, statusIndex.find(GlobalStatus.CommitRetrying, GlobalStatus.Committed).size());
+        Assertions.assertEquals(2, statusIndex.size());
+    }
+
+    @Test
+    public void testReindexAfterRemove() {
+        GlobalSessionStatusIndex statusIndex = new GlobalSessionStatusIndex();
+        GlobalSession committing = newSession(GlobalStatus.Committing);
+        statusIndex.index(committing);
+
+        committing.setStatus(GlobalStatus.CommitRetrying);
+        statusIndex.reindex(committing);
+        Assertions.assertEquals(1, statusIndex.find(GlobalStatus.CommitRetrying).size());
+
+        statusIndex.remove(committing.getXid());
+        // a status change landing after the removal must not bring the session back
+        committing.setStatus(GlobalStatus.Committed);
+        statusIndex.reindex(committing);
+        Assertions.assertTrue(statusIndex.find(GlobalStatus.Committed).isEmpty());
+        Assertions.assertEquals(0, statusIndex.size());
+    }
+
+    private GlobalSession newSession(GlobalStatus status) {
+        GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", 60000);
+        globalSession.setStatus(status);
+        return globalSession;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.session;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.seata.core.model.GlobalStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The type Global session timeout index test.
+ */
+@SpringBootTest
+public class GlobalSessionTimeoutIndexTest {
+
+    @Test
+    public void testFindTimeout() {
+        GlobalSessionTimeoutIndex timeoutIndex = new GlobalSessionTimeoutIndex();
+        GlobalSession expired = newBeginSession(1000L, 100);
+        GlobalSession alive = newBeginSession(1000L, 10000);
+        GlobalSession committing = newBeginSession(1000L, 100);
+        timeoutIndex.rebuild(Arrays.asList(expired, alive, committing));
+        Assertions.assertEquals(3, timeoutIndex.size());
+
+        committing.setStatus(GlobalStatus.Committing);
+        List<GlobalSession> timeoutSessions = timeoutIndex.findTimeout(2000L);
+        Assertions.assertEquals(1, timeoutSessions.size());
+        Assertions.assertSame(expired, timeoutSessions.get(0));
+        // the session which left Begin status is dropped from the index
+        Assertions.assertEquals(2, timeoutIndex.size());
+
+        timeoutIndex.remove(expired.getXid());
+        Assertions.assertTrue(timeoutIndex.findTimeout(2000L).isEmpty());
+        Assertions.assertEquals(1, timeoutIndex.findTimeout(20000L).size());
+    }
+
+    @Test
+    public void testAddIgnoreNotBegin() {
+        GlobalSessionTimeoutIndex timeoutIndex = new GlobalSessionTimeoutIndex();
+        GlobalSession globalSession = newBeginSession(1000L, 100);
+        globalSession.setStatus(GlobalStatus.Rollbacking);
+        timeoutIndex.add(globalSession);
+        Assertions.assertEquals(0, timeoutIndex.size());
+    }
+
+    private GlobalSession newBeginSession(long beginTime, int timeout) {
+        GlobalSession globalSession = new GlobalSession("demo-app", "default_tx_group", "test", timeout);
+        globalSession.setStatus(GlobalStatus.Begin);
+        globalSession.setBeginTime(beginTime);
+        return globalSession;
+    }
+}
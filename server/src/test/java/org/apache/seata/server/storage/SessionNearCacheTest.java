@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage;
+
+import java.util.Collections;
+
+import org.apache.seata.common.XID;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.store.GlobalTransactionDO;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHelper;
+import org.apache.seata.server.storage.SessionNearCache.CacheMode;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type session near cache test.
+ */
+public class SessionNearCacheTest {
+
+    @BeforeAll
+    public static void init() {
+        XID.setIpAddress("127.0.0.1");
+        XID.setPort(8091);
+    }
+
+    @Test
+    public void testOwnerMode() {
+        SessionNearCache sessionCache = new SessionNearCache(CacheMode.OWNER, 100, 60000);
+        GlobalSession globalSession = newGlobalSession();
+        sessionCache.onWrite(LogOperation.GLOBAL_ADD, globalSession, true);
+        // another TC may time the session out, a Begin status must always be read from the store
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), false, false));
+        sessionCache.put(SessionConverter.convertGlobalTransactionDO(globalSession), null,
+            sessionCache.getWriteVersion());
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), false, false));
+
+        globalSession.setStatus(GlobalStatus.Committing);
+        sessionCache.onWrite(LogOperation.GLOBAL_UPDATE, globalSession, true);
+        sessionCache.put(SessionConverter.convertGlobalTransactionDO(globalSession), null,
+            sessionCache.getWriteVersion());
+        GlobalSession cached = sessionCache.get(globalSession.getXid(), false, false);
+        Assertions.assertNotNull(cached);
+        Assertions.assertNotSame(globalSession, cached);
+        Assertions.assertEquals(GlobalStatus.Committing, cached.getStatus());
+        // the branch sessions are always read from the store
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), true, false));
+
+        // a status change invalidates the session
+        globalSession.setStatus(GlobalStatus.Committed);
+        sessionCache.onWrite(LogOperation.GLOBAL_UPDATE, globalSession, true);
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), false, false));
+
+        // the sessions of the other TCs are not cached
+        GlobalTransactionDO other = SessionConverter.convertGlobalTransactionDO(globalSession);
+        other.setXid("127.0.0.2:8091:" + globalSession.getTransactionId());
+        sessionCache.put(other, null, sessionCache.getWriteVersion());
+        Assertions.assertNull(sessionCache.get(other.getXid(), false, false));
+    }
+
+    @Test
+    public void testExclusiveMode() {
+        SessionNearCache sessionCache = new SessionNearCache(CacheMode.EXCLUSIVE, 100, 60000);
+        GlobalSession globalSession = newGlobalSession();
+        sessionCache.onWrite(LogOperation.GLOBAL_ADD, globalSession, true);
+        BranchSession branchSession = SessionHelper.newBranchByGlobal(globalSession, BranchType.AT,
+            "resource", "t:1", "client");
+        sessionCache.onWrite(LogOperation.BRANCH_ADD, branchSession, true);
+
+        GlobalSession cached = sessionCache.get(globalSession.getXid(), true, false);
+        Assertions.assertNotNull(cached);
+        Assertions.assertEquals(1, cached.getBranchSessions().size());
+        Assertions.assertEquals(branchSession.getBranchId(), cached.getBranchSessions().get(0).getBranchId());
+
+        sessionCache.onWrite(LogOperation.BRANCH_REMOVE, branchSession, true);
+        Assertions.assertTrue(sessionCache.get(globalSession.getXid(), true, false).getBranchSessions().isEmpty());
+
+        // a failed write means the store is not what this TC expects
+        sessionCache.onWrite(LogOperation.BRANCH_ADD, branchSession, false);
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), true, false));
+    }
+
+    @Test
+    public void testStaleReadIsNotCached() {
+        SessionNearCache sessionCache = new SessionNearCache(CacheMode.EXCLUSIVE, 100, 60000);
+        GlobalSession globalSession = newGlobalSession();
+        GlobalTransactionDO read = SessionConverter.convertGlobalTransactionDO(globalSession);
+
+        long readVersion = sessionCache.getWriteVersion();
+        // a write lands while the store is read
+        globalSession.setStatus(GlobalStatus.Rollbacking);
+        sessionCache.onWrite(LogOperation.GLOBAL_UPDATE, globalSession, true);
+        sessionCache.put(read, Collections.emptyList(), readVersion);
+        Assertions.assertNull(sessionCache.get(globalSession.getXid(), false, false));
+
+        sessionCache.put(read, Collections.emptyList(), sessionCache.getWriteVersion());
+        Assertions.assertNotNull(sessionCache.get(globalSession.getXid(), true, false));
+    }
+
+    private GlobalSession newGlobalSession() {
+        return new GlobalSession("demo-app", "my_test_tx_group", "test", 6000);
+    }
+}
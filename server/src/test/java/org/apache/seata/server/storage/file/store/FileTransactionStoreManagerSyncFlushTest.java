@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.file.store;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.storage.file.FlushDiskMode;
+import org.apache.seata.server.storage.file.TransactionWriteStore;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * The sync flush disk mode of the file transaction store manager.
+ */
+@SpringBootTest
+public class FileTransactionStoreManagerSyncFlushTest {
+
+    private static final int THREADS = 8;
+
+    private static final int WRITES_PER_THREAD = 50;
+
+    @Test
+    public void testConcurrentGroupCommit() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager storeManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(),
+            null, FlushDiskMode.SYNC_MODEL);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    boolean written = true;
+                    for (int j = 0; j < WRITES_PER_THREAD; j++) {
+                        written &= storeManager.writeSession(LogOperation.GLOBAL_ADD,
+                            new GlobalSession("", "", "", 60000));
+                    }
+                    return written;
+                }, executor));
+            }
+            for (CompletableFuture<Boolean> result : results) {
+                Assertions.assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+            // every acknowledged frame is in the data file
+            List<TransactionWriteStore> stores = new ArrayList<>();
+            while (storeManager.hasRemaining(false)) {
+                stores.addAll(storeManager.readWriteStore(100, false));
+            }
+            Assertions.assertEquals(THREADS * WRITES_PER_THREAD, stores.size());
+        } finally {
+            executor.shutdownNow();
+            storeManager.shutdown();
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+
+    @Test
+    public void testFailedCommitIsReported() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager storeManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(),
+            null, FlushDiskMode.SYNC_MODEL);
+        try {
+            Assertions.assertTrue(storeManager.writeSession(LogOperation.GLOBAL_ADD,
+                new GlobalSession("", "", "", 60000)));
+            // the frame is staged fine but the group commit can not write it
+            Field channelField = FileTransactionStoreManager.class.getDeclaredField("currFileChannel");
+            channelField.setAccessible(true);
+            ((FileChannel)channelField.get(storeManager)).close();
+            Assertions.assertFalse(storeManager.writeSession(LogOperation.GLOBAL_ADD,
+                new GlobalSession("", "", "", 60000)));
+        } finally {
+            storeManager.shutdown();
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+}
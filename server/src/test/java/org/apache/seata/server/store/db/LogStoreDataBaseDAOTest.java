@@ -20,13 +20,19 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.IOUtil;
 import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
+import org.apache.seata.server.storage.db.store.LogStoreBatchWriter;
 import org.apache.seata.server.storage.db.store.LogStoreDataBaseDAO;
+import org.apache.seata.server.storage.db.store.LogStoreWrite;
+import org.apache.seata.server.store.TransactionStoreManager.LogOperation;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.h2.store.fs.FileUtils;
 import org.junit.jupiter.api.AfterAll;
@@ -706,6 +712,86 @@ public class LogStoreDataBaseDAOTest {
         }
     }
 
+    @Test
+    public void batchWrite() throws SQLException {
+        GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+        globalTransactionDO.setXid("abc-123:8888");
+        globalTransactionDO.setTransactionServiceGroup("abc");
+        globalTransactionDO.setTransactionName("test");
+        globalTransactionDO.setTransactionId(8888);
+        globalTransactionDO.setTimeout(20);
+        globalTransactionDO.setBeginTime(System.currentTimeMillis());
+        globalTransactionDO.setApplicationId("test");
+        globalTransactionDO.setStatus(1);
+
+        List<LogStoreWrite> writes = new ArrayList<>();
+        writes.add(LogStoreWrite.global(LogOperation.GLOBAL_ADD, globalTransactionDO, null));
+        for (int i = 0; i < 3; i++) {
+            BranchTransactionDO branchTransactionDO = new BranchTransactionDO();
+            branchTransactionDO.setXid("abc-123:8888");
+            branchTransactionDO.setTransactionId(8888);
+            branchTransactionDO.setBranchId(88880 + i);
+            branchTransactionDO.setResourceId("qqqq");
+            branchTransactionDO.setBranchType("AT");
+            branchTransactionDO.setResourceGroupId("test");
+            branchTransactionDO.setClientId("1.1.1.1");
+            branchTransactionDO.setStatus(1);
+            writes.add(LogStoreWrite.branch(LogOperation.BRANCH_ADD, branchTransactionDO));
+        }
+        boolean[] results = logStoreDataBaseDAO.batchWrite(writes);
+        Assertions.assertEquals(4, results.length);
+        for (boolean result : results) {
+            Assertions.assertTrue(result);
+        }
+        Assertions.assertEquals(3, logStoreDataBaseDAO.queryBranchTransactionDO("abc-123:8888").size());
+
+        // the expected status no longer matches after the first update of the same batch
+        GlobalTransactionDO committing = new GlobalTransactionDO();
+        committing.setXid("abc-123:8888");
+        committing.setStatus(2);
+        GlobalTransactionDO rollbacking = new GlobalTransactionDO();
+        rollbacking.setXid("abc-123:8888");
+        rollbacking.setStatus(4);
+        results = logStoreDataBaseDAO.batchWrite(Arrays.asList(
+            LogStoreWrite.global(LogOperation.GLOBAL_UPDATE, committing, 1),
+            LogStoreWrite.global(LogOperation.GLOBAL_UPDATE, rollbacking, 1)));
+        Assertions.assertTrue(results[0]);
+        Assertions.assertFalse(results[1]);
+        Assertions.assertEquals(2, logStoreDataBaseDAO.queryGlobalTransactionDO("abc-123:8888").getStatus());
+
+        // the writes are applied in their order, not grouped by sql
+        BranchTransactionDO reordered = writes.get(1).getBranchTransactionDO();
+        results = logStoreDataBaseDAO.batchWrite(Arrays.asList(
+            LogStoreWrite.branch(LogOperation.BRANCH_REMOVE, reordered),
+            LogStoreWrite.branch(LogOperation.BRANCH_ADD, reordered),
+            LogStoreWrite.branch(LogOperation.BRANCH_REMOVE, reordered)));
+        Assertions.assertEquals(3, results.length);
+        Assertions.assertEquals(2, logStoreDataBaseDAO.queryBranchTransactionDO("abc-123:8888").size());
+        results = logStoreDataBaseDAO.batchWrite(Collections.singletonList(
+            LogStoreWrite.branch(LogOperation.BRANCH_ADD, reordered)));
+        Assertions.assertTrue(results[0]);
+
+        // a failed batch commits nothing
+        Assertions.assertThrows(SQLException.class, () -> logStoreDataBaseDAO.batchWrite(Arrays.asList(
+            LogStoreWrite.global(LogOperation.GLOBAL_REMOVE, globalTransactionDO, null),
+            LogStoreWrite.branch(LogOperation.BRANCH_ADD, writes.get(1).getBranchTransactionDO()))));
+        Assertions.assertNotNull(logStoreDataBaseDAO.queryGlobalTransactionDO("abc-123:8888"));
+
+        LogStoreBatchWriter batchWriter = new LogStoreBatchWriter(logStoreDataBaseDAO, 16);
+        try {
+            for (int i = 1; i < writes.size(); i++) {
+                Assertions.assertTrue(batchWriter.write(
+                    LogStoreWrite.branch(LogOperation.BRANCH_REMOVE, writes.get(i).getBranchTransactionDO())));
+            }
+            Assertions.assertTrue(batchWriter.write(
+                LogStoreWrite.global(LogOperation.GLOBAL_REMOVE, globalTransactionDO, null)));
+        } finally {
+            batchWriter.destroy();
+        }
+        Assertions.assertNull(logStoreDataBaseDAO.queryGlobalTransactionDO("abc-123:8888"));
+        Assertions.assertTrue(logStoreDataBaseDAO.queryBranchTransactionDO("abc-123:8888").isEmpty());
+    }
+
     @AfterAll
     public static void clearStoreDB() throws SQLException {
         dataSource.close();
@@ -17,6 +17,7 @@
 package org.apache.seata.server.store.file;
 
 import java.io.File;
+import java.io.RandomAccessFile;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -148,6 +149,40 @@ public class FileTransactionStoreManagerTest {
         }
     }
 
+    @Test
+    public void testReadWithTruncatedTail() throws Exception {
+        File seataFile = Files.newTemporaryFile();
+        FileTransactionStoreManager fileTransactionStoreManager = null;
+        try {
+            fileTransactionStoreManager = new FileTransactionStoreManager(seataFile.getAbsolutePath(), null);
+            GlobalSession global = new GlobalSession();
+            for (byte c = 'A'; c <= 'C'; c++) {
+                BranchSession branchSession = Mockito.mock(BranchSession.class);
+                Mockito.when(branchSession.encode()).thenReturn(createBigBranchSessionData(global, c));
+                Assertions.assertTrue(fileTransactionStoreManager.writeSession(
+                    TransactionStoreManager.LogOperation.BRANCH_ADD, branchSession));
+            }
+            // a frame whose body never reached the disk
+            try (RandomAccessFile raf = new RandomAccessFile(seataFile, "rw")) {
+                raf.seek(raf.length());
+                raf.writeInt(1024);
+                raf.write(new byte[] {1, 2, 3});
+            }
+            List<TransactionWriteStore> stores = new ArrayList<>();
+            while (fileTransactionStoreManager.hasRemaining(false)) {
+                stores.addAll(fileTransactionStoreManager.readWriteStore(2, false));
+            }
+            Assertions.assertEquals(3, stores.size());
+            Assertions.assertEquals(new String(createBigApplicationData((byte) 'C')),
+                ((BranchSession) stores.get(2).getSessionRequest()).getApplicationData());
+        } finally {
+            if (fileTransactionStoreManager != null) {
+                fileTransactionStoreManager.shutdown();
+            }
+            Assertions.assertTrue(seataFile.delete());
+        }
+    }
+
     private byte[] createBigBranchSessionData(GlobalSession global, byte c) {
         int bufferSize = StoreConfig.getFileWriteBufferCacheSize() // applicationDataBytes
                 + 8 // trascationId
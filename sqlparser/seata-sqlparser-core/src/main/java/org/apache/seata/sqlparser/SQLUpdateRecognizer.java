@@ -40,6 +40,15 @@ public interface SQLUpdateRecognizer extends WhereRecognizer {
      */
     List<Object> getUpdateValues();
 
+    /**
+     * Gets the jdbc parameter index of each update value, counted over the whole statement from 1.
+     *
+     * @return one index per update value, -1 for a value that is not a placeholder, null if the recognizer can not tell
+     */
+    default List<Integer> getUpdateValueParameterIndexes() {
+        return null;
+    }
+
     /**
      * Gets update join item table name
      * @param tableName the update join item table source name
@@ -17,6 +17,7 @@
 package org.apache.seata.sqlparser.struct;
 
 import java.sql.Connection;
+import java.util.Collection;
 
 /**
  * The type Table meta cache.
@@ -42,4 +43,14 @@ public interface TableMetaCache {
      */
     void refresh(Connection connection, String resourceId);
 
+    /**
+     * Load the table metas ahead of their first use, the tables that can not be loaded are skipped
+     *
+     * @param connection the connection
+     * @param tableNames the table names
+     * @param resourceId the resource id
+     */
+    default void prefetch(Connection connection, Collection<String> tableNames, String resourceId) {
+    }
+
 }
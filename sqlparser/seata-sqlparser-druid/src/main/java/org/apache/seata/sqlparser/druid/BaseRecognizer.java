@@ -26,16 +26,21 @@ import com.alibaba.druid.sql.ast.expr.SQLExistsExpr;
 import com.alibaba.druid.sql.ast.expr.SQLInListExpr;
 import com.alibaba.druid.sql.ast.expr.SQLInSubQueryExpr;
 import com.alibaba.druid.sql.ast.expr.SQLMethodInvokeExpr;
+import com.alibaba.druid.sql.ast.expr.SQLVariantRefExpr;
 import com.alibaba.druid.sql.ast.statement.SQLInsertStatement;
 import com.alibaba.druid.sql.ast.statement.SQLMergeStatement;
 import com.alibaba.druid.sql.ast.statement.SQLReplaceStatement;
 import com.alibaba.druid.sql.ast.statement.SQLSubqueryTableSource;
+import com.alibaba.druid.sql.ast.statement.SQLUpdateSetItem;
 import com.alibaba.druid.sql.visitor.SQLASTVisitor;
 import com.alibaba.druid.sql.visitor.SQLASTVisitorAdapter;
 import org.apache.seata.common.exception.NotSupportYetException;
 import org.apache.seata.sqlparser.SQLParsingException;
 import org.apache.seata.sqlparser.SQLRecognizer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The type Base recognizer.
  *
@@ -101,6 +106,25 @@ public abstract class BaseRecognizer implements SQLRecognizer {
         throw new SQLParsingException(errorMsg);
     }
 
+    /**
+     * The jdbc parameter index of each SET value as numbered by the parser, a user variable like @var is not one.
+     *
+     * @param updateSetItems the update set items
+     * @return one index per set item, -1 if it is not a placeholder
+     */
+    protected List<Integer> getParameterIndexes(List<SQLUpdateSetItem> updateSetItems) {
+        List<Integer> list = new ArrayList<>(updateSetItems.size());
+        for (SQLUpdateSetItem updateSetItem : updateSetItems) {
+            SQLExpr expr = updateSetItem.getValue();
+            if (expr instanceof SQLVariantRefExpr && "?".equals(((SQLVariantRefExpr) expr).getName())) {
+                list.add(((SQLVariantRefExpr) expr).getIndex() + 1);
+            } else {
+                list.add(-1);
+            }
+        }
+        return list;
+    }
+
     public void executeLimit(SQLLimit sqlLimit, SQLASTVisitor visitor) {
         visitor.visit(sqlLimit);
     }
@@ -102,6 +102,11 @@ public class DmUpdateRecognizer extends BaseDmRecognizer implements SQLUpdateRec
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public String getWhereCondition(final ParametersHolder parametersHolder,
         final ArrayList<List<Object>> paramAppenderList) {
@@ -102,6 +102,11 @@ public class KingbaseUpdateRecognizer extends BaseKingbaseRecognizer implements
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public List<String> getUpdateColumnsUnEscape() {
         List<String> updateColumns = getUpdateColumns();
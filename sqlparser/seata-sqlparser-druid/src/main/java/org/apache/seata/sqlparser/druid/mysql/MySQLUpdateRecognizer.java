@@ -17,9 +17,9 @@
 package org.apache.seata.sqlparser.druid.mysql;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.alibaba.druid.sql.ast.SQLExpr;
 import com.alibaba.druid.sql.ast.SQLLimit;
@@ -51,7 +51,10 @@ public class MySQLUpdateRecognizer extends BaseMySQLRecognizer implements SQLUpd
 
     private final MySqlUpdateStatement ast;
 
-    private final Map<String, String> tableName2AliasMap = new HashMap<>(4);
+    /**
+     * filled by getTableName, the recognizer may be shared by threads and every call puts the same entries
+     */
+    private final Map<String, String> tableName2AliasMap = new ConcurrentHashMap<>(4);
 
     /**
      * Instantiates a new My sql update recognizer.
@@ -117,6 +120,11 @@ public class MySQLUpdateRecognizer extends BaseMySQLRecognizer implements SQLUpd
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public List<String> getUpdateColumnsUnEscape() {
         List<String> updateColumns = getUpdateColumns();
@@ -151,7 +159,7 @@ public class MySQLUpdateRecognizer extends BaseMySQLRecognizer implements SQLUpd
             final int minTableNum = 2;
             StringBuilder joinTables = new StringBuilder();
             joinTables.append(tableSource.toString());
-            tableName2AliasMap.put(tableSource.toString(), tableSource.getAlias());
+            putTableAlias(tableSource.toString(), tableSource.getAlias());
             this.getTableNames(tableSource, joinTables);
             if (joinTables.toString().split(MULTI_TABLE_NAME_SEPERATOR).length < minTableNum + 1) {
                 throw new ShouldNeverHappenException("should get at least two table name for update join table source:" + tableSource.toString());
@@ -216,7 +224,7 @@ public class MySQLUpdateRecognizer extends BaseMySQLRecognizer implements SQLUpd
                 tableNames.append(MULTI_TABLE_NAME_SEPERATOR);
                 String tableName = visitTableName((SQLExprTableSource) left);
                 tableNames.append(tableName);
-                tableName2AliasMap.put(tableName, left.getAlias());
+                putTableAlias(tableName, left.getAlias());
             }
             //b:get right
             SQLTableSource right = ((SQLJoinTableSource) tableSource).getRight();
@@ -226,13 +234,20 @@ public class MySQLUpdateRecognizer extends BaseMySQLRecognizer implements SQLUpd
                 tableNames.append(MULTI_TABLE_NAME_SEPERATOR);
                 String tableName = visitTableName((SQLExprTableSource) right);
                 tableNames.append(tableName);
-                tableName2AliasMap.put(tableName, right.getAlias());
+                putTableAlias(tableName, right.getAlias());
             }
         } else {
             tableNames.append(MULTI_TABLE_NAME_SEPERATOR);
             String tableName = visitTableName((SQLExprTableSource) tableSource);
             tableNames.append(tableName);
-            tableName2AliasMap.put(tableName, tableSource.getAlias());
+            putTableAlias(tableName, tableSource.getAlias());
+        }
+    }
+
+    private void putTableAlias(String tableName, String alias) {
+        // a table without alias has no entry, as the lookup of an absent entry gives null too
+        if (alias != null) {
+            tableName2AliasMap.put(tableName, alias);
         }
     }
 
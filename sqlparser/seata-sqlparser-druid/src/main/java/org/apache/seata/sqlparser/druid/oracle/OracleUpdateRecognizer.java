@@ -101,6 +101,11 @@ public class OracleUpdateRecognizer extends BaseOracleRecognizer implements SQLU
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public List<String> getUpdateColumnsUnEscape() {
         List<String> updateColumns = getUpdateColumns();
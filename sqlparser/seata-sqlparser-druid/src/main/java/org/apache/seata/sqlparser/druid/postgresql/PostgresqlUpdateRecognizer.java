@@ -98,6 +98,11 @@ public class PostgresqlUpdateRecognizer extends BasePostgresqlRecognizer impleme
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public List<String> getUpdateColumnsUnEscape() {
         List<String> updateColumns = getUpdateColumns();
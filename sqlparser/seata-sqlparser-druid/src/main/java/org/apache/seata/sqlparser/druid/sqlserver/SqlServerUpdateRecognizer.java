@@ -157,6 +157,11 @@ public class SqlServerUpdateRecognizer extends BaseSqlServerRecognizer implement
         return list;
     }
 
+    @Override
+    public List<Integer> getUpdateValueParameterIndexes() {
+        return getParameterIndexes(ast.getItems());
+    }
+
     @Override
     public String getTableAlias(String tableName) {
         return SQLUpdateRecognizer.super.getTableAlias(tableName);
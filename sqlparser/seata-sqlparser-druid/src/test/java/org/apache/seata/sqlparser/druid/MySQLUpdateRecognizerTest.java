@@ -342,6 +342,20 @@ public class MySQLUpdateRecognizerTest extends AbstractRecognizerTest {
         });
     }
 
+    @Test
+    public void testGetUpdateValueParameterIndexes() {
+        String sql = "update t set a = ?, b = @v, c = 1, d = '?', e = ? where id = ?";
+        List<SQLStatement> asts = SQLUtils.parseStatements(sql, JdbcConstants.MYSQL);
+        MySQLUpdateRecognizer recognizer = new MySQLUpdateRecognizer(sql, asts.get(0));
+        Assertions.assertEquals(Arrays.asList(1, -1, -1, -1, 2), recognizer.getUpdateValueParameterIndexes());
+
+        // a placeholder of the join condition comes before the SET placeholders
+        sql = "update t1 inner join t2 on t1.id = t2.id and t2.k = ? set t1.a = ? where t1.id = ?";
+        asts = SQLUtils.parseStatements(sql, JdbcConstants.MYSQL);
+        recognizer = new MySQLUpdateRecognizer(sql, asts.get(0));
+        Assertions.assertEquals(Arrays.asList(2), recognizer.getUpdateValueParameterIndexes());
+    }
+
     @Test
     public void testGetTableAlias() {
         String sql = "update t set a = ?, b = ?, c = ?";
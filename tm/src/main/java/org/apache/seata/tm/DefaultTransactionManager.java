@@ -22,6 +22,7 @@ import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.model.TransactionManager;
 import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.AbstractGlobalEndResponse;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionRequest;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
 import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
@@ -36,6 +37,8 @@ import org.apache.seata.core.protocol.transaction.GlobalStatusRequest;
 import org.apache.seata.core.protocol.transaction.GlobalStatusResponse;
 import org.apache.seata.core.rpc.netty.TmNettyRemotingClient;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -90,6 +93,55 @@ public class DefaultTransactionManager implements TransactionManager {
         return response.getGlobalStatus();
     }
 
+    @Override
+    public CompletableFuture<String> beginAsync(String applicationId, String transactionServiceGroup, String name,
+                                                int timeout) {
+        GlobalBeginRequest request = new GlobalBeginRequest();
+        request.setTransactionName(name);
+        request.setTimeout(timeout);
+        return asyncCall(request).thenApply(resp -> {
+            GlobalBeginResponse response = (GlobalBeginResponse) resp;
+            if (response.getResultCode() == ResultCode.Failed) {
+                throw new CompletionException(
+                    new TmTransactionException(TransactionExceptionCode.BeginFailed, response.getMsg()));
+            }
+            return response.getXid();
+        });
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> commitAsync(String xid) {
+        GlobalCommitRequest globalCommit = new GlobalCommitRequest();
+        globalCommit.setXid(xid);
+        return asyncCall(globalCommit)
+            .thenApply(response -> ((AbstractGlobalEndResponse) response).getGlobalStatus());
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> rollbackAsync(String xid) {
+        GlobalRollbackRequest globalRollback = new GlobalRollbackRequest();
+        globalRollback.setXid(xid);
+        return asyncCall(globalRollback)
+            .thenApply(response -> ((AbstractGlobalEndResponse) response).getGlobalStatus());
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> getStatusAsync(String xid) {
+        GlobalStatusRequest queryGlobalStatus = new GlobalStatusRequest();
+        queryGlobalStatus.setXid(xid);
+        return asyncCall(queryGlobalStatus)
+            .thenApply(response -> ((AbstractGlobalEndResponse) response).getGlobalStatus());
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> globalReportAsync(String xid, GlobalStatus globalStatus) {
+        GlobalReportRequest globalReport = new GlobalReportRequest();
+        globalReport.setXid(xid);
+        globalReport.setGlobalStatus(globalStatus);
+        return asyncCall(globalReport)
+            .thenApply(response -> ((AbstractGlobalEndResponse) response).getGlobalStatus());
+    }
+
     private AbstractTransactionResponse syncCall(AbstractTransactionRequest request) throws TransactionException {
         try {
             return (AbstractTransactionResponse) TmNettyRemotingClient.getInstance().sendSyncRequest(request);
@@ -97,4 +149,25 @@ public class DefaultTransactionManager implements TransactionManager {
             throw new TmTransactionException(TransactionExceptionCode.IO, "RPC timeout", toe);
         }
     }
+
+    private CompletableFuture<AbstractTransactionResponse> asyncCall(AbstractTransactionRequest request) {
+        CompletableFuture<Object> future;
+        try {
+            future = TmNettyRemotingClient.getInstance().sendSyncRequestAsync(request);
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        return future.handle((response, cause) -> {
+            if (cause == null) {
+                return (AbstractTransactionResponse) response;
+            }
+            Throwable t = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            if (t instanceof TimeoutException) {
+                throw new CompletionException(
+                    new TmTransactionException(TransactionExceptionCode.IO, "RPC timeout", t));
+            }
+            throw cause instanceof CompletionException ? (CompletionException) cause : new CompletionException(t);
+        });
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.tm.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.seata.tm.api.transaction.TransactionInfo;
+
+/**
+ * Callback for executing non-blocking business logic in a global transaction.
+ *
+ * @see TransactionalTemplate#executeAsync(AsyncTransactionalExecutor)
+ */
+public interface AsyncTransactionalExecutor {
+
+    /**
+     * Start the business logic here.
+     * The xid is not bound to the RootContext of any thread, the business propagates it by itself.
+     *
+     * @param xid the xid of the global transaction, null if executed without a global transaction
+     * @return the future of what the business logic returns
+     * @throws Throwable Any throwable during starting.
+     */
+    CompletableFuture<Object> execute(String xid) throws Throwable;
+
+    /**
+     * transaction conf or other attr
+     * @return transaction info
+     */
+    TransactionInfo getTransactionInfo();
+}
@@ -16,6 +16,11 @@
  */
 package org.apache.seata.tm.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.context.RootContext;
@@ -195,6 +200,105 @@ public class DefaultGlobalTransaction implements GlobalTransaction {
         }
     }
 
+    @Override
+    public CompletableFuture<String> beginAsync(int timeout, String name) {
+        this.createTime = System.currentTimeMillis();
+        if (role != GlobalTransactionRole.Launcher) {
+            assertXIDNotNull();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore BeginAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(xid);
+        }
+        assertXIDNull();
+        return transactionManager.beginAsync(null, null, name, timeout).thenApply(newXid -> {
+            xid = newXid;
+            status = GlobalStatus.Begin;
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Begin new global transaction [{}]", xid);
+            }
+            return xid;
+        });
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> commitAsync() {
+        if (role == GlobalTransactionRole.Participant) {
+            // Participant has no responsibility of committing
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore CommitAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(status);
+        }
+        assertXIDNotNull();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("transaction {} will be commit", xid);
+        }
+        int retry = COMMIT_RETRY_COUNT <= 0 ? DEFAULT_TM_COMMIT_RETRY_COUNT : COMMIT_RETRY_COUNT;
+        return reportAsync(() -> transactionManager.commitAsync(xid), retry, "commit");
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> rollbackAsync() {
+        if (role == GlobalTransactionRole.Participant) {
+            // Participant has no responsibility of rollback
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Ignore RollbackAsync(): just involved in global transaction [{}]", xid);
+            }
+            return CompletableFuture.completedFuture(status);
+        }
+        assertXIDNotNull();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("transaction {} will be rollback", xid);
+        }
+        int retry = ROLLBACK_RETRY_COUNT <= 0 ? DEFAULT_TM_ROLLBACK_RETRY_COUNT : ROLLBACK_RETRY_COUNT;
+        return reportAsync(() -> transactionManager.rollbackAsync(xid), retry, "rollback");
+    }
+
+    @Override
+    public CompletableFuture<GlobalStatus> getStatusAsync() {
+        if (xid == null) {
+            return CompletableFuture.completedFuture(GlobalStatus.UnKnown);
+        }
+        return transactionManager.getStatusAsync(xid).thenApply(globalStatus -> {
+            status = globalStatus;
+            return globalStatus;
+        });
+    }
+
+    /**
+     * Send the commit or rollback report, retried like the blocking variants until the retry count runs out.
+     */
+    private CompletableFuture<GlobalStatus> reportAsync(Supplier<CompletableFuture<GlobalStatus>> report, int retry,
+                                                        String action) {
+        CompletableFuture<GlobalStatus> future;
+        try {
+            future = report.get();
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        return future.handle((globalStatus, cause) -> {
+            if (cause == null) {
+                status = globalStatus;
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("[{}] {} status: {}", xid, action, status);
+                }
+                return CompletableFuture.completedFuture(globalStatus);
+            }
+            Throwable ex = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            int left = retry - 1;
+            LOGGER.error("Failed to report global {} [{}],Retry Countdown: {}, reason: {}", action, xid, left,
+                ex.getMessage());
+            if (left > 0) {
+                return reportAsync(report, left, action);
+            }
+            CompletableFuture<GlobalStatus> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new TransactionException("Failed to report global " + action, ex));
+            return failed;
+        }).thenCompose(Function.identity());
+    }
+
     @Override
     public SuspendedResourcesHolder suspend() throws TransactionException {
         return suspend(false);
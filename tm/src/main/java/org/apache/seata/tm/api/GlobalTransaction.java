@@ -16,8 +16,11 @@
  */
 package org.apache.seata.tm.api;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.model.TransactionManager;
 import org.apache.seata.tm.api.transaction.SuspendedResourcesHolder;
 
 /**
@@ -147,4 +150,55 @@ public interface GlobalTransaction extends BaseTransaction {
      * @return create time
      */
     long getCreateTime();
+
+    /**
+     * Begin a new global transaction with given timeout and given name without blocking the caller.
+     * The default implementation delegates to {@link #begin(int, String)}; {@link DefaultGlobalTransaction} does
+     * not bind the xid to the {@code RootContext} of the calling thread, the caller propagates it by itself.
+     *
+     * @param timeout Given timeout in MILLISECONDS.
+     * @param name    Given name.
+     * @return the future of the XID, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<String> beginAsync(int timeout, String name) {
+        return TransactionManager.completedCall(() -> {
+            begin(timeout, name);
+            return getXid();
+        });
+    }
+
+    /**
+     * Commit the global transaction without blocking the caller.
+     * The default implementation delegates to the blocking method.
+     *
+     * @return the future of the status after committing, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> commitAsync() {
+        return TransactionManager.completedCall(() -> {
+            commit();
+            return getLocalStatus();
+        });
+    }
+
+    /**
+     * Rollback the global transaction without blocking the caller.
+     * The default implementation delegates to the blocking method.
+     *
+     * @return the future of the status after rollbacking, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> rollbackAsync() {
+        return TransactionManager.completedCall(() -> {
+            rollback();
+            return getLocalStatus();
+        });
+    }
+
+    /**
+     * Ask TC for current status of the corresponding global transaction without blocking the caller.
+     *
+     * @return the future of the status, completed exceptionally with TransactionException on failure
+     */
+    default CompletableFuture<GlobalStatus> getStatusAsync() {
+        return TransactionManager.completedCall(this::getStatus);
+    }
 }
@@ -17,6 +17,11 @@
 package org.apache.seata.tm.api;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import org.apache.seata.common.exception.FrameworkErrorCode;
 import org.apache.seata.common.exception.FrameworkException;
@@ -152,6 +157,150 @@ public class TransactionalTemplate {
         }
     }
 
+    /**
+     * Execute the non-blocking business with a global transaction, without blocking the caller on any TC request.
+     * <p>
+     * No transaction is bound to the calling thread, so every propagation that needs a transaction begins a new
+     * one and the xid is handed to the business. The transaction hooks and the global lock config are thread bound
+     * and are not applied here.
+     * </p>
+     * <p>
+     * The business is started, and the returned future completed, on the common fork join pool rather than on the
+     * netty thread that received the TC response.
+     * </p>
+     *
+     * @param business the business
+     * @return the future of what the business returns, completed exceptionally like {@link #execute}
+     */
+    public CompletableFuture<Object> executeAsync(AsyncTransactionalExecutor business) {
+        return executeAsync(business, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #executeAsync(AsyncTransactionalExecutor)}, starting the business and completing the returned
+     * future on the given executor.
+     *
+     * @param business the business
+     * @param executor the executor the business and the callers of the returned future run on
+     * @return the future of what the business returns, completed exceptionally like {@link #execute}
+     */
+    public CompletableFuture<Object> executeAsync(AsyncTransactionalExecutor business, Executor executor) {
+        TransactionInfo txInfo = business.getTransactionInfo();
+        if (txInfo == null) {
+            return failedFuture(new ShouldNeverHappenException("transactionInfo does not exist"));
+        }
+        Propagation propagation = txInfo.getPropagation();
+        switch (propagation) {
+            case NOT_SUPPORTED:
+            case SUPPORTS:
+            case NEVER:
+                // Execute without transaction.
+                return completeOn(executeBusinessAsync(business, null), executor);
+            case REQUIRES_NEW:
+            case REQUIRED:
+                break;
+            case MANDATORY:
+                return failedFuture(new TransactionException(
+                    "No existing transaction found for transaction marked with propagation 'mandatory'"));
+            default:
+                return failedFuture(new TransactionException("Not Supported Propagation:" + propagation));
+        }
+
+        GlobalTransaction tx = GlobalTransactionContext.createNew();
+        // the begin response arrives on a netty thread, never run the business there
+        CompletableFuture<String> begin = tx.beginAsync(txInfo.getTimeOut(), txInfo.getName());
+        CompletableFuture<Object> future = begin.handleAsync((xid, beginCause) -> {
+            if (beginCause != null) {
+                return TransactionalTemplate.<Object>failedFuture(
+                    toExecutionException(tx, beginCause, TransactionalExecutor.Code.BeginFailure, null));
+            }
+            return executeBusinessAsync(business, xid).handle((rs, bizCause) -> {
+                if (bizCause == null) {
+                    return commitTransactionAsync(tx, txInfo).thenApply(v -> rs);
+                }
+                Throwable ex = unwrap(bizCause);
+                if (txInfo.rollbackOn(ex)) {
+                    return rollbackTransactionAsync(tx, ex).thenApply(v -> rs);
+                }
+                // not roll back on this exception, so commit
+                return commitTransactionAsync(tx, txInfo)
+                    .thenCompose(v -> TransactionalTemplate.<Object>failedFuture(ex));
+            }).thenCompose(Function.identity());
+        }, executor).thenCompose(Function.identity());
+        return completeOn(future, executor);
+    }
+
+    /**
+     * the commit or rollback response arrives on a netty thread, complete the future of the caller elsewhere
+     */
+    private static CompletableFuture<Object> completeOn(CompletableFuture<Object> future, Executor executor) {
+        return future.whenCompleteAsync((rs, cause) -> { }, executor);
+    }
+
+    private CompletableFuture<Object> executeBusinessAsync(AsyncTransactionalExecutor business, String xid) {
+        try {
+            CompletableFuture<Object> future = business.execute(xid);
+            return future != null ? future : CompletableFuture.completedFuture(null);
+        } catch (Throwable t) {
+            return failedFuture(t);
+        }
+    }
+
+    private CompletableFuture<Void> commitTransactionAsync(GlobalTransaction tx, TransactionInfo txInfo) {
+        if (isTimeout(tx.getCreateTime(), txInfo)) {
+            // business execution timeout
+            Exception exx = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
+                String.format("client detected transaction timeout before commit, so change to rollback, xid = %s",
+                    tx.getXid()));
+            return rollbackTransactionAsync(tx, exx);
+        }
+        return tx.commitAsync().handle((afterCommitStatus, cause) -> {
+            if (cause != null) {
+                throw new CompletionException(
+                    toExecutionException(tx, cause, TransactionalExecutor.Code.CommitFailure, null));
+            }
+            TransactionalExecutor.ExecutionException statusException = afterCommitStatusException(tx);
+            if (null != statusException) {
+                throw new CompletionException(statusException);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link #rollbackTransaction}, the returned future always completes exceptionally.
+     */
+    private CompletableFuture<Void> rollbackTransactionAsync(GlobalTransaction tx, Throwable originalException) {
+        return tx.rollbackAsync().handle((afterRollbackStatus, cause) -> {
+            if (cause != null) {
+                throw new CompletionException(toExecutionException(tx, cause,
+                    TransactionalExecutor.Code.RollbackFailure, originalException));
+            }
+            throw new CompletionException(
+                new TransactionalExecutor.ExecutionException(tx, afterRollbackCode(tx), originalException));
+        });
+    }
+
+    private Throwable toExecutionException(GlobalTransaction tx, Throwable cause, TransactionalExecutor.Code code,
+                                           Throwable originalException) {
+        Throwable ex = unwrap(cause);
+        if (ex instanceof TransactionException) {
+            return new TransactionalExecutor.ExecutionException(tx, (TransactionException) ex, code,
+                originalException);
+        }
+        return ex;
+    }
+
+    private static Throwable unwrap(Throwable cause) {
+        return cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable cause) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
     /**
      * Judge whether timeout
      *
@@ -219,30 +368,9 @@ public class TransactionalTemplate {
         try {
             triggerBeforeCommit();
             tx.commit();
-            GlobalStatus afterCommitStatus = tx.getLocalStatus();
-            TransactionalExecutor.Code code = TransactionalExecutor.Code.Unknown;
-            switch (afterCommitStatus) {
-                case TimeoutRollbacking:
-                    code = TransactionalExecutor.Code.Rollbacking;
-                    break;
-                case TimeoutRollbacked:
-                    code = TransactionalExecutor.Code.RollbackDone;
-                    break;
-                case Finished:
-                    code = TransactionalExecutor.Code.CommitFailure;
-                    break;
-                default:
-            }
-            Exception statusException = null;
-            if (GlobalStatus.isTwoPhaseHeuristic(afterCommitStatus)) {
-                statusException = new TmTransactionException(TransactionExceptionCode.CommitHeuristic,
-                    String.format("Global transaction[%s] not found, may be rollbacked.", tx.getXid()));
-            } else if (GlobalStatus.isOnePhaseTimeout(afterCommitStatus)) {
-                statusException = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
-                    String.format("Global transaction[%s] is timeout and will be rollback[TC].", tx.getXid()));
-            }
+            TransactionalExecutor.ExecutionException statusException = afterCommitStatusException(tx);
             if (null != statusException) {
-                throw new TransactionalExecutor.ExecutionException(tx, statusException, code);
+                throw statusException;
             }
             triggerAfterCommit();
         } catch (TransactionException txe) {
@@ -269,6 +397,40 @@ public class TransactionalTemplate {
                     TransactionalExecutor.Code.RollbackFailure, originalException);
         }
 
+        throw new TransactionalExecutor.ExecutionException(tx, afterRollbackCode(tx), originalException);
+
+    }
+
+    private TransactionalExecutor.ExecutionException afterCommitStatusException(GlobalTransaction tx) {
+        GlobalStatus afterCommitStatus = tx.getLocalStatus();
+        TransactionalExecutor.Code code = TransactionalExecutor.Code.Unknown;
+        switch (afterCommitStatus) {
+            case TimeoutRollbacking:
+                code = TransactionalExecutor.Code.Rollbacking;
+                break;
+            case TimeoutRollbacked:
+                code = TransactionalExecutor.Code.RollbackDone;
+                break;
+            case Finished:
+                code = TransactionalExecutor.Code.CommitFailure;
+                break;
+            default:
+        }
+        Exception statusException = null;
+        if (GlobalStatus.isTwoPhaseHeuristic(afterCommitStatus)) {
+            statusException = new TmTransactionException(TransactionExceptionCode.CommitHeuristic,
+                String.format("Global transaction[%s] not found, may be rollbacked.", tx.getXid()));
+        } else if (GlobalStatus.isOnePhaseTimeout(afterCommitStatus)) {
+            statusException = new TmTransactionException(TransactionExceptionCode.TransactionTimeout,
+                String.format("Global transaction[%s] is timeout and will be rollback[TC].", tx.getXid()));
+        }
+        if (null != statusException) {
+            return new TransactionalExecutor.ExecutionException(tx, statusException, code);
+        }
+        return null;
+    }
+
+    private TransactionalExecutor.Code afterRollbackCode(GlobalTransaction tx) {
         //# fix #5231
         TransactionalExecutor.Code code;
         switch (tx.getLocalStatus()) {
@@ -293,8 +455,7 @@ public class TransactionalTemplate {
                 code = TransactionalExecutor.Code.Unknown;
                 LOGGER.warn("{} rollback in the state {}", tx.getXid(), tx.getLocalStatus());
         }
-        throw new TransactionalExecutor.ExecutionException(tx, code, originalException);
-
+        return code;
     }
 
     private void beginTransaction(TransactionInfo txInfo, GlobalTransaction tx) throws TransactionalExecutor.ExecutionException {
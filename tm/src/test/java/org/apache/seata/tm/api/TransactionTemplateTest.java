@@ -18,6 +18,12 @@ package org.apache.seata.tm.api;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.model.GlobalStatus;
@@ -34,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +62,12 @@ public class TransactionTemplateTest {
         when(transactionManager.commit(DEFAULT_XID)).thenReturn(GlobalStatus.Committed);
         when(transactionManager.rollback(DEFAULT_XID)).thenReturn(GlobalStatus.Rollbacked);
         when(transactionManager.getStatus(DEFAULT_XID)).thenReturn(GlobalStatus.Begin);
+        when(transactionManager.beginAsync(null, null, DEFAULT_NAME, DEFAULT_TIME_OUT))
+            .thenReturn(CompletableFuture.completedFuture(DEFAULT_XID));
+        when(transactionManager.commitAsync(DEFAULT_XID))
+            .thenReturn(CompletableFuture.completedFuture(GlobalStatus.Committed));
+        when(transactionManager.rollbackAsync(DEFAULT_XID))
+            .thenReturn(CompletableFuture.completedFuture(GlobalStatus.Rollbacked));
         TransactionManagerHolder.set(transactionManager);
 
         //mock transactionalExecutor
@@ -120,6 +133,75 @@ public class TransactionTemplateTest {
         verifyRollBack(transactionHook);
     }
 
+    @Test
+    public void testExecuteAsyncCommit() throws Exception {
+        TransactionalTemplate template = new TransactionalTemplate();
+        Object result = template.executeAsync(asyncExecutor(CompletableFuture.completedFuture("ok"))).get();
+        assertThat(result).isEqualTo("ok");
+        verify(TransactionManagerHolder.get()).commitAsync(DEFAULT_XID);
+        assertThat(RootContext.getXID()).isNull();
+    }
+
+    @Test
+    public void testExecuteAsyncRollback() {
+        CompletableFuture<Object> business = new CompletableFuture<>();
+        business.completeExceptionally(new RuntimeException());
+        TransactionalTemplate template = new TransactionalTemplate();
+        assertThatThrownBy(() -> template.executeAsync(asyncExecutor(business)).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(TransactionalExecutor.ExecutionException.class);
+        verify(TransactionManagerHolder.get()).rollbackAsync(DEFAULT_XID);
+    }
+
+    @Test
+    public void testExecuteAsyncOnExecutor() throws Exception {
+        // the begin response completes on a netty thread
+        CompletableFuture<String> begin = new CompletableFuture<>();
+        when(TransactionManagerHolder.get().beginAsync(null, null, DEFAULT_NAME, DEFAULT_TIME_OUT)).thenReturn(begin);
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "business"));
+        try {
+            TransactionInfo txInfo = transactionalExecutor.getTransactionInfo();
+            AtomicReference<String> businessThread = new AtomicReference<>();
+            AsyncTransactionalExecutor business = new AsyncTransactionalExecutor() {
+                @Override
+                public CompletableFuture<Object> execute(String xid) {
+                    businessThread.set(Thread.currentThread().getName());
+                    return CompletableFuture.completedFuture("ok");
+                }
+
+                @Override
+                public TransactionInfo getTransactionInfo() {
+                    return txInfo;
+                }
+            };
+            CompletableFuture<Object> future = new TransactionalTemplate().executeAsync(business, executor);
+            CompletableFuture<String> callerThread = future.thenApply(rs -> Thread.currentThread().getName());
+            new Thread(() -> begin.complete(DEFAULT_XID), "netty").start();
+
+            assertThat(callerThread.get(5, TimeUnit.SECONDS)).isEqualTo("business");
+            assertThat(businessThread.get()).isEqualTo("business");
+            assertThat(future.get()).isEqualTo("ok");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AsyncTransactionalExecutor asyncExecutor(CompletableFuture<Object> business) {
+        TransactionInfo txInfo = transactionalExecutor.getTransactionInfo();
+        return new AsyncTransactionalExecutor() {
+            @Override
+            public CompletableFuture<Object> execute(String xid) {
+                assertThat(xid).isEqualTo(DEFAULT_XID);
+                return business;
+            }
+
+            @Override
+            public TransactionInfo getTransactionInfo() {
+                return txInfo;
+            }
+        };
+    }
+
     private TransactionHook testRollBackRules(Set<RollbackRule> rollbackRules, Throwable throwable) throws Throwable {
         TransactionHook transactionHook = Mockito.mock(TransactionHook.class);
         // mock  txInfo